@@ -0,0 +1,60 @@
+#!/bin/bash
+
+# AppCDS training run for the HMS Auth Service jar (invoked by mvn package -Pcds)
+#
+# Usage: scripts/cds-train.sh <app.jar> [output dir, default target/cds]
+#
+# Unpacks the fat jar into <output>, starts the application once with
+# -Dspring.context.exit=onRefresh (context refreshed, then exit - no traffic)
+# and dumps the loaded classes to <output>/hms-auth.jsa. CDS only archives
+# classes from the built-in class loaders, so the app runs from a flat
+# classpath of jars, not through the Spring Boot launcher; <output>/run.sh starts it
+# with the archive. The refresh runs Flyway and opens the DataSource, so the
+# database of the active profile (SPRING_PROFILES_ACTIVE, DB_*) must be up.
+# EXTRA_CLASSPATH (absolute paths) is appended, e.g. a JDBC driver for a local profile.
+
+set -euo pipefail
+
+JAR=$(realpath "$1")
+OUT=${2:-target/cds}
+MAIN_CLASS=com.hms.auth.HmsAuthServiceApplication
+
+rm -rf "$OUT"
+mkdir -p "$OUT/unpacked"
+(cd "$OUT/unpacked" && jar -xf "$JAR")
+cd "$OUT"
+
+# CDS needs jars on the classpath (no class directories): application.jar + lib/,
+# in the launcher's order from BOOT-INF/classpath.idx
+jar -cf application.jar -C unpacked/BOOT-INF/classes .
+mv unpacked/BOOT-INF/lib lib
+CLASSPATH="application.jar"
+while read -r entry; do
+    entry=${entry#- \"BOOT-INF/}
+    CLASSPATH="$CLASSPATH:${entry%\"}"
+done < <(grep '^- "' unpacked/BOOT-INF/classpath.idx)
+if [ -n "${EXTRA_CLASSPATH:-}" ]; then
+    CLASSPATH="$CLASSPATH:$EXTRA_CLASSPATH"
+fi
+echo "$CLASSPATH" > classpath
+
+# AOT-processed jars (-Paot / -Pcds) carry the generated context initializer
+JAVA_OPTS=""
+if [ -f "unpacked/BOOT-INF/classes/${MAIN_CLASS//.//}__ApplicationContextInitializer.class" ]; then
+    JAVA_OPTS="-Dspring.aot.enabled=true"
+fi
+rm -rf unpacked
+
+echo "🔥 CDS training run ($OUT/hms-auth.jsa)"
+java -XX:ArchiveClassesAtExit=hms-auth.jsa -Dspring.context.exit=onRefresh $JAVA_OPTS \
+     -cp "$CLASSPATH" "$MAIN_CLASS"
+
+cat > run.sh <<RUN
+#!/bin/bash
+# Start with the AppCDS archive; the classpath must match the training run
+cd "\$(dirname "\$0")"
+exec java -XX:SharedArchiveFile=hms-auth.jsa $JAVA_OPTS \$JAVA_OPTS -cp "\$(cat classpath)" $MAIN_CLASS "\$@"
+RUN
+chmod +x run.sh
+
+echo "✅ CDS archive: $(du -h hms-auth.jsa | cut -f1), start with $OUT/run.sh"
@@ -0,0 +1,93 @@
+#!/bin/bash
+
+# HMS Auth Service startup benchmark: time-to-ready and RSS per launch mode
+#
+# Usage: scripts/startup-benchmark.sh [runs per mode, default 3]
+#
+#   jar     java -jar target/*.jar
+#   aot     same jar with -Dspring.aot.enabled=true   (needs mvn package -Paot or -Pcds)
+#   cds     AOT + AppCDS archive via target/cds/run.sh  (needs mvn package -Pcds)
+#   native  target/hms-auth-service                     (needs mvn -Pnative native:compile)
+#
+# Modes whose artifact is missing are skipped. Time-to-ready is measured from
+# launch until /actuator/health/readiness answers 200; RSS is read from /proc
+# at that moment. Warm-up is disabled so only startup is measured. The
+# database of the active profile (SPRING_PROFILES_ACTIVE, DB_*) must be up;
+# EXTRA_CLASSPATH is appended to the JVM modes' classpath (e.g. a JDBC driver).
+
+set -uo pipefail
+
+RUNS=${1:-3}
+PORT=${PORT:-18080}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+TARGET=$(cd "$(dirname "$0")/../target" && pwd)
+JAR=$(ls "$TARGET"/*.jar 2>/dev/null | grep -v plain | head -1)
+APP_ARGS="--server.port=$PORT --auth.grpc.port=0 --auth.warmup.enabled=false"
+LAUNCHER=org.springframework.boot.loader.launch.JarLauncher
+EXTRA=${EXTRA_CLASSPATH:+:$EXTRA_CLASSPATH}
+
+command_for() {
+    case $1 in
+        jar)    echo "java -cp $JAR$EXTRA $LAUNCHER $APP_ARGS" ;;
+        aot)    echo "java -Dspring.aot.enabled=true -cp $JAR$EXTRA $LAUNCHER $APP_ARGS" ;;
+        cds)    echo "$TARGET/cds/run.sh $APP_ARGS" ;;
+        native) echo "$TARGET/hms-auth-service $APP_ARGS" ;;
+    esac
+}
+
+available() {
+    case $1 in
+        jar)    [ -n "$JAR" ] ;;
+        aot)    [ -n "$JAR" ] && unzip -l "$JAR" | grep -q "__ApplicationContextInitializer.class" ;;
+        cds)    [ -x "$TARGET/cds/run.sh" ] ;;
+        native) [ -x "$TARGET/hms-auth-service" ] ;;
+    esac
+}
+
+# Prints "<ms to ready> <rss MB>", or "failed"
+measure() {
+    local start pid ready_ms rss_kb
+    start=$(date +%s%N)
+    $(command_for "$1") > "$TARGET/startup-$1.log" 2>&1 &
+    pid=$!
+
+    while true; do
+        if curl -sf -o /dev/null "http://localhost:$PORT/actuator/health/readiness"; then
+            ready_ms=$(( ($(date +%s%N) - start) / 1000000 ))
+            rss_kb=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+            break
+        fi
+        if ! kill -0 "$pid" 2>/dev/null || [ $(( ($(date +%s%N) - start) / 1000000000 )) -ge "$TIMEOUT_SECONDS" ]; then
+            echo "failed"
+            kill "$pid" 2>/dev/null
+            wait "$pid" 2>/dev/null
+            return
+        fi
+        sleep 0.05
+    done
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null
+    echo "$ready_ms $(( rss_kb / 1024 ))"
+}
+
+echo "🔥 Startup benchmark ($RUNS runs per mode, median)"
+printf "%-8s %14s %10s\n" "mode" "ready (ms)" "RSS (MB)"
+
+for mode in jar aot cds native; do
+    if ! available "$mode"; then
+        printf "%-8s %14s %10s\n" "$mode" "skipped" "-"
+        continue
+    fi
+    results=()
+    for ((i = 0; i < RUNS; i++)); do
+        result=$(measure "$mode")
+        if [ "$result" = "failed" ]; then
+            echo "❌ $mode failed to become ready, see $TARGET/startup-$mode.log"
+            continue 2
+        fi
+        results+=("$result")
+    done
+    median=$(printf "%s\n" "${results[@]}" | sort -n | sed -n "$(( (RUNS + 1) / 2 ))p")
+    printf "%-8s %14s %10s\n" "$mode" "${median% *}" "${median#* }"
+done
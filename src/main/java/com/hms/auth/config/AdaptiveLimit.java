@@ -0,0 +1,114 @@
+package com.hms.auth.config;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * AIMD concurrency limit for one endpoint class.
+ *
+ * A request runs only while fewer than limit requests of the class are in flight. Every
+ * completion adjusts the limit: one slower than the latency threshold, or answered 503 further
+ * down, shrinks it by the backoff ratio (at most once per threshold interval, so a burst of slow
+ * completions counts as one signal); a fast one grows it by 1/limit - about +1 per limit's worth
+ * of completions - but only while at least half of the limit is in use.
+ *
+ * Published as auth.concurrency.limit, auth.concurrency.in_flight and auth.concurrency.rejected,
+ * tagged with the class.
+ */
+public final class AdaptiveLimit {
+
+    /**
+     * auth.concurrency-limit.&lt;class&gt; settings
+     */
+    public record Settings(@DefaultValue("20") int initialLimit,
+                           @DefaultValue("1") int minLimit,
+                           @DefaultValue("200") int maxLimit,
+                           @DefaultValue("500ms") Duration latencyThreshold,
+                           @DefaultValue("0.9") double backoffRatio) {
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long thresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+
+    // Guarded by this; the integer limit is republished for the lock-free acquire path
+    private double estimate;
+    private long lastDecrease;
+    private volatile int limit;
+
+    public AdaptiveLimit(String name, Settings settings, MeterRegistry meterRegistry) {
+        this.minLimit = Math.max(1, settings.minLimit());
+        this.maxLimit = Math.max(minLimit, settings.maxLimit());
+        this.thresholdNanos = settings.latencyThreshold().toNanos();
+        this.backoffRatio = settings.backoffRatio();
+        this.estimate = Math.max(minLimit, Math.min(maxLimit, settings.initialLimit()));
+        this.limit = (int) estimate;
+        this.lastDecrease = System.nanoTime() - thresholdNanos;
+
+        this.rejected = Counter.builder("auth.concurrency.rejected")
+            .description("Requests shed with 503 because the concurrency limit was reached")
+            .tag("class", name)
+            .register(meterRegistry);
+        Gauge.builder("auth.concurrency.limit", this, AdaptiveLimit::getLimit)
+            .description("Current adaptive concurrency limit")
+            .tag("class", name)
+            .register(meterRegistry);
+        Gauge.builder("auth.concurrency.in_flight", inFlight, AtomicInteger::get)
+            .description("Requests currently holding a concurrency permit")
+            .tag("class", name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Take a permit, or count a rejection and return false when the limit is reached
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Return a permit with the request's latency; overloaded when it was answered 503 downstream
+     */
+    public void release(long latencyNanos, boolean overloaded) {
+        int active = inFlight.getAndDecrement();
+        update(latencyNanos, overloaded, active, System.nanoTime());
+    }
+
+    synchronized void update(long latencyNanos, boolean overloaded, int active, long now) {
+        if (overloaded || latencyNanos > thresholdNanos) {
+            if (now - lastDecrease >= thresholdNanos) {
+                estimate = Math.max(minLimit, estimate * backoffRatio);
+                lastDecrease = now;
+            }
+        } else if (active * 2 >= estimate) {
+            estimate = Math.min(maxLimit, estimate + 1.0 / estimate);
+        }
+        limit = (int) estimate;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,66 @@
+package com.hms.auth.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executors for async work in UserService.
+ * userTaskExecutor runs blocking JDBC work: with spring.threads.virtual.enabled (Java 21)
+ * every task gets its own virtual thread, otherwise a bounded platform pool is used.
+ * passwordHashingExecutor runs BCrypt and is always a platform pool sized to the cores -
+ * hashing is CPU bound, more threads would only queue on the CPU.
+ */
+@Configuration
+@Slf4j
+public class AsyncConfig {
+
+    public static final String USER_TASK_EXECUTOR = "userTaskExecutor";
+    public static final String PASSWORD_HASHING_EXECUTOR = "passwordHashingExecutor";
+
+    @Bean(USER_TASK_EXECUTOR)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public AsyncTaskExecutor virtualUserTaskExecutor() {
+        log.info("User task executor: virtual threads");
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("user-vt-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    @Bean(USER_TASK_EXECUTOR)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public AsyncTaskExecutor platformUserTaskExecutor(
+            @Value("${auth.async.core-pool-size:8}") int corePoolSize,
+            @Value("${auth.async.max-pool-size:32}") int maxPoolSize,
+            @Value("${auth.async.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("user-task-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(PASSWORD_HASHING_EXECUTOR)
+    public AsyncTaskExecutor passwordHashingExecutor(
+            @Value("${auth.hashing.threads:0}") int threads,
+            @Value("${auth.hashing.queue-capacity:1000}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("bcrypt-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        // Full queue rejects (TaskRejectedException) instead of growing latency without bound
+        executor.setQueueCapacity(queueCapacity);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,94 @@
+package com.hms.auth.config;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hms.auth.config.ConcurrencyLimits.EndpointClass;
+import com.hms.auth.reactive.ConcurrencyLimitWebFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Overload protection for whichever web stack is running: the ConcurrencyLimits from
+ * auth.concurrency-limit shed ahead of the security chain, the PriorityAdmission from
+ * auth.admission queues requests by token role inside the JWT filters
+ */
+@Configuration
+@Slf4j
+public class ConcurrencyLimitConfig {
+
+    private static final String PREFIX = "auth.concurrency-limit";
+
+    @Bean
+    public ConcurrencyLimits concurrencyLimits(Environment environment, MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+        ConcurrencyLimits.Builder builder = ConcurrencyLimits.builder()
+            .enabled(binder.bind(PREFIX + ".enabled", Boolean.class).orElse(true))
+            .retryAfterSeconds(binder.bind(PREFIX + ".retry-after-seconds", Long.class).orElse(1L));
+
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String name = PREFIX + "." + endpointClass.key();
+            AdaptiveLimit.Settings settings = binder.bindOrCreate(name, AdaptiveLimit.Settings.class);
+            String[] paths = binder.bind(name + ".paths", Bindable.listOf(String.class))
+                .orElse(List.of())
+                .toArray(String[]::new);
+            builder.limit(endpointClass, new AdaptiveLimit(endpointClass.key(), settings, meterRegistry), paths);
+            log.info("Concurrency limit {}: {} on {} path patterns", endpointClass.key(), settings, paths.length);
+        }
+        return builder.build();
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ConcurrencyLimits limits,
+                                                                                ObjectMapper objectMapper) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+            new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limits, objectMapper));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public ConcurrencyLimitWebFilter concurrencyLimitWebFilter(ConcurrencyLimits limits, ObjectMapper objectMapper) {
+        return new ConcurrencyLimitWebFilter(limits, objectMapper);
+    }
+
+    @Bean
+    public PriorityAdmission priorityAdmission(Environment environment, MeterRegistry meterRegistry) {
+        PriorityAdmission.Settings settings = Binder.get(environment)
+            .bindOrCreate("auth.admission", PriorityAdmission.Settings.class);
+        if (!"reactive".equalsIgnoreCase(environment.getProperty("spring.main.web-application-type"))) {
+            settings = boundedByWorkers(settings, environment.getProperty("server.tomcat.threads.max", Integer.class, 200));
+        }
+        log.info("Priority admission: {}", settings);
+        return new PriorityAdmission(settings, meterRegistry);
+    }
+
+    /**
+     * The servlet filter parks a Tomcat worker per waiter. Admitted plus queued requests may take
+     * at most half of the workers, so the other half is always free for requests that have not
+     * reached admission yet: arriving doctors, logins and health checks.
+     */
+    static PriorityAdmission.Settings boundedByWorkers(PriorityAdmission.Settings settings, int maxThreads) {
+        int maxQueue = Math.max(0, maxThreads / 2 - settings.capacity());
+        if (settings.queueCapacity() <= maxQueue) {
+            return settings;
+        }
+        log.warn("auth.admission.queue-capacity {} lowered to {}: capacity {} plus waiters would park more than "
+                 + "half of the {} Tomcat workers", settings.queueCapacity(), maxQueue, settings.capacity(), maxThreads);
+        return new PriorityAdmission.Settings(settings.enabled(), settings.capacity(), maxQueue,
+                                              settings.queueMinWeight(), settings.maxWait(),
+                                              settings.retryAfterSeconds(), settings.weights());
+    }
+}
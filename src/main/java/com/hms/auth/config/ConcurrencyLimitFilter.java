@@ -0,0 +1,122 @@
+package com.hms.auth.config;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hms.auth.dto.ApiResponse;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Load shedding in front of the security chain: a request in a limited endpoint class runs only
+ * when its AdaptiveLimit grants a permit, otherwise it is answered 503 with Retry-After before
+ * any token verification, user lookup or BCrypt work is spent on it.
+ *
+ * Async requests (login / register on the hashing pool) keep their permit until the async
+ * dispatch completes, so the measured latency is the whole request.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final ConcurrencyLimits limits;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimits limits, ObjectMapper objectMapper) {
+        this.limits = limits;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        AdaptiveLimit limit = limits.limitFor(request.getMethod(), JwtAuthenticationFilter.requestPath(request));
+        if (limit == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!limit.tryAcquire()) {
+            writeRejection(response, objectMapper, limits.getRetryAfterSeconds());
+            return;
+        }
+
+        Permit permit = new Permit(limit, response);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(permit);
+            } else {
+                permit.release(false);
+            }
+        }
+    }
+
+    /**
+     * 503 with Retry-After and the usual ApiResponse error body (shared with JwtAuthenticationFilter)
+     */
+    static void writeRejection(HttpServletResponse response, ObjectMapper objectMapper, long retryAfterSeconds)
+            throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+            ApiResponse.error("Request rejected", "Server is busy, please retry"));
+    }
+
+    /**
+     * One permit, returned exactly once - a timed-out async request also completes
+     */
+    private static final class Permit implements AsyncListener {
+
+        private final AdaptiveLimit limit;
+        private final HttpServletResponse response;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(AdaptiveLimit limit, HttpServletResponse response) {
+            this.limit = limit;
+            this.response = response;
+        }
+
+        void release(boolean timedOut) {
+            if (released.compareAndSet(false, true)) {
+                boolean overloaded = timedOut || response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value();
+                limit.release(System.nanoTime() - start, overloaded);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(false);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Re-registered by the container on a nested startAsync; nothing to do
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.hms.auth.config;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Adaptive concurrency limits per endpoint class, built once from auth.concurrency-limit.
+ * Credential endpoints (BCrypt), token refresh and authenticated reads each get their own
+ * limit, so a login storm sheds logins instead of starving the cheap token-validated GETs.
+ * Paths outside every class, and non-GET requests on read paths, are not limited.
+ */
+public final class ConcurrencyLimits {
+
+    public enum EndpointClass {
+        CREDENTIALS,
+        REFRESH,
+        READS;
+
+        /**
+         * Configuration key and metric tag
+         */
+        public String key() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final boolean enabled;
+    private final long retryAfterSeconds;
+    private final PathTrie<EndpointClass> trie;
+    private final Map<EndpointClass, AdaptiveLimit> limits;
+
+    private ConcurrencyLimits(Builder builder) {
+        this.enabled = builder.enabled;
+        this.retryAfterSeconds = builder.retryAfterSeconds;
+        this.trie = builder.trie.build();
+        this.limits = new EnumMap<>(builder.limits);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Limit guarding the request, or null when it is not limited
+     */
+    public AdaptiveLimit limitFor(String method, String path) {
+        if (!enabled) {
+            return null;
+        }
+        EndpointClass endpointClass = trie.find(path);
+        if (endpointClass == null
+                || (endpointClass == EndpointClass.READS && !"GET".equals(method) && !"HEAD".equals(method))) {
+            return null;
+        }
+        return limits.get(endpointClass);
+    }
+
+    public AdaptiveLimit getLimit(EndpointClass endpointClass) {
+        return limits.get(endpointClass);
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public static final class Builder {
+
+        private boolean enabled = true;
+        private long retryAfterSeconds = 1;
+        private final PathTrie.Builder<EndpointClass> trie = PathTrie.builder();
+        private final Map<EndpointClass, AdaptiveLimit> limits = new EnumMap<>(EndpointClass.class);
+
+        private Builder() {
+        }
+
+        public Builder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public Builder retryAfterSeconds(long retryAfterSeconds) {
+            this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+            return this;
+        }
+
+        public Builder limit(EndpointClass endpointClass, AdaptiveLimit limit, String... patterns) {
+            limits.put(endpointClass, limit);
+            for (String pattern : patterns) {
+                trie.add(pattern, endpointClass);
+            }
+            return this;
+        }
+
+        public ConcurrencyLimits build() {
+            return new ConcurrencyLimits(this);
+        }
+    }
+}
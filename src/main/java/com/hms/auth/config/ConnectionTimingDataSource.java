@@ -0,0 +1,148 @@
+package com.hms.auth.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times pool checkouts per endpoint: auth.db.connection.wait is how long getConnection()
+ * blocked, auth.db.connection.hold how long the connection stayed out of the pool until
+ * close(). Both are tagged with the handler's URI pattern; lookups made by the JWT filter
+ * run before handler mapping and are tagged "filter", work outside a servlet request
+ * (schedulers, async executors, the reactive stack) "none".
+ *
+ * Hikari's own hikaricp.connections.acquire / usage give the same numbers for the whole pool.
+ */
+public class ConnectionTimingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    static final String FILTER = "filter";
+    static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    // uri pattern -> [wait, hold]; patterns are bounded by the handler mappings
+    private final Map<String, Timer[]> timers = new ConcurrentHashMap<>();
+
+    public ConnectionTimingDataSource(DataSource target, MeterRegistry meterRegistry) {
+        super(target);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        return timed(obtainTargetDataSource().getConnection(), start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        return timed(obtainTargetDataSource().getConnection(username, password), start);
+    }
+
+    /**
+     * The bean's inferred destroy method now resolves here, so the pool still shuts down
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable pool) {
+            pool.close();
+        }
+    }
+
+    private Connection timed(Connection target, long requestedAt) {
+        long acquiredAt = System.nanoTime();
+        Timer[] endpointTimers = timers.computeIfAbsent(currentEndpoint(), this::register);
+        endpointTimers[0].record(acquiredAt - requestedAt, TimeUnit.NANOSECONDS);
+
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+            new Class<?>[] {ConnectionProxy.class}, new HoldTimer(target, endpointTimers[1], acquiredAt));
+    }
+
+    private Timer[] register(String uri) {
+        return new Timer[] {
+            Timer.builder("auth.db.connection.wait")
+                .description("Time spent waiting for a pooled connection, per endpoint")
+                .tag("uri", uri)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry),
+            Timer.builder("auth.db.connection.hold")
+                .description("Time a pooled connection was held before being returned, per endpoint")
+                .tag("uri", uri)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+        };
+    }
+
+    /**
+     * URI pattern of the current servlet request, "filter" before handler mapping, "none" outside a request
+     */
+    static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return NONE;
+        }
+        Object pattern = attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                                                 RequestAttributes.SCOPE_REQUEST);
+        return pattern != null ? pattern.toString() : FILTER;
+    }
+
+    /**
+     * Forwards every call to the pooled connection and records the hold time on the first close()
+     */
+    private static final class HoldTimer implements InvocationHandler {
+
+        private final Connection target;
+        private final Timer holdTimer;
+        private final long acquiredAt;
+        private boolean closed;
+
+        HoldTimer(Connection target, Timer holdTimer, long acquiredAt) {
+            this.target = target;
+            this.holdTimer = holdTimer;
+            this.acquiredAt = acquiredAt;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getTargetConnection":
+                    return target;
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        holdTimer.record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+                    }
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
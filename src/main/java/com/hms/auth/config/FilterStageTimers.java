@@ -0,0 +1,131 @@
+package com.hms.auth.config;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Per-stage latency of JwtAuthenticationFilter, published as auth.filter.stage
+ * tagged by stage and by the outcome of the whole request.
+ *
+ * The outcome is only known at the end, so a sample keeps the stage durations
+ * and records them together on stop. Unsampled requests get a shared no-op
+ * sample: no clock reads, no allocation.
+ */
+@Component
+public class FilterStageTimers {
+
+    public enum Stage {
+        EXTRACTION,
+        VERIFICATION,
+        CLAIMS,
+        ADMISSION,
+        USER_LOOKUP,
+        CONTEXT,
+        TOTAL
+    }
+
+    public enum Outcome {
+        PUBLIC,
+        MISSING,
+        INVALID,
+        DISABLED,
+        OK,
+        SHED,
+        ERROR
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+    private static final Sample NOOP = new Sample(null);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double sampleRate;
+
+    // [stage][outcome], registered on first use
+    private final Timer[][] timers = new Timer[STAGES.length][Outcome.values().length];
+
+    public FilterStageTimers(MeterRegistry meterRegistry,
+                             @Value("${auth.filter-timing.enabled:true}") boolean enabled,
+                             @Value("${auth.filter-timing.sample-rate:1.0}") double sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.sampleRate = Math.max(0.0, Math.min(1.0, sampleRate));
+    }
+
+    /**
+     * Start timing a request, or return the no-op sample when this one is not sampled
+     */
+    public Sample start() {
+        if (!enabled || (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return NOOP;
+        }
+        return new Sample(this);
+    }
+
+    private Timer timer(Stage stage, Outcome outcome) {
+        Timer timer = timers[stage.ordinal()][outcome.ordinal()];
+        if (timer == null) {
+            // Racing registrations return the same meter
+            timer = Timer.builder("auth.filter.stage")
+                .description("JwtAuthenticationFilter latency per stage")
+                .tag("stage", stage.name().toLowerCase())
+                .tag("outcome", outcome.name().toLowerCase())
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+            timers[stage.ordinal()][outcome.ordinal()] = timer;
+        }
+        return timer;
+    }
+
+    /**
+     * Stage clock for one request; not thread-safe, it lives on the request thread
+     */
+    public static final class Sample {
+
+        private final FilterStageTimers owner;
+        private final long[] durations;
+        private final long start;
+        private long last;
+
+        private Sample(FilterStageTimers owner) {
+            this.owner = owner;
+            this.durations = owner == null ? null : new long[STAGES.length];
+            this.start = owner == null ? 0 : System.nanoTime();
+            this.last = start;
+        }
+
+        /**
+         * Close the stage that just finished: time since the previous mark (or the start)
+         */
+        public void mark(Stage stage) {
+            if (owner == null) {
+                return;
+            }
+            long now = System.nanoTime();
+            durations[stage.ordinal()] += now - last;
+            last = now;
+        }
+
+        /**
+         * Record every marked stage, and the total, under the request's outcome
+         */
+        public void stop(Outcome outcome) {
+            if (owner == null) {
+                return;
+            }
+            durations[Stage.TOTAL.ordinal()] = System.nanoTime() - start;
+            for (Stage stage : STAGES) {
+                long duration = durations[stage.ordinal()];
+                if (duration > 0) {
+                    owner.timer(stage, outcome).record(duration, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.hms.auth.config;
+
+import java.sql.Connection;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+import com.hms.auth.entity.User;
+import com.hms.auth.entity.UserRole;
+import com.hms.auth.service.JwtService;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background self-tests behind the jwt and authService health indicators.
+ *
+ * On a fixed delay it signs and verifies a synthetic access token and pings the
+ * database, then caches the outcome; the indicators only read the cache, so a
+ * probe costs nothing however often Kubernetes calls it. A result older than
+ * auth.health.stale-after-ms reports DOWN too, so a stuck self-test is not
+ * mistaken for a healthy one.
+ *
+ * Each check runs on its own daemon thread rather than Spring's shared scheduler:
+ * a database ping stuck on a connection, or a long refresh-token purge, cannot make
+ * the JWT result go stale.
+ */
+@Component
+@Slf4j
+public class HealthSelfTest {
+
+    private static final String SYNTHETIC_EMAIL = "health-check@hms.local";
+
+    private final JwtService jwtService;
+    private final DataSource dataSource;
+
+    private final Timer signTimer;
+    private final Timer verifyTimer;
+    private final Timer dbPingTimer;
+
+    @Value("${auth.health.jwt-slow-ms:250}")
+    private long jwtSlowMs = 250;
+
+    @Value("${auth.health.db-timeout-seconds:2}")
+    private int dbTimeoutSeconds = 2;
+
+    @Value("${auth.health.stale-after-ms:60000}")
+    private long staleAfterMs = 60000;
+
+    @Value("${auth.health.interval-ms:15000}")
+    private long intervalMs = 15000;
+
+    @Value("${auth.health.initial-delay-ms:0}")
+    private long initialDelayMs = 0;
+
+    private ScheduledExecutorService jwtScheduler;
+    private ScheduledExecutorService databaseScheduler;
+
+    private final User syntheticUser;
+
+    // The first round pays JJWT / JCA class loading, so its latency is reported but not judged
+    private boolean jwtWarmedUp;
+
+    private volatile Snapshot jwt = Snapshot.PENDING;
+    private volatile Snapshot database = Snapshot.PENDING;
+
+    public HealthSelfTest(JwtService jwtService, DataSource dataSource, MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.dataSource = dataSource;
+        this.signTimer = selfTestTimer("jwt_sign", meterRegistry);
+        this.verifyTimer = selfTestTimer("jwt_verify", meterRegistry);
+        this.dbPingTimer = selfTestTimer("db_ping", meterRegistry);
+
+        // Never persisted: only its id, email, role and version go into the token
+        this.syntheticUser = new User(SYNTHETIC_EMAIL, "", UserRole.PATIENT);
+        this.syntheticUser.setId(new UUID(0, 0));
+    }
+
+    private static Timer selfTestTimer(String check, MeterRegistry meterRegistry) {
+        return Timer.builder("auth.health.self_test")
+            .description("Latency of the background health self-tests")
+            .tag("check", check)
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        jwtScheduler = Executors.newSingleThreadScheduledExecutor(namedThread("health-jwt"));
+        databaseScheduler = Executors.newSingleThreadScheduledExecutor(namedThread("health-db"));
+        jwtScheduler.scheduleWithFixedDelay(() -> jwt = checkJwt(), initialDelayMs, intervalMs, TimeUnit.MILLISECONDS);
+        databaseScheduler.scheduleWithFixedDelay(() -> database = checkDatabase(), initialDelayMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (jwtScheduler != null) {
+            jwtScheduler.shutdownNow();
+            databaseScheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * One round of both checks on the calling thread
+     */
+    void run() {
+        jwt = checkJwt();
+        database = checkDatabase();
+    }
+
+    public Health jwtHealth() {
+        return jwt.toHealth(staleAfterMs);
+    }
+
+    public Health databaseHealth() {
+        return database.toHealth(staleAfterMs);
+    }
+
+    Snapshot checkJwt() {
+        try {
+            long start = System.nanoTime();
+            String token = jwtService.generateAccessToken(syntheticUser);
+            long signed = System.nanoTime();
+            Optional<Claims> claims = jwtService.verifyAccessToken(token);
+            long verified = System.nanoTime();
+
+            signTimer.record(signed - start, TimeUnit.NANOSECONDS);
+            verifyTimer.record(verified - signed, TimeUnit.NANOSECONDS);
+
+            long signMicros = (signed - start) / 1_000;
+            long verifyMicros = (verified - signed) / 1_000;
+            Health.Builder health;
+            if (claims.isEmpty() || !SYNTHETIC_EMAIL.equals(claims.get().getSubject())) {
+                health = Health.down().withDetail("error", "Synthetic token did not verify");
+            } else if (jwtWarmedUp && (verified - start) / 1_000_000 > jwtSlowMs) {
+                health = Health.down().withDetail("error", "Sign + verify slower than " + jwtSlowMs + " ms");
+            } else {
+                health = Health.up();
+            }
+            jwtWarmedUp = true;
+            return new Snapshot(health
+                .withDetail("signMicros", signMicros)
+                .withDetail("verifyMicros", verifyMicros));
+        } catch (Exception e) {
+            log.error("JWT self-test failed", e);
+            return new Snapshot(Health.down(e));
+        }
+    }
+
+    Snapshot checkDatabase() {
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean valid = connection.isValid(dbTimeoutSeconds);
+            long elapsed = System.nanoTime() - start;
+            dbPingTimer.record(elapsed, TimeUnit.NANOSECONDS);
+
+            Health.Builder health = valid
+                ? Health.up()
+                : Health.down().withDetail("error", "Connection not valid within " + dbTimeoutSeconds + " s");
+            return new Snapshot(health.withDetail("pingMicros", elapsed / 1_000));
+        } catch (Exception e) {
+            log.error("Database self-test failed", e);
+            return new Snapshot(Health.down(e));
+        }
+    }
+
+    private static ThreadFactory namedThread(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * One cached self-test outcome, built once and shared by every probe until the next run
+     */
+    record Snapshot(Health health, long checkedAtNanos) {
+
+        static final Snapshot PENDING = new Snapshot(Health.unknown().withDetail("status", "Self-test pending").build(), 0);
+
+        Snapshot(Health.Builder health) {
+            this(health.withDetail("checkedAt", Instant.now().toString()).build(), System.nanoTime());
+        }
+
+        Health toHealth(long staleAfterMs) {
+            if (this == PENDING || (System.nanoTime() - checkedAtNanos) / 1_000_000 <= staleAfterMs) {
+                return health;
+            }
+            return Health.down()
+                .withDetail("error", "Self-test result is stale")
+                .withDetail("checkedAt", health.getDetails().get("checkedAt"))
+                .build();
+        }
+    }
+}
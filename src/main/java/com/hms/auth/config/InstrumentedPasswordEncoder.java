@@ -0,0 +1,57 @@
+package com.hms.auth.config;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.hms.auth.jfr.PasswordHashEvent;
+import com.hms.auth.jfr.PasswordMatchEvent;
+
+/**
+ * PasswordEncoder decorator that emits PasswordHash / PasswordMatch JFR events.
+ * Costs a few nanoseconds when no recording is running.
+ */
+public class InstrumentedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final String encoderName;
+    private final int cost;
+
+    public InstrumentedPasswordEncoder(PasswordEncoder delegate, int cost) {
+        this.delegate = delegate;
+        this.encoderName = delegate.getClass().getSimpleName();
+        this.cost = cost;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        String encoded = delegate.encode(rawPassword);
+        event.end();
+        if (event.shouldCommit()) {
+            event.encoder = encoderName;
+            event.cost = cost;
+            event.commit();
+        }
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        PasswordMatchEvent event = new PasswordMatchEvent();
+        event.begin();
+        boolean matched = delegate.matches(rawPassword, encodedPassword);
+        event.end();
+        if (event.shouldCommit()) {
+            event.encoder = encoderName;
+            event.cost = cost;
+            event.matched = matched;
+            event.commit();
+        }
+        return matched;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
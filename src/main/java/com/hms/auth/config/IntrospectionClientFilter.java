@@ -0,0 +1,51 @@
+package com.hms.auth.config;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.hms.auth.service.IntrospectionClients;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Authenticates resource servers calling the introspection endpoints with HTTP Basic
+ * client credentials (RFC 7662 §2.1). A valid client gets ROLE_INTROSPECTION_CLIENT,
+ * which IntrospectionController requires; user tokens never carry it.
+ * Like the JWT filter it never rejects by itself - the authorization rules do that.
+ */
+public class IntrospectionClientFilter extends OncePerRequestFilter {
+
+    private static final List<SimpleGrantedAuthority> AUTHORITIES =
+        List.of(new SimpleGrantedAuthority("ROLE_" + IntrospectionClients.ROLE));
+
+    private final IntrospectionClients clients;
+
+    public IntrospectionClientFilter(IntrospectionClients clients) {
+        this.clients = clients;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            Optional<String> clientId = clients.authenticate(request.getHeader(HttpHeaders.AUTHORIZATION));
+            clientId.ifPresent(id -> SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(id, null, AUTHORITIES)));
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,26 @@
+package com.hms.auth.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * GET /actuator/jfrdump downloads a dump of the recording started at /actuator/jfr (admin only,
+ * see auth.routes). A separate endpoint because an endpoint has a single read operation per path.
+ */
+@Component
+@Endpoint(id = "jfrdump")
+public class JfrDumpEndpoint {
+
+    private final JfrRecordingEndpoint recordings;
+
+    public JfrDumpEndpoint(JfrRecordingEndpoint recordings) {
+        this.recordings = recordings;
+    }
+
+    @ReadOperation
+    public Resource dump() {
+        return recordings.dump();
+    }
+}
@@ -0,0 +1,183 @@
+package com.hms.auth.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.hms.auth.jfr.JwtSignEvent;
+import com.hms.auth.jfr.JwtVerifyEvent;
+import com.hms.auth.jfr.PasswordHashEvent;
+import com.hms.auth.jfr.PasswordMatchEvent;
+import com.hms.auth.jfr.UserLookupEvent;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * On-demand Flight Recorder control at /actuator/jfr (admin only, see auth.routes).
+ *
+ * POST starts a bounded recording (duration, size and age are capped by auth.jfr.*),
+ * GET reports its state and DELETE stops it; GET /actuator/jfrdump downloads a dump
+ * (JfrDumpEndpoint). Only one recording is kept; starting a new one discards the last.
+ *
+ * Recordings leave out the events that copy the process environment and command line
+ * (JWT_SECRET, database passwords), and dumps go to an owner-only directory under
+ * auth.data-dir rather than the shared tmp dir.
+ */
+@Component
+@Endpoint(id = "jfr")
+@Slf4j
+public class JfrRecordingEndpoint {
+
+    private static final List<Class<? extends jdk.jfr.Event>> AUTH_EVENTS = List.of(
+        JwtSignEvent.class, JwtVerifyEvent.class, PasswordHashEvent.class,
+        PasswordMatchEvent.class, UserLookupEvent.class);
+
+    // Environment variables, system properties and JVM/program arguments can carry secrets
+    static final List<String> SECRET_BEARING_EVENTS = List.of(
+        "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+
+    private static final String OWNER_ONLY_DIR = "rwx------";
+    private static final String OWNER_ONLY_FILE = "rw-------";
+
+    private final Duration maxDuration;
+    private final long maxSizeBytes;
+    private final Path dumpFile;
+
+    private Recording recording;
+
+    public JfrRecordingEndpoint(
+            @Value("${auth.jfr.max-duration-seconds:300}") long maxDurationSeconds,
+            @Value("${auth.jfr.max-size-mb:100}") long maxSizeMb,
+            @Value("${auth.jfr.dump-dir:${auth.data-dir:./data}/jfr}") String dumpDir) {
+        this.maxDuration = Duration.ofSeconds(maxDurationSeconds);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.dumpFile = Path.of(dumpDir, "hms-auth.jfr");
+
+        // Registered up front so the event types are listed before their first use
+        if (FlightRecorder.isAvailable()) {
+            AUTH_EVENTS.forEach(FlightRecorder::register);
+        }
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("available", FlightRecorder.isAvailable());
+        if (recording == null) {
+            status.put("state", "NONE");
+            return status;
+        }
+        status.put("state", recording.getState().name());
+        status.put("name", recording.getName());
+        status.put("startTime", recording.getStartTime());
+        status.put("duration", recording.getDuration());
+        status.put("maxSizeBytes", recording.getMaxSize());
+        status.put("sizeBytes", recording.getSize());
+        return status;
+    }
+
+    /**
+     * Start a recording; durationSeconds is capped at auth.jfr.max-duration-seconds,
+     * settings is a JDK configuration name ("default" ~1% overhead, "profile" ~2%)
+     */
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable Integer durationSeconds, @Nullable String settings) {
+        if (!FlightRecorder.isAvailable()) {
+            throw new IllegalStateException("Flight Recorder is not available in this JVM");
+        }
+
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings == null ? "default" : settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR settings: " + settings, e);
+        }
+
+        closeRecording();
+
+        Duration duration = durationSeconds == null || durationSeconds <= 0
+            ? maxDuration
+            : Duration.ofSeconds(Math.min(durationSeconds, maxDuration.getSeconds()));
+
+        Recording started = new Recording(configuration);
+        started.setName("hms-auth-on-demand");
+        started.setToDisk(true);
+        started.setDuration(duration);
+        started.setMaxSize(maxSizeBytes);
+        started.setMaxAge(maxDuration);
+        AUTH_EVENTS.forEach(event -> started.enable(event).withoutStackTrace());
+        SECRET_BEARING_EVENTS.forEach(started::disable);
+        started.start();
+        recording = started;
+
+        log.info("JFR recording started: settings={}, duration={}", configuration.getName(), duration);
+        return status();
+    }
+
+    /**
+     * Dump the current (or last, if finished) recording and return the file; served by JfrDumpEndpoint
+     */
+    synchronized Resource dump() {
+        if (recording == null || recording.getState() == RecordingState.NEW
+                || recording.getState() == RecordingState.CLOSED) {
+            throw new IllegalStateException("No JFR recording to dump - start one first");
+        }
+        try {
+            Path dir = dumpFile.toAbsolutePath().getParent();
+            boolean posix = dir.getFileSystem().supportedFileAttributeViews().contains("posix");
+            // Owner-only where supported: a dump holds stack traces, class names and timings
+            if (posix) {
+                Files.createDirectories(dir, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(OWNER_ONLY_DIR)));
+            } else {
+                Files.createDirectories(dir);
+            }
+            recording.dump(dumpFile);
+            if (posix) {
+                Files.setPosixFilePermissions(dumpFile, PosixFilePermissions.fromString(OWNER_ONLY_FILE));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot dump JFR recording", e);
+        }
+        log.info("JFR recording dumped to {}", dumpFile);
+        return new FileSystemResource(dumpFile);
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("JFR recording stopped");
+        }
+        return status();
+    }
+
+    @PreDestroy
+    public synchronized void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
@@ -1,9 +1,21 @@
 package com.hms.auth.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hms.auth.config.FilterStageTimers.Outcome;
+import com.hms.auth.config.FilterStageTimers.Stage;
+import com.hms.auth.dto.CurrentUser;
 import com.hms.auth.entity.User;
+import com.hms.auth.logging.LogFields;
+import com.hms.auth.logging.LogSampler;
 import com.hms.auth.service.JwtService;
+import com.hms.auth.service.NegativeCache;
+import com.hms.auth.service.TokenRevocationService;
+import com.hms.auth.service.TokenVersionCache;
 import com.hms.auth.service.UserService;
 
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,30 +23,51 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
+    // A disabled user's client keeps retrying with its still-valid token
+    private static final LogSampler DISABLED_USER_LOG = LogSampler.perSecond(5);
+
     private final JwtService jwtService;
     private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenVersionCache tokenVersionCache;
+    private final RouteTable routeTable;
+    private final NegativeCache negativeCache;
+    private final FilterStageTimers stageTimers;
+    private final PriorityAdmission admission;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public JwtAuthenticationFilter(JwtService jwtService, UserService userService) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserService userService,
+                                   TokenRevocationService tokenRevocationService,
+                                   TokenVersionCache tokenVersionCache,
+                                   RouteTable routeTable,
+                                   NegativeCache negativeCache,
+                                   FilterStageTimers stageTimers,
+                                   PriorityAdmission admission,
+                                   ObjectMapper objectMapper) {
         this.jwtService = jwtService;
         this.userService = userService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.tokenVersionCache = tokenVersionCache;
+        this.routeTable = routeTable;
+        this.negativeCache = negativeCache;
+        this.stageTimers = stageTimers;
+        this.admission = admission;
+        this.objectMapper = objectMapper;
     }
     
     @Override
@@ -43,79 +76,154 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain
     ) throws ServletException, IOException {
-        
+
+        FilterStageTimers.Sample sample = stageTimers.start();
+        Slot slot = new Slot(admission);
+        Outcome outcome = authenticate(request, response, sample, slot);
+        sample.stop(outcome);
+
+        // Shed by priority admission: the only outcome answered here
+        if (outcome == Outcome.SHED) {
+            ConcurrencyLimitFilter.writeRejection(response, objectMapper, admission.getRetryAfterSeconds());
+            return;
+        }
+
+        // 🔟 Continue the filter chain (not part of the timed stages), holding any admission slot
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (slot.held && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(slot);
+            } else {
+                slot.release();
+            }
+        }
+    }
+
+    /**
+     * Populate the security context when the request carries a usable token.
+     * Never rejects by itself - the authorization rules do that - unless priority
+     * admission sheds it (Outcome.SHED).
+     */
+    private Outcome authenticate(HttpServletRequest request, HttpServletResponse response,
+                                 FilterStageTimers.Sample sample, Slot slot) {
+
         // 1️⃣ Check if this is a public endpoint
-        if(isPublicEndpoint(request.getRequestURI())) {
+        if(routeTable.isPublic(requestPath(request))) {
             log.debug("Public endpoint accessed: {}", request.getRequestURI());
-            filterChain.doFilter(request, response);
-            return;
+            return Outcome.PUBLIC;
         }
 
         try {
             // 2️⃣ Extract token from request
             String token = extractTokenFromRequest(request);
-            
-            // 3️⃣ Validate token and set authentication
-            if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                
-                if (jwtService.validateAccessToken(token)) {
-                    // 4️⃣ Extract user information
-                    String email = jwtService.extractEmail(token);
-                    String role = jwtService.extractRole(token);
-                        
-                    // 5️⃣ Find user in database
-                    Optional<User> userOpt = userService.findByEmail(email);
-                    if (userOpt.isEmpty()) {
-                        log.debug("No user found with email: {}", email);
-                        filterChain.doFilter(request, response);
-                        return; // ✅ Continue without authentication
-                    }
-                    
-                    User user = userOpt.get();
-
-                    // 6️⃣ Check if user is enabled
-                    if (!user.getEnabled()) {
-                        log.warn("User account disabled: {}", email);
-                        filterChain.doFilter(request, response);
-                        return; // ✅ Continue without authentication
-                    }
-
-                    // 7️⃣ Create authorities
-                    List<GrantedAuthority> authorities = new ArrayList<>();
-                    authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
-
-                    // 8️⃣ Set user authentication in security context
-                    UsernamePasswordAuthenticationToken authToken = 
-                        new UsernamePasswordAuthenticationToken(
-                            user.getEmail(), null, authorities
-                        );
-
-                    authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                    );
-
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-
-                    // 9️⃣ Add user info to request attributes
-                    request.setAttribute("currentUser", user);
-                    request.setAttribute("currentUserId", user.getId());
-                    request.setAttribute("currentUserRole", user.getRole());
-                                
-                    log.debug("User authenticated: {} with role: {}", email, role);
-                } else {
-                    log.debug("Invalid JWT token");
-                }
-            } else if (token == null) {
+            sample.mark(Stage.EXTRACTION);
+
+            if (token == null) {
                 log.debug("No JWT token found in request");
+                return Outcome.MISSING;
+            }
+            if (SecurityContextHolder.getContext().getAuthentication() != null) {
+                return Outcome.OK;
+            }
+
+            // 3️⃣ Validate token and set authentication
+
+            // Revoked before expiry (logout) - cheap off-heap check, before signature verification
+            if (tokenRevocationService.isRevoked(token)) {
+                log.debug("Revoked JWT token");
+                return Outcome.INVALID;
+            }
+
+            // Failed verification a moment ago - it will fail again
+            if (negativeCache.isRejectedToken(token)) {
+                log.debug("Previously rejected JWT token");
+                return Outcome.INVALID;
+            }
+
+            // Single parse: signature, expiry and type checked, claims returned
+            Optional<Claims> claimsOpt = jwtService.verifyAccessToken(token);
+            sample.mark(Stage.VERIFICATION);
+
+            if (claimsOpt.isEmpty()) {
+                log.debug("Invalid JWT token");
+                negativeCache.rejectToken(token);
+                return Outcome.INVALID;
+            }
+
+            // 4️⃣ Extract user information
+            Claims claims = claimsOpt.get();
+            String email = claims.getSubject();
+            String role = claims.get("role", String.class);
+            int tokenVersion = jwtService.extractTokenVersion(claims);
+            String userId = claims.get("userId", String.class);
+            sample.mark(Stage.CLAIMS);
+
+            // Sessions revoked since this token was issued - no DB round trip needed. A token newer
+            // than the cached version (re-login after a revoke on another instance) goes to the DB check
+            Integer cachedVersion = tokenVersionCache.get(userId);
+            if (cachedVersion != null && tokenVersion < cachedVersion) {
+                log.atDebug().addKeyValue("user", LogFields.email(email)).log("Stale token version");
+                return Outcome.INVALID;
+            }
+
+            // 5️⃣ Find user in database, unless it was just found missing
+            if (negativeCache.isUnknownEmail(email)) {
+                log.atDebug().addKeyValue("user", LogFields.email(email)).log("User recently not found");
+                return Outcome.INVALID;
+            }
+
+            // Wait our turn by the token's role before the lookup takes a pooled connection
+            if (!slot.acquire(role)) {
+                log.atDebug().addKeyValue("user", LogFields.email(email)).addKeyValue("role", role).log("Shed by admission");
+                return Outcome.SHED;
             }
+            sample.mark(Stage.ADMISSION);
+
+            Optional<User> userOpt = userService.findByEmail(email);
+            sample.mark(Stage.USER_LOOKUP);
+
+            if (userOpt.isEmpty()) {
+                log.atDebug().addKeyValue("user", LogFields.email(email)).log("No user found");
+                negativeCache.unknownEmail(email);
+                return Outcome.INVALID; // ✅ Continue without authentication
+            }
+
+            User user = userOpt.get();
+
+            // 6️⃣ Check if user is enabled
+            if (!user.getEnabled()) {
+                logDisabledUser(email);
+                return Outcome.DISABLED; // ✅ Continue without authentication
+            }
+
+            // Token minted before the last password change / revoke-all
+            if (!userService.isTokenVersionCurrent(user, tokenVersion)) {
+                log.atDebug().addKeyValue("user", LogFields.email(email)).log("Revoked session token");
+                return Outcome.INVALID;
+            }
+
+            // 7️⃣ + 8️⃣ Immutable authentication with the shared authorities of the role
+            SecurityContextHolder.getContext().setAuthentication(UserAuthentication.of(user.getEmail(), role));
+
+            // 9️⃣ Add user info to request attributes
+            request.setAttribute("currentUser", CurrentUser.of(user));
+            request.setAttribute("currentUserId", user.getId());
+            request.setAttribute("currentUserRole", user.getRole());
+
+            // Token close to expiry: tell the client when to refresh, randomized per response
+            jwtService.refreshHintSeconds(claims).ifPresent(
+                seconds -> response.setHeader(JwtService.REFRESH_HINT_HEADER, Long.toString(seconds)));
+            sample.mark(Stage.CONTEXT);
+
+            log.atDebug().addKeyValue("user", LogFields.email(email)).addKeyValue("role", role).log("User authenticated");
+            return Outcome.OK;
 
         } catch (Exception ex) {
             log.error("Cannot set user authentication: ", ex);
             SecurityContextHolder.clearContext();
+            return Outcome.ERROR;
         }
-
-        // 🔟 Always continue the filter chain
-        filterChain.doFilter(request, response);
     }
 
     private String extractTokenFromRequest(HttpServletRequest request) {
@@ -126,22 +234,68 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private boolean isPublicEndpoint(String requestPath) {
-        String[] publicEndpoints = {
-            "/api/auth/v1/register",
-            "/api/auth/v1/login", 
-            "/api/auth/v1/refresh-token",
-            "/api/auth/v1/logout",
-            "/api/auth/v1/health",
-            "/error",
-            "/actuator"
-        };
-        
-        for (String endpoint : publicEndpoints) {
-            if (requestPath.startsWith(endpoint)) {
+    /**
+     * Decoded path within the application, as the container routes it (no context path)
+     */
+    static String requestPath(HttpServletRequest request) {
+        String pathInfo = request.getPathInfo();
+        return pathInfo == null ? request.getServletPath() : request.getServletPath() + pathInfo;
+    }
+
+    /**
+     * The request's admission slot, if it took one; returned exactly once, after an async dispatch completes
+     */
+    private static final class Slot implements AsyncListener {
+
+        private final PriorityAdmission admission;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private boolean held;
+
+        Slot(PriorityAdmission admission) {
+            this.admission = admission;
+        }
+
+        boolean acquire(String role) {
+            if (!admission.isEnabled()) {
                 return true;
             }
+            held = admission.await(admission.admit(admission.roleOf(role)));
+            return held;
+        }
+
+        void release() {
+            if (held && released.compareAndSet(false, true)) {
+                admission.release();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Re-registered by the container on a nested startAsync; nothing to do
+        }
+    }
+
+    private static void logDisabledUser(String email) {
+        if (log.isWarnEnabled() && DISABLED_USER_LOG.tryAcquire()) {
+            log.atWarn()
+                .addKeyValue("user", LogFields.email(email))
+                .addKeyValue("suppressed", DISABLED_USER_LOG.takeSuppressed())
+                .log("User account disabled");
         }
-        return false;
     }
 }
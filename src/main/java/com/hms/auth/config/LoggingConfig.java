@@ -0,0 +1,17 @@
+package com.hms.auth.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import com.hms.auth.logging.LogFields;
+
+/**
+ * Hands the email hashing salt to LogFields; appenders live in logback-spring.xml
+ */
+@Configuration
+public class LoggingConfig {
+
+    public LoggingConfig(@Value("${auth.logging.email-salt:}") String emailSalt) {
+        LogFields.setEmailSalt(emailSalt);
+    }
+}
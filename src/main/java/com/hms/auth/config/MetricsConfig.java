@@ -1,7 +1,12 @@
 package com.hms.auth.config;
 
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -67,4 +72,22 @@ public class MetricsConfig {
                 .tag("service", "auth")
                 .register(meterRegistry);
     }
+
+    /**
+     * Wraps the DataSource with per-endpoint pool wait / hold timers (auth.db-timing.enabled)
+     */
+    @Bean
+    public static BeanPostProcessor connectionTimingPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                  Environment environment) {
+        boolean enabled = environment.getProperty("auth.db-timing.enabled", Boolean.class, true);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof DataSource dataSource && !(bean instanceof ConnectionTimingDataSource)) {
+                    return new ConnectionTimingDataSource(dataSource, meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
 }
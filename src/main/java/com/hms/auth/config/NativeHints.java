@@ -0,0 +1,89 @@
+package com.hms.auth.config;
+
+import java.util.List;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import com.hms.auth.grpc.BatchValidateRequest;
+import com.hms.auth.grpc.BatchValidateResponse;
+import com.hms.auth.grpc.GetUserStatusRequest;
+import com.hms.auth.grpc.TokenStatus;
+import com.hms.auth.grpc.UserStatus;
+import com.hms.auth.grpc.ValidateTokenRequest;
+import com.hms.auth.jfr.JwtSignEvent;
+import com.hms.auth.jfr.JwtVerifyEvent;
+import com.hms.auth.jfr.PasswordHashEvent;
+import com.hms.auth.jfr.PasswordMatchEvent;
+import com.hms.auth.jfr.UserLookupEvent;
+
+/**
+ * Reflection and resource hints for the native image (and Spring AOT) that Spring cannot
+ * infer from the bean definitions. Hibernate entities and Flyway migrations are covered
+ * by Spring Boot's own AOT support; Flyway's internals by the GraalVM reachability
+ * metadata repository (enabled in the native profile).
+ */
+public class NativeHints implements RuntimeHintsRegistrar {
+
+    /**
+     * jjwt-api instantiates the implementation by name (io.jsonwebtoken.lang.Classes)
+     */
+    private static final List<String> JJWT_IMPL_CLASSES = List.of(
+        "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+        "io.jsonwebtoken.impl.DefaultJwtBuilder",
+        "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+        "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+        "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+        "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+        "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+        "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+        "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+        "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+        "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+        "io.jsonwebtoken.impl.security.JwksBridge",
+        "io.jsonwebtoken.impl.security.KeysBridge",
+        "io.jsonwebtoken.impl.security.StandardCurves",
+        "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+        "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+        "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+        "io.jsonwebtoken.impl.security.StandardKeyOperations",
+        "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+        // ServiceLoader-provided JSON support
+        "io.jsonwebtoken.jackson.io.JacksonSerializer",
+        "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    /**
+     * protobuf-java reaches generated accessors reflectively (FieldAccessorTable)
+     */
+    private static final List<Class<?>> PROTOBUF_MESSAGES = List.of(
+        ValidateTokenRequest.class, TokenStatus.class,
+        BatchValidateRequest.class, BatchValidateResponse.class,
+        GetUserStatusRequest.class, UserStatus.class);
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String className : JJWT_IMPL_CLASSES) {
+            hints.reflection().registerType(TypeReference.of(className),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+        hints.resources()
+            .registerPattern("META-INF/services/io.jsonwebtoken.io.Serializer")
+            .registerPattern("META-INF/services/io.jsonwebtoken.io.Deserializer")
+            .registerPattern("META-INF/services/io.jsonwebtoken.CompressionCodec");
+
+        for (Class<?> message : PROTOBUF_MESSAGES) {
+            hints.reflection().registerType(message, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.reflection().registerType(TypeReference.of(message.getName() + "$Builder"),
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        // Custom JFR events are registered with FlightRecorder by class (JfrRecordingEndpoint)
+        for (Class<?> event : List.of(JwtSignEvent.class, JwtVerifyEvent.class, PasswordHashEvent.class,
+                                      PasswordMatchEvent.class, UserLookupEvent.class)) {
+            hints.reflection().registerType(event, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.DECLARED_FIELDS);
+        }
+    }
+}
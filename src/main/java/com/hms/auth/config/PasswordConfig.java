@@ -1,5 +1,7 @@
 package com.hms.auth.config;
 
+import java.security.NoSuchAlgorithmException;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -7,9 +9,14 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class PasswordConfig {
+
+    private static final int BCRYPT_STRENGTH = 10;
     
     @Bean 
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder() throws NoSuchAlgorithmException {
+        // Salts from a DRBG per hashing thread: any single SecureRandom instance
+        // serializes nextBytes, so a shared one would queue every encode on one lock
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(BCRYPT_STRENGTH, new ThreadLocalSecureRandom());
+        return new InstrumentedPasswordEncoder(bcrypt, BCRYPT_STRENGTH);
     }
 }
@@ -0,0 +1,138 @@
+package com.hms.auth.config;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable character trie over request paths.
+ *
+ * Patterns are either exact ({@code /api/auth/v1/login}) or subtree
+ * ({@code /actuator/**}, which also matches {@code /actuator} itself).
+ * A lookup walks the path once, character by character, and returns the value
+ * of the most specific pattern: an exact match beats any subtree, a deeper
+ * subtree beats a shallower one. Subtrees only match on segment boundaries, so
+ * {@code /api/admin/**} does not match {@code /api/administrator}.
+ *
+ * Lookups do not allocate and are safe from any thread.
+ */
+public final class PathTrie<V> {
+
+    private static final String SUBTREE_SUFFIX = "/**";
+
+    private final Node<V> root;
+
+    private PathTrie(Node<V> root) {
+        this.root = root;
+    }
+
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Value of the most specific pattern matching the path, or null when none matches
+     */
+    public V find(String path) {
+        Node<V> node = root;
+        V best = null;
+
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == '/' && node.subtree != null) {
+                best = node.subtree;
+            }
+            node = node.child(c);
+            if (node == null) {
+                return best;
+            }
+        }
+
+        if (node.exact != null) {
+            return node.exact;
+        }
+        return node.subtree != null ? node.subtree : best;
+    }
+
+    public static final class Builder<V> {
+
+        private final BuildNode<V> root = new BuildNode<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Add a pattern; a pattern can only be added once
+         */
+        public Builder<V> add(String pattern, V value) {
+            if (pattern == null || !pattern.startsWith("/")) {
+                throw new IllegalArgumentException("Route pattern must start with '/': " + pattern);
+            }
+            boolean subtree = pattern.endsWith(SUBTREE_SUFFIX);
+            String prefix = subtree ? pattern.substring(0, pattern.length() - SUBTREE_SUFFIX.length()) : pattern;
+            if (prefix.contains("*")) {
+                throw new IllegalArgumentException("Only a trailing '/**' wildcard is supported: " + pattern);
+            }
+
+            BuildNode<V> node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), c -> new BuildNode<>());
+            }
+
+            if ((subtree ? node.subtree : node.exact) != null) {
+                throw new IllegalArgumentException("Duplicate route pattern: " + pattern);
+            }
+            if (subtree) {
+                node.subtree = value;
+            } else {
+                node.exact = value;
+            }
+            return this;
+        }
+
+        public PathTrie<V> build() {
+            return new PathTrie<>(root.freeze());
+        }
+    }
+
+    private static final class BuildNode<V> {
+        private final Map<Character, BuildNode<V>> children = new TreeMap<>();
+        private V exact;
+        private V subtree;
+
+        @SuppressWarnings("unchecked")
+        Node<V> freeze() {
+            char[] keys = new char[children.size()];
+            Node<V>[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, BuildNode<V>> entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                nodes[i++] = entry.getValue().freeze();
+            }
+            return new Node<>(keys, nodes, exact, subtree);
+        }
+    }
+
+    // Frozen node: sorted child keys, binary searched (fan-out is small)
+    private static final class Node<V> {
+        private final char[] keys;
+        private final Node<V>[] children;
+        private final V exact;
+        private final V subtree;
+
+        Node(char[] keys, Node<V>[] children, V exact, V subtree) {
+            this.keys = keys;
+            this.children = children;
+            this.exact = exact;
+            this.subtree = subtree;
+        }
+
+        Node<V> child(char c) {
+            if (keys.length == 1) {
+                return keys[0] == c ? children[0] : null;
+            }
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+}
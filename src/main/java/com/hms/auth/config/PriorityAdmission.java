@@ -0,0 +1,318 @@
+package com.hms.auth.config;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.hms.auth.entity.UserRole;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Role-priority admission for requests with a verified access token. The JWT filters admit on the
+ * token's role claim before the user lookup, so queued requests hold neither a pooled connection
+ * nor any work past signature verification.
+ *
+ * At most capacity requests run at once. The rest wait in one FIFO queue per role, and every
+ * freed slot goes to the next queue by smooth weighted round robin: with DOCTOR at 4 and PATIENT
+ * at 1, saturated doctors get four slots for each patient one and no non-empty queue starves.
+ * Roles weighted below queue-min-weight never queue: with no free slot they are shed right away,
+ * so a patient surge does not park request threads the doctors need. When all queue-capacity
+ * places are taken, the newest waiter of the lowest-weight role below the newcomer's is shed to
+ * make room; without one the newcomer itself is shed. Waiters still queued after max-wait are shed.
+ * A role claim that names no UserRole is admitted as the lowest-weight role.
+ *
+ * Published as auth.admission.active, auth.admission.queued{role}, auth.admission.wait{role}
+ * and auth.admission.shed{role,reason}; reason is at_capacity, queue_full or timeout.
+ */
+public final class PriorityAdmission {
+
+    /**
+     * auth.admission settings; roles missing from weights get 1
+     */
+    public record Settings(@DefaultValue("false") boolean enabled,
+                           @DefaultValue("32") int capacity,
+                           @DefaultValue("64") int queueCapacity,
+                           @DefaultValue("2") int queueMinWeight,
+                           @DefaultValue("2s") Duration maxWait,
+                           @DefaultValue("1") long retryAfterSeconds,
+                           Map<UserRole, Integer> weights) {
+    }
+
+    /**
+     * One request's place in line; admitted completes normally when it may run, exceptionally when shed
+     */
+    public static final class Ticket {
+
+        private final UserRole role;
+        private final long enqueuedAt = System.nanoTime();
+        private final CompletableFuture<Void> admitted = new CompletableFuture<>();
+
+        private Ticket(UserRole role) {
+            this.role = role;
+        }
+
+        public UserRole role() {
+            return role;
+        }
+
+        public CompletableFuture<Void> admitted() {
+            return admitted;
+        }
+    }
+
+    private static final UserRole[] ROLES = UserRole.values();
+    private static final RejectedExecutionException SHED = new RejectedExecutionException("Shed by priority admission");
+
+    private final boolean enabled;
+    private final int capacity;
+    private final int queueCapacity;
+    private final int queueMinWeight;
+    private final Duration maxWait;
+    private final long retryAfterSeconds;
+    private final int[] weights = new int[ROLES.length];
+    private final UserRole[] shedOrder;
+
+    // Guarded by this
+    private final Map<UserRole, ArrayDeque<Ticket>> queues = new EnumMap<>(UserRole.class);
+    private final int[] credit = new int[ROLES.length];
+    private int active;
+    private int queued;
+
+    private final Timer[] waitTimers = new Timer[ROLES.length];
+    private final Counter[] shedAtCapacity = new Counter[ROLES.length];
+    private final Counter[] shedFull = new Counter[ROLES.length];
+    private final Counter[] shedTimeout = new Counter[ROLES.length];
+
+    public PriorityAdmission(Settings settings, MeterRegistry meterRegistry) {
+        this.enabled = settings.enabled();
+        this.capacity = Math.max(1, settings.capacity());
+        this.queueCapacity = Math.max(0, settings.queueCapacity());
+        this.queueMinWeight = settings.queueMinWeight();
+        this.maxWait = settings.maxWait();
+        this.retryAfterSeconds = Math.max(1, settings.retryAfterSeconds());
+        for (UserRole role : ROLES) {
+            Integer weight = settings.weights() == null ? null : settings.weights().get(role);
+            weights[role.ordinal()] = weight == null ? 1 : Math.max(1, weight);
+            queues.put(role, new ArrayDeque<>());
+        }
+        this.shedOrder = Arrays.stream(ROLES)
+            .sorted(Comparator.comparingInt(role -> weights[role.ordinal()]))
+            .toArray(UserRole[]::new);
+
+        Gauge.builder("auth.admission.active", this, PriorityAdmission::getActive)
+            .description("Authenticated requests currently admitted")
+            .register(meterRegistry);
+        for (UserRole role : ROLES) {
+            String tag = role.name().toLowerCase();
+            Gauge.builder("auth.admission.queued", this, admission -> admission.getQueued(role))
+                .description("Requests waiting for admission")
+                .tag("role", tag)
+                .register(meterRegistry);
+            waitTimers[role.ordinal()] = Timer.builder("auth.admission.wait")
+                .description("Time from arrival to admission")
+                .tag("role", tag)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+            shedAtCapacity[role.ordinal()] = shedCounter(meterRegistry, tag, "at_capacity");
+            shedFull[role.ordinal()] = shedCounter(meterRegistry, tag, "queue_full");
+            shedTimeout[role.ordinal()] = shedCounter(meterRegistry, tag, "timeout");
+        }
+    }
+
+    private static Counter shedCounter(MeterRegistry meterRegistry, String role, String reason) {
+        return Counter.builder("auth.admission.shed")
+            .description("Requests rejected with 503 by priority admission")
+            .tag("role", role)
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+
+    /**
+     * The role a token's role claim is admitted as: the lowest-weight role when it names none
+     */
+    public UserRole roleOf(String roleClaim) {
+        for (UserRole role : ROLES) {
+            if (role.name().equals(roleClaim)) {
+                return role;
+            }
+        }
+        return shedOrder[0];
+    }
+
+    /**
+     * Admit now, queue, or shed; the returned ticket tells which once it completes
+     */
+    public Ticket admit(UserRole role) {
+        Ticket ticket = new Ticket(role);
+        Ticket victim = null;
+        Counter[] reason = shedFull;
+        synchronized (this) {
+            if (active < capacity) {
+                active++;
+                ticket.admitted.complete(null);
+                waitTimers[role.ordinal()].record(0, TimeUnit.NANOSECONDS);
+                return ticket;
+            }
+            if (weights[role.ordinal()] < queueMinWeight) {
+                victim = ticket;
+                reason = shedAtCapacity;
+            } else if (queued >= queueCapacity) {
+                victim = newestBelow(weights[role.ordinal()]);
+                if (victim == null) {
+                    victim = ticket;
+                } else {
+                    queued--;
+                }
+            }
+            if (victim != ticket) {
+                queues.get(role).addLast(ticket);
+                queued++;
+            }
+        }
+        if (victim != null) {
+            reason[victim.role.ordinal()].increment();
+            victim.admitted.completeExceptionally(SHED);
+        }
+        return ticket;
+    }
+
+    /**
+     * Block the request thread until the ticket is admitted: false when shed, timed out after
+     * max-wait or interrupted
+     */
+    public boolean await(Ticket ticket) {
+        try {
+            ticket.admitted.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            // Not in the queue any more: admitted or shed a moment ago, the outcome is about to land
+            return !cancel(ticket) && ticket.admitted.handle((ignored, shed) -> shed == null).join();
+        } catch (ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(ticket);
+            return false;
+        }
+    }
+
+    /**
+     * Return an admitted request's slot: it goes straight to the next waiter, if any
+     */
+    public void release() {
+        Ticket next;
+        synchronized (this) {
+            next = pollNext();
+            if (next == null) {
+                active--;
+            } else {
+                queued--;
+            }
+        }
+        if (next != null) {
+            waitTimers[next.role.ordinal()].record(System.nanoTime() - next.enqueuedAt, TimeUnit.NANOSECONDS);
+            next.admitted.complete(null);
+        }
+    }
+
+    /**
+     * Take a ticket out of its queue after max-wait; false when it was admitted or shed in the meantime
+     */
+    public boolean cancel(Ticket ticket) {
+        synchronized (this) {
+            if (!queues.get(ticket.role).removeFirstOccurrence(ticket)) {
+                return false;
+            }
+            queued--;
+        }
+        shedTimeout[ticket.role.ordinal()].increment();
+        ticket.admitted.completeExceptionally(SHED);
+        return true;
+    }
+
+    /**
+     * The caller went away: leave the queue, or give back the slot if it was just admitted
+     */
+    public void abandon(Ticket ticket) {
+        if (!cancel(ticket)) {
+            ticket.admitted.whenComplete((ignored, shed) -> {
+                if (shed == null) {
+                    release();
+                }
+            });
+        }
+    }
+
+    private Ticket pollNext() {
+        if (queued == 0) {
+            return null;
+        }
+        // Smooth weighted round robin over the non-empty queues
+        int total = 0;
+        UserRole best = null;
+        for (UserRole role : ROLES) {
+            if (queues.get(role).isEmpty()) {
+                continue;
+            }
+            credit[role.ordinal()] += weights[role.ordinal()];
+            total += weights[role.ordinal()];
+            if (best == null || credit[role.ordinal()] > credit[best.ordinal()]) {
+                best = role;
+            }
+        }
+        credit[best.ordinal()] -= total;
+        ArrayDeque<Ticket> queue = queues.get(best);
+        Ticket next = queue.pollFirst();
+        if (queue.isEmpty()) {
+            credit[best.ordinal()] = 0;   // no banked credit for a queue that drained
+        }
+        return next;
+    }
+
+    private Ticket newestBelow(int weight) {
+        for (UserRole role : shedOrder) {
+            if (weights[role.ordinal()] >= weight) {
+                return null;
+            }
+            Ticket newest = queues.get(role).pollLast();
+            if (newest != null) {
+                return newest;
+            }
+        }
+        return null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public synchronized int getActive() {
+        return active;
+    }
+
+    public synchronized int getQueued(UserRole role) {
+        return queues.get(role).size();
+    }
+}
@@ -0,0 +1,43 @@
+package com.hms.auth.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.hms.auth.entity.UserRole;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds the RouteTable from auth.routes - the one place route access is declared
+ */
+@Configuration
+@Slf4j
+public class RouteConfig {
+
+    @Bean
+    public RouteTable routeTable(Environment environment) {
+        Binder binder = Binder.get(environment);
+        RouteTable.Builder builder = RouteTable.builder()
+            .permitAll(patterns(binder, "auth.routes.public"))
+            .authenticated(patterns(binder, "auth.routes.authenticated"));
+
+        for (UserRole role : UserRole.values()) {
+            builder.hasRole(role, patterns(binder, "auth.routes.roles." + role.name().toLowerCase()));
+        }
+
+        RouteTable routeTable = builder.build();
+        log.info("Route table built with {} routes", routeTable.getRoutes().size());
+        return routeTable;
+    }
+
+    private static String[] patterns(Binder binder, String name) {
+        return binder.bind(name, Bindable.listOf(String.class))
+            .orElse(List.of())
+            .toArray(String[]::new);
+    }
+}
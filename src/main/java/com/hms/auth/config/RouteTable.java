@@ -0,0 +1,95 @@
+package com.hms.auth.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.hms.auth.entity.UserRole;
+
+/**
+ * Access rules for every route, built once from the auth.routes configuration.
+ * The servlet and reactive security chains authorize through it and the JWT
+ * filters use it to skip public endpoints, so there is a single list to maintain.
+ * Unlisted paths require authentication.
+ */
+public final class RouteTable {
+
+    public enum Access {
+        PUBLIC,
+        AUTHENTICATED,
+        ROLE
+    }
+
+    /**
+     * One configured pattern; role is set only for ROLE access
+     */
+    public record Route(String pattern, Access access, UserRole role) {
+    }
+
+    private static final Route DEFAULT_ROUTE = new Route("/**", Access.AUTHENTICATED, null);
+
+    private final List<Route> routes;
+    private final PathTrie<Route> trie;
+
+    private RouteTable(List<Route> routes) {
+        PathTrie.Builder<Route> builder = PathTrie.builder();
+        for (Route route : routes) {
+            builder.add(route.pattern(), route);
+        }
+        this.routes = Collections.unmodifiableList(new ArrayList<>(routes));
+        this.trie = builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Most specific route for the path (within the application, no query string)
+     */
+    public Route match(String path) {
+        Route route = trie.find(path);
+        return route != null ? route : DEFAULT_ROUTE;
+    }
+
+    public boolean isPublic(String path) {
+        return match(path).access() == Access.PUBLIC;
+    }
+
+    public List<Route> getRoutes() {
+        return routes;
+    }
+
+    public static final class Builder {
+
+        private final List<Route> routes = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder permitAll(String... patterns) {
+            for (String pattern : patterns) {
+                routes.add(new Route(pattern, Access.PUBLIC, null));
+            }
+            return this;
+        }
+
+        public Builder authenticated(String... patterns) {
+            for (String pattern : patterns) {
+                routes.add(new Route(pattern, Access.AUTHENTICATED, null));
+            }
+            return this;
+        }
+
+        public Builder hasRole(UserRole role, String... patterns) {
+            for (String pattern : patterns) {
+                routes.add(new Route(pattern, Access.ROLE, role));
+            }
+            return this;
+        }
+
+        public RouteTable build() {
+            return new RouteTable(routes);
+        }
+    }
+}
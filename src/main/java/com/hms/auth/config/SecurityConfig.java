@@ -1,32 +1,71 @@
 package com.hms.auth.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hms.auth.entity.UserRole;
+import com.hms.auth.service.IntrospectionClients;
 import com.hms.auth.service.JwtService;
+import com.hms.auth.service.NegativeCache;
+import com.hms.auth.service.TokenRevocationService;
+import com.hms.auth.service.TokenVersionCache;
 import com.hms.auth.service.UserService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true) // ✅ Enable @PreAuthorize annotations
 public class SecurityConfig {
 
     private final JwtService jwtService;
     private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenVersionCache tokenVersionCache;
+    private final RouteTable routeTable;
+    private final NegativeCache negativeCache;
+    private final FilterStageTimers stageTimers;
+    private final PriorityAdmission admission;
+    private final IntrospectionClients introspectionClients;
+    private final ObjectMapper objectMapper;
 
-    public SecurityConfig(JwtService jwtService, UserService userService) {
+    public SecurityConfig(JwtService jwtService, UserService userService,
+                          TokenRevocationService tokenRevocationService,
+                          TokenVersionCache tokenVersionCache,
+                          RouteTable routeTable,
+                          NegativeCache negativeCache,
+                          FilterStageTimers stageTimers,
+                          PriorityAdmission admission,
+                          IntrospectionClients introspectionClients,
+                          ObjectMapper objectMapper) {
         this.jwtService = jwtService;
         this.userService = userService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.tokenVersionCache = tokenVersionCache;
+        this.routeTable = routeTable;
+        this.negativeCache = negativeCache;
+        this.stageTimers = stageTimers;
+        this.admission = admission;
+        this.introspectionClients = introspectionClients;
+        this.objectMapper = objectMapper;
     }
 
     @Bean
@@ -43,37 +82,38 @@ public class SecurityConfig {
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             
-            // ✅ 4. Configure authorization rules
+            // ✅ 4. Configure authorization rules - one trie lookup per request (auth.routes)
             .authorizeHttpRequests(auth -> auth
-                // Allow all auth endpoints
-                .requestMatchers("/api/auth/v1/register").permitAll()
-                .requestMatchers("/api/auth/v1/login").permitAll() 
-                .requestMatchers("/api/auth/v1/refresh-token").permitAll()
-                .requestMatchers("/api/auth/v1/logout").permitAll()
-                .requestMatchers("/api/auth/v1/health").permitAll()
-                
-                // Allow error endpoints
-                .requestMatchers("/error").permitAll()
-                
-                // Allow actuator endpoints (if you have them)
-                .requestMatchers("/actuator/**").permitAll()
-
-                // 🛡️ Role-based protected endpoints
-                .requestMatchers("/api/admin/**").hasRole("ADMIN")
-                .requestMatchers("/api/doctor/**").hasRole("DOCTOR")
-                .requestMatchers("/api/patient/**").hasRole("PATIENT")
-                
-                // 🔒 Common authenticated endpoints
-                .requestMatchers("/api/profile/**").authenticated()
-                
-                // All other requests need authentication
-                .anyRequest().authenticated()
+                .anyRequest().access(routeAuthorizationManager())
             )
             // ✅ Add JWT filter BEFORE UsernamePasswordAuthenticationFilter
-            .addFilterBefore(new JwtAuthenticationFilter(jwtService, userService), UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(new JwtAuthenticationFilter(jwtService, userService, tokenRevocationService, tokenVersionCache, routeTable, negativeCache, stageTimers, admission, objectMapper), UsernamePasswordAuthenticationFilter.class)
+            // ✅ Resource servers calling introspection authenticate with client credentials
+            .addFilterBefore(new IntrospectionClientFilter(introspectionClients), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
+
+    /**
+     * Public routes are granted, role routes need ROLE_x, everything else needs authentication
+     */
+    private AuthorizationManager<RequestAuthorizationContext> routeAuthorizationManager() {
+        AuthorizationDecision granted = new AuthorizationDecision(true);
+        AuthorizationManager<RequestAuthorizationContext> authenticated = AuthenticatedAuthorizationManager.authenticated();
+        Map<UserRole, AuthorizationManager<RequestAuthorizationContext>> roles = new EnumMap<>(UserRole.class);
+        for (UserRole role : UserRole.values()) {
+            roles.put(role, AuthorityAuthorizationManager.hasRole(role.name()));
+        }
+
+        return (authentication, context) -> {
+            RouteTable.Route route = routeTable.match(JwtAuthenticationFilter.requestPath(context.getRequest()));
+            return switch (route.access()) {
+                case PUBLIC -> granted;
+                case AUTHENTICATED -> authenticated.check(authentication, context);
+                case ROLE -> roles.get(route.role()).check(authentication, context);
+            };
+        };
+    }
     
     // ✅ 5. Add CORS configuration
     @Bean
@@ -88,6 +128,9 @@ public class SecurityConfig {
         
         // Allow specific headers
         configuration.setAllowedHeaders(Arrays.asList("*"));
+
+        // Let browser clients read the proactive refresh hint
+        configuration.setExposedHeaders(Arrays.asList(JwtService.REFRESH_HINT_HEADER));
         
         // Allow credentials (important for cookies)
         configuration.setAllowCredentials(true);
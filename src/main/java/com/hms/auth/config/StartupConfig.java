@@ -0,0 +1,83 @@
+package com.hms.auth.config;
+
+import java.util.Arrays;
+
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationInfoService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+
+import com.hms.auth.controller.AuthController;
+import com.hms.auth.controller.IntrospectionController;
+import com.hms.auth.controller.ProfileController;
+import com.hms.auth.reactive.ReactiveAuthController;
+import com.hms.auth.reactive.ReactiveProfileController;
+import com.hms.auth.repository.RefreshTokenRepository;
+import com.hms.auth.repository.UserRepository;
+import com.hms.auth.service.JwtService;
+import com.hms.auth.service.NegativeCache;
+import com.hms.auth.service.RefreshTokenService;
+import com.hms.auth.service.TokenRevocationService;
+import com.hms.auth.service.TokenVersionCache;
+import com.hms.auth.service.UserService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Startup trimming for the lean profile (spring.main.lazy-initialization).
+ *
+ * The beans on the login / token verification path stay eager so the first request does not
+ * pay for JPA bootstrap, the revocation file mapping or the security chain; @Scheduled beans
+ * are kept eager by Spring Boot itself. Everything else (admin endpoints, actuator extras,
+ * gRPC helpers) is created on first use.
+ */
+@Configuration
+@Slf4j
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter hotPathBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+            LoggingConfig.class,
+            JwtService.class, UserService.class, RefreshTokenService.class,
+            TokenRevocationService.class, TokenVersionCache.class, NegativeCache.class,
+            PasswordEncoder.class, SecurityFilterChain.class,
+            UserRepository.class, RefreshTokenRepository.class, FlywayMigrationInitializer.class,
+            AuthController.class, ProfileController.class, IntrospectionController.class,
+            ReactiveAuthController.class, ReactiveProfileController.class,
+            HealthEndpoint.class);
+    }
+
+    /**
+     * Skips migrate (and with it the checksum validation of every script) when the schema
+     * history is already at the latest migration. Off by default; the lean profile enables it.
+     */
+    @Bean
+    FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${auth.startup.flyway-skip-when-current:false}") boolean skipWhenCurrent) {
+        return flyway -> {
+            if (skipWhenCurrent) {
+                MigrationInfoService info = flyway.info();
+                if (isCurrent(info)) {
+                    log.info("Schema is at version {}, skipping Flyway validation", info.current().getVersion());
+                    return;
+                }
+            }
+            flyway.migrate();
+        };
+    }
+
+    static boolean isCurrent(MigrationInfoService info) {
+        MigrationInfo current = info.current();
+        return current != null
+            && info.pending().length == 0
+            && Arrays.stream(info.all()).noneMatch(migration -> migration.getState().isFailed());
+    }
+}
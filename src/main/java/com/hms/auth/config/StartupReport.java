@@ -0,0 +1,79 @@
+package com.hms.auth.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Logs the slowest startup steps once the application is ready.
+ *
+ * Steps nest (context refresh > bean instantiation > dependencies), so they are ranked by self
+ * time: a step's duration minus that of its children. That points at the bean or phase that got
+ * slower instead of at the refresh that contains it. The full timeline stays available on
+ * /actuator/startup (admin only).
+ */
+@Component
+@Slf4j
+public class StartupReport {
+
+    @Value("${auth.startup.report-steps:10}")
+    private int reportSteps = 10;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report(ApplicationReadyEvent event) {
+        if (reportSteps <= 0
+                || !(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        List<TimelineEvent> events = startup.getBufferedTimeline().getEvents();
+        log.info("Ready in {} ms, slowest startup steps (self time):", event.getTimeTaken().toMillis());
+        for (StepTime step : slowestSteps(events, reportSteps)) {
+            log.info("  {} ms  {}", step.self().toMillis(), step.label());
+        }
+    }
+
+    static List<StepTime> slowestSteps(List<TimelineEvent> events, int limit) {
+        Map<Long, Duration> childTime = new HashMap<>();
+        for (TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                childTime.merge(parentId, event.getDuration(), Duration::plus);
+            }
+        }
+
+        List<StepTime> steps = new ArrayList<>(events.size());
+        for (TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            Duration self = event.getDuration().minus(childTime.getOrDefault(step.getId(), Duration.ZERO));
+            steps.add(new StepTime(label(step), self.isNegative() ? Duration.ZERO : self));
+        }
+        steps.sort(Comparator.comparing(StepTime::self).reversed());
+        return steps.subList(0, Math.min(limit, steps.size()));
+    }
+
+    private static String label(StartupStep step) {
+        StringBuilder label = new StringBuilder(step.getName());
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (tag.getKey().equals("beanName") || tag.getKey().equals("postProcessor")) {
+                label.append(' ').append(tag.getValue());
+            }
+        }
+        return label.toString();
+    }
+
+    record StepTime(String label, Duration self) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.hms.auth.config;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * SecureRandom that hands every thread its own DRBG instance.
+ *
+ * A shared SecureRandom serializes its callers: DRBG's nextBytes is synchronized
+ * on the instance, and non thread-safe providers are locked by SecureRandom itself.
+ * BCrypt draws a salt on every encode, so one shared instance puts all hashing
+ * threads behind a single monitor. Per-thread instances never contend.
+ *
+ * Meant for the fixed hashing pool: a thread-local per virtual thread would be
+ * seeded again for every task.
+ */
+public final class ThreadLocalSecureRandom extends SecureRandom {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String ALGORITHM = "DRBG";
+
+    private final transient ThreadLocal<SecureRandom> local = ThreadLocal.withInitial(ThreadLocalSecureRandom::newInstance);
+
+    public ThreadLocalSecureRandom() throws NoSuchAlgorithmException {
+        // Fail at startup rather than on the first salt if DRBG is unavailable
+        SecureRandom.getInstance(ALGORITHM);
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        local.get().nextBytes(bytes);
+    }
+
+    @Override
+    public byte[] generateSeed(int numBytes) {
+        return local.get().generateSeed(numBytes);
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return ALGORITHM;
+    }
+
+    private static SecureRandom newInstance() {
+        try {
+            return SecureRandom.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " not available", e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.hms.auth.config;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.hms.auth.entity.UserRole;
+
+/**
+ * Immutable Authentication for a JWT-authenticated user.
+ *
+ * Built by the JWT filters on every request, so it is kept to a single small
+ * object: the authority list is shared per role, there are no credentials and
+ * no request details (nothing reads them in a stateless API).
+ */
+public final class UserAuthentication implements Authentication {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Map<UserRole, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(UserRole.class);
+
+    static {
+        for (UserRole role : UserRole.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    private final String email;
+    private final List<GrantedAuthority> authorities;
+
+    private UserAuthentication(String email, List<GrantedAuthority> authorities) {
+        this.email = email;
+        this.authorities = authorities;
+    }
+
+    public static UserAuthentication of(String email, UserRole role) {
+        return new UserAuthentication(email, authorities(role));
+    }
+
+    /**
+     * From the role claim of a token; an unknown role authenticates without authorities
+     */
+    public static UserAuthentication of(String email, String roleClaim) {
+        return new UserAuthentication(email, authorities(parseRole(roleClaim)));
+    }
+
+    /**
+     * Shared, immutable authority list for a role
+     */
+    public static List<GrantedAuthority> authorities(UserRole role) {
+        return role == null ? List.of() : AUTHORITIES.get(role);
+    }
+
+    private static UserRole parseRole(String roleClaim) {
+        if (roleClaim == null) {
+            return null;
+        }
+        for (UserRole role : UserRole.values()) {
+            if (role.name().equals(roleClaim)) {
+                return role;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return email;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        if (!isAuthenticated) {
+            throw new IllegalArgumentException("UserAuthentication is immutable and always authenticated");
+        }
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof UserAuthentication that
+            && email.equals(that.email)
+            && authorities.equals(that.authorities);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(email, authorities);
+    }
+
+    @Override
+    public String toString() {
+        return "UserAuthentication[principal=" + email + ", authorities=" + authorities + "]";
+    }
+}
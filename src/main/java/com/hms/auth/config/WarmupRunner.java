@@ -0,0 +1,210 @@
+package com.hms.auth.config;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hms.auth.dto.ApiResponse;
+import com.hms.auth.dto.TokenResponse;
+import com.hms.auth.entity.User;
+import com.hms.auth.entity.UserRole;
+import com.hms.auth.service.JwtService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JIT warm-up before the pod takes traffic.
+ *
+ * Application runners complete before Spring Boot publishes ReadinessState.ACCEPTING_TRAFFIC,
+ * so for auth.warmup.duration-seconds the readiness probe keeps reporting OUT_OF_SERVICE while
+ * this loops over the hot paths with synthetic data: token sign + verify, ApiResponse /
+ * TokenResponse JSON round trips, a protected request through the local server and a
+ * bounded number of BCrypt matches.
+ *
+ * The synthetic user has no row, so the protected request runs the security chain, token
+ * verification and the user lookup (then the negative cache) and is rejected there with a
+ * 401/403; that rejection is the expected outcome. Warm-up never makes a user resolvable
+ * that the database does not hold.
+ *
+ * Progress is exported as auth.warmup.progress (0..1) and auth.warmup.iterations{step}.
+ * A failing step - including any other filter response - is logged once and dropped;
+ * warm-up never fails startup. auth.warmup.enabled
+ * is read at run time rather than as a bean condition, so AOT-built jars can still turn it off.
+ */
+@Component
+@Slf4j
+public class WarmupRunner implements ApplicationRunner {
+
+    enum Step {
+        TOKEN,
+        JSON,
+        FILTER,
+        PASSWORD
+    }
+
+    private static final String SYNTHETIC_EMAIL = "warmup@hms.local";
+    private static final String SYNTHETIC_PASSWORD = "Warmup-Password-1";
+    private static final TypeReference<ApiResponse<TokenResponse>> TOKEN_RESPONSE_TYPE = new TypeReference<>() { };
+
+    private final JwtService jwtService;
+    private final ObjectMapper objectMapper;
+    private final PasswordEncoder passwordEncoder;
+    private final Environment environment;
+
+    private final Map<Step, Counter> iterations = new EnumMap<>(Step.class);
+    private volatile double progress;
+
+    @Value("${auth.warmup.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${auth.warmup.duration-seconds:15}")
+    private long durationSeconds = 15;
+
+    @Value("${auth.warmup.password-matches:20}")
+    private int passwordMatches = 20;
+
+    @Value("${auth.warmup.filter-path:/api/profile}")
+    private String filterPath = "/api/profile";
+
+    public WarmupRunner(JwtService jwtService, ObjectMapper objectMapper, PasswordEncoder passwordEncoder,
+                        Environment environment, MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.objectMapper = objectMapper;
+        this.passwordEncoder = passwordEncoder;
+        this.environment = environment;
+
+        for (Step step : Step.values()) {
+            iterations.put(step, Counter.builder("auth.warmup.iterations")
+                .description("Warm-up iterations completed per step")
+                .tag("step", step.name().toLowerCase())
+                .register(meterRegistry));
+        }
+        Gauge.builder("auth.warmup.progress", this, runner -> runner.progress)
+            .description("Fraction of the startup warm-up completed")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        log.info("JIT warm-up started for {} s", durationSeconds);
+
+        User user = new User(SYNTHETIC_EMAIL, "", UserRole.PATIENT);
+        user.setId(UUID.randomUUID());
+        String passwordHash = passwordEncoder.encode(SYNTHETIC_PASSWORD);
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        URI filterUri = filterUri();
+
+        Map<Step, Boolean> active = new EnumMap<>(Step.class);
+        for (Step step : Step.values()) {
+            active.put(step, true);
+        }
+        active.put(Step.FILTER, filterUri != null);
+
+        loop(user, passwordHash, httpClient, filterUri, active);
+        progress = 1.0;
+
+        log.info("JIT warm-up finished: {} token, {} json, {} filter, {} password iterations",
+                 (long) iterations.get(Step.TOKEN).count(), (long) iterations.get(Step.JSON).count(),
+                 (long) iterations.get(Step.FILTER).count(), (long) iterations.get(Step.PASSWORD).count());
+    }
+
+    private void loop(User user, String passwordHash, HttpClient httpClient, URI filterUri, Map<Step, Boolean> active) {
+        long start = System.nanoTime();
+        long durationNanos = Duration.ofSeconds(durationSeconds).toNanos();
+        long elapsed;
+        int passwordRounds = 0;
+
+        String[] token = {"warmup"};
+
+        while ((elapsed = System.nanoTime() - start) < durationNanos) {
+            step(Step.TOKEN, active, () -> {
+                token[0] = jwtService.generateAccessToken(user);
+                if (jwtService.verifyAccessToken(token[0]).isEmpty()) {
+                    throw new IllegalStateException("Synthetic token did not verify");
+                }
+            });
+            step(Step.JSON, active, () -> {
+                TokenResponse.UserInfo userInfo = new TokenResponse.UserInfo(
+                    user.getId().toString(), user.getEmail(), user.getRole().name(), true);
+                ApiResponse<TokenResponse> response = ApiResponse.success("Login successful",
+                    new TokenResponse(token[0], "Bearer", jwtService.getAccessTokenExpiration(), userInfo));
+                objectMapper.readValue(objectMapper.writeValueAsString(response), TOKEN_RESPONSE_TYPE);
+            });
+            step(Step.FILTER, active, () -> {
+                int status = httpClient.send(
+                    HttpRequest.newBuilder(filterUri)
+                        .header("Authorization", "Bearer " + token[0])
+                        .timeout(Duration.ofSeconds(2))
+                        .GET()
+                        .build(),
+                    HttpResponse.BodyHandlers.discarding()).statusCode();
+                // The synthetic user is unknown, so the filter stops at the lookup and the request is rejected
+                if (status != 401 && status != 403) {
+                    throw new IllegalStateException(filterUri.getPath() + " answered HTTP " + status);
+                }
+            });
+            if (passwordRounds < passwordMatches) {
+                passwordRounds++;
+                step(Step.PASSWORD, active, () -> passwordEncoder.matches(SYNTHETIC_PASSWORD, passwordHash));
+            }
+
+            progress = Math.min(1.0, (double) elapsed / durationNanos);
+            if (!active.containsValue(true)) {
+                break;
+            }
+        }
+    }
+
+    double getProgress() {
+        return progress;
+    }
+
+    private void step(Step step, Map<Step, Boolean> active, WarmupAction action) {
+        if (!active.get(step)) {
+            return;
+        }
+        try {
+            action.run();
+            iterations.get(step).increment();
+        } catch (Exception e) {
+            log.warn("Warm-up step {} failed, skipping it: {}", step, e.getMessage());
+            active.put(step, false);
+        }
+    }
+
+    /**
+     * The local server, or null without one (mock web environment, server.port=-1)
+     */
+    private URI filterUri() {
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port == null || port <= 0) {
+            return null;
+        }
+        return URI.create("http://localhost:" + port + filterPath);
+    }
+
+    @FunctionalInterface
+    private interface WarmupAction {
+        void run() throws Exception;
+    }
+}
@@ -5,20 +5,25 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.hms.auth.dto.ApiResponse;
-import com.hms.auth.entity.User;
+import com.hms.auth.dto.CurrentUser;
+import com.hms.auth.entity.UserRole;
 import com.hms.auth.service.UserService;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/admin")
 @PreAuthorize("hasRole('ADMIN')") // ✅ Only ADMIN role can access
 @Slf4j
@@ -33,7 +38,7 @@ public class AdminController {
         
         try {
             // 🔍 Get current admin user from request attribute (set by JWT filter)
-            User currentAdmin = (User) request.getAttribute("currentUser");
+            CurrentUser currentAdmin = (CurrentUser) request.getAttribute("currentUser");
             
             if (currentAdmin == null) {
                 return ResponseEntity.badRequest().body(
@@ -50,13 +55,14 @@ public class AdminController {
             dashboardData.put("adminRole", currentAdmin.getRole().name());
             dashboardData.put("accessTime", LocalDateTime.now());
             
-            // 📈 System statistics
+            // 📈 System statistics (one grouped query)
+            UserService.UserCounts counts = userService.countUsers();
             dashboardData.put("systemStats", Map.of(
-                "totalUsers", userService.count(),
-                "totalAdmins", userService.countByRole("ADMIN"),
-                "totalDoctors", userService.countByRole("DOCTOR"),
-                "totalPatients", userService.countByRole("PATIENT"),
-                "activeUsers", userService.countActiveUsers()
+                "totalUsers", counts.total(),
+                "totalAdmins", counts.of(UserRole.ADMIN),
+                "totalDoctors", counts.of(UserRole.DOCTOR),
+                "totalPatients", counts.of(UserRole.PATIENT),
+                "activeUsers", counts.active()
             ));
             
             // 🛠️ Admin capabilities
@@ -96,4 +102,31 @@ public class AdminController {
             );
         }
     }
+
+    @PostMapping("/users/{email}/sessions/revoke")
+    public ResponseEntity<ApiResponse<Void>> revokeUserSessions(
+            @PathVariable String email,
+            HttpServletRequest request) {
+        
+        try {
+            CurrentUser currentAdmin = (CurrentUser) request.getAttribute("currentUser");
+            
+            userService.revokeAllSessions(email);
+            
+            log.info("All sessions of {} revoked by admin: {}", email,
+                    currentAdmin != null ? currentAdmin.getEmail() : "unknown");
+            
+            return ResponseEntity.ok(ApiResponse.success("All sessions revoked for " + email));
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("Failed to revoke sessions", e.getMessage())
+            );
+        } catch (Exception e) {
+            log.error("Error revoking user sessions: ", e);
+            return ResponseEntity.internalServerError().body(
+                ApiResponse.error("Failed to revoke sessions", null)
+            );
+        }
+    }
 }
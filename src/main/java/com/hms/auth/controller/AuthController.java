@@ -2,16 +2,20 @@ package com.hms.auth.controller;
 
 import java.util.Map;
 import java.util.HashMap;
-import java.util.Optional;
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 // ✅ Spring Boot utilities
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 
 // ✅ Metrics
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -24,11 +28,14 @@ import org.springframework.web.bind.annotation.RestController;
 import com.hms.auth.service.JwtService;
 import com.hms.auth.service.UserService;
 import com.hms.auth.service.CookieService;
+import com.hms.auth.service.RefreshTokenService;
+import com.hms.auth.service.TokenIssuer;
+import com.hms.auth.service.TokenRefreshService;
+import com.hms.auth.service.TokenRevocationService;
 import com.hms.auth.dto.ApiResponse;
 import com.hms.auth.dto.LoginRequest;
 import com.hms.auth.dto.RegisterRequest;
 import com.hms.auth.dto.TokenResponse;
-import com.hms.auth.entity.User;
 import com.hms.auth.entity.UserRole;
 
 import jakarta.servlet.http.HttpServletResponse;
@@ -36,12 +43,17 @@ import jakarta.validation.Valid;
 import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/auth/v1")
 public class AuthController {
     
    private UserService userService;
    private JwtService jwtService;
    private CookieService cookieService;
+   private RefreshTokenService refreshTokenService;
+   private TokenRevocationService tokenRevocationService;
+   private TokenIssuer tokenIssuer;
+   private TokenRefreshService tokenRefreshService;
    
    // Metrics beans
    @Autowired
@@ -60,10 +72,17 @@ public class AuthController {
    private Timer authenticationTimer;
 
    @Autowired
-   public AuthController(UserService userService, JwtService jwtService, CookieService cookieService) {
+   public AuthController(UserService userService, JwtService jwtService, CookieService cookieService,
+                         RefreshTokenService refreshTokenService,
+                         TokenRevocationService tokenRevocationService,
+                         TokenIssuer tokenIssuer, TokenRefreshService tokenRefreshService) {
        this.userService = userService;
        this.jwtService = jwtService;
        this.cookieService = cookieService;
+       this.refreshTokenService = refreshTokenService;
+       this.tokenRevocationService = tokenRevocationService;
+       this.tokenIssuer = tokenIssuer;
+       this.tokenRefreshService = tokenRefreshService;
    }
 
    @GetMapping("/health")
@@ -74,109 +93,96 @@ public class AuthController {
        return ResponseEntity.ok(ApiResponse.success("Service is healthy",healthData));
    }
 
+   /**
+    * Async: duplicate check and BCrypt run off the request thread, which goes back to
+    * the container while the password is hashed
+    */
    @PostMapping("/register")
-   public ResponseEntity<ApiResponse<TokenResponse>> register(
-    @Valid @RequestBody RegisterRequest registerRequest,
-    HttpServletResponse response
+   public CompletableFuture<ResponseEntity<ApiResponse<TokenResponse>>> register(
+    @Valid @RequestBody RegisterRequest registerRequest
    ){
       
-    try{
-        String roleString = registerRequest.getRole();
-        UserRole role;
-
-        try{
-            role = UserRole.valueOf(roleString.trim().toUpperCase());
-        }catch( IllegalArgumentException e){
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-            .body(ApiResponse.<TokenResponse> error("Invalid role "+ roleString, e.getMessage() ));
-        }
-
-        User user = userService.registerUser(registerRequest.getEmail(), registerRequest.getPassword(), role);
-
-        String accessToken = jwtService.generateAccessToken(user);
-        String refreshToken = jwtService.generateRefreshToken(user);
-        
-        // Track successful registration and token generation
-        userRegistrationCounter.increment();
-        jwtTokenCounter.increment(2); // access + refresh token
-
-        cookieService.createRefreshTokenCookie(response,refreshToken);
-
-        TokenResponse.UserInfo userInfo = new TokenResponse.UserInfo(
-            user.getId().toString(),
-            user.getEmail(),
-            user.getRole().name(),
-            user.getEnabled()
-        );
-
-        TokenResponse tokenResponse = new TokenResponse();
-        tokenResponse.setAccessToken(accessToken);
-        tokenResponse.setUser(userInfo);
-        tokenResponse.setExpiresIn(jwtService.getTokenExpiryTime(accessToken));
-
-        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.<TokenResponse> success("User registered successfully", tokenResponse));
+    String roleString = registerRequest.getRole();
+    UserRole role;
 
-    }catch(IllegalArgumentException e){
-    // Handle validation errors (email already exists, etc.)
-    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-        .body(ApiResponse.<TokenResponse>error("Registration failed", e.getMessage()));
-    }
-    catch(Exception e){
-       return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponse.<TokenResponse>error("Registration failed", e.getMessage()));
+    try{
+        role = UserRole.valueOf(roleString.trim().toUpperCase());
+    }catch( IllegalArgumentException e){
+        return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .body(ApiResponse.<TokenResponse> error("Invalid role "+ roleString, e.getMessage() )));
     }
+
+    return userService.registerUserAsync(registerRequest.getEmail(), registerRequest.getPassword(), role)
+        .thenApply(user -> {
+            TokenIssuer.IssuedTokens issued = tokenIssuer.issue(user);
+
+            // Track successful registration and token generation
+            userRegistrationCounter.increment();
+            jwtTokenCounter.increment(2); // access + refresh token
+
+            // Set-Cookie travels on the ResponseEntity: this runs on an executor thread,
+            // where the servlet response must not be touched
+            return ResponseEntity.status(HttpStatus.CREATED)
+                .header(HttpHeaders.SET_COOKIE, cookieService.refreshTokenCookie(issued.refreshToken()).toString())
+                .body(ApiResponse.<TokenResponse> success("User registered successfully", issued.response()));
+        })
+        .exceptionally(ex -> failure("Registration failed", ex));
    }
 
+   /**
+    * Async: user lookup and BCrypt compare run off the request thread, so a login wave
+    * does not hold Tomcat threads that cheap authenticated GETs need
+    */
    @PostMapping("/login")
-   public ResponseEntity<ApiResponse<TokenResponse>> login(
-    @Valid @RequestBody LoginRequest requestBody,
-    HttpServletResponse response
+   public CompletableFuture<ResponseEntity<ApiResponse<TokenResponse>>> login(
+    @Valid @RequestBody LoginRequest requestBody
    ) {
        Timer.Sample sample = Timer.start();
-       try {
-           Optional<User> userOpt = userService.authenticateUser(requestBody.getEmail(), requestBody.getPassword());
 
-           // ✅ Check if authentication was successful
-           if (userOpt.isEmpty()) {
+       return userService.authenticateUserAsync(requestBody.getEmail(), requestBody.getPassword())
+           .thenApply(userOpt -> {
+               // ✅ Check if authentication was successful
+               if (userOpt.isEmpty()) {
+                   loginFailureCounter.increment();
+                   return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                       .body(ApiResponse.<TokenResponse>error("Authentication failed", "Invalid email or password"));
+               }
+
+               TokenIssuer.IssuedTokens issued = tokenIssuer.issue(userOpt.get());
+
+               // Track successful operations
+               loginSuccessCounter.increment();
+               jwtTokenCounter.increment(2); // access + refresh token
+
+               return ResponseEntity.ok()
+                   .header(HttpHeaders.SET_COOKIE, cookieService.refreshTokenCookie(issued.refreshToken()).toString())
+                   .body(ApiResponse.success("Login successful", issued.response()));
+           })
+           .exceptionally(ex -> {
                loginFailureCounter.increment();
-               return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                   .body(ApiResponse.<TokenResponse>error("Authentication failed", "Invalid email or password"));
-           }
-        
-           User user = userOpt.get();
-
-           String accessToken = jwtService.generateAccessToken(user);
-           String refreshToken = jwtService.generateRefreshToken(user);
-           
-           // Track successful operations
-           loginSuccessCounter.increment();
-           jwtTokenCounter.increment(2); // access + refresh token
-
-           cookieService.createRefreshTokenCookie(response, refreshToken);
-
-           TokenResponse.UserInfo userInfo = new TokenResponse.UserInfo(
-               user.getId().toString(),
-               user.getEmail(),
-               user.getRole().name(),
-               user.getEnabled()
-           );
-
-           TokenResponse tokenResponse = new TokenResponse();
-           tokenResponse.setAccessToken(accessToken);
-           tokenResponse.setUser(userInfo);
-           tokenResponse.setExpiresIn(jwtService.getTokenExpiryTime(accessToken));
-
-           return ResponseEntity.ok(ApiResponse.success("Login successful", tokenResponse));
-       } catch (IllegalArgumentException e) {
-           loginFailureCounter.increment();
+               return failure("Login failed", ex);
+           })
+           .whenComplete((result, ex) -> sample.stop(authenticationTimer));
+   }
+
+   /**
+    * Map a failed async stage: validation errors are 400, a saturated hashing pool is 503
+    */
+   private static ResponseEntity<ApiResponse<TokenResponse>> failure(String message, Throwable ex) {
+       Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+
+       if (cause instanceof IllegalArgumentException) {
+           // Handle validation errors (email already exists, etc.)
            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-               .body(ApiResponse.error("Login failed", e.getMessage()));
-       } catch (Exception e) {
-           loginFailureCounter.increment();
-           return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-               .body(ApiResponse.error("Login failed", e.getMessage()));
-       } finally {
-           sample.stop(authenticationTimer);
+               .body(ApiResponse.<TokenResponse>error(message, cause.getMessage()));
        }
+       if (cause instanceof RejectedExecutionException) {
+           return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+               .header(HttpHeaders.RETRY_AFTER, "1")
+               .body(ApiResponse.<TokenResponse>error(message, "Server is busy, please retry"));
+       }
+       return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+           .body(ApiResponse.<TokenResponse>error(message, cause.getMessage()));
    }
 
    @PostMapping("/refresh-token")
@@ -194,48 +200,19 @@ public class AuthController {
                 .body(ApiResponse.<TokenResponse> error("Token refresh failed", "No refresh token found"));
         }
 
-        if(!jwtService.validateRefreshToken(refreshToken)){
+        // Coalesced: identical concurrent refreshes share one rotation and the same new tokens
+        TokenRefreshService.RefreshResult result = tokenRefreshService.refresh(refreshToken);
+        if (!result.isIssued()) {
             cookieService.clearRefreshTokenCookie(response);
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                .body(ApiResponse.<TokenResponse>error("Token refresh failed", "Invalid or expired refresh token"));
+                .body(ApiResponse.<TokenResponse>error("Token refresh failed", result.error()));
         }
 
-        String email = jwtService.extractEmail(refreshToken);
-        Optional<User> userOpt = userService.getUserByEmail(email);
+        TokenIssuer.IssuedTokens issued = result.tokens();
 
-        if (userOpt.isEmpty()) {
-            // Clear refresh token cookie if user not found
-            cookieService.clearRefreshTokenCookie(response);
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                .body(ApiResponse.<TokenResponse>error("Token refresh failed", "User not found"));
-        }
-
-        User user = userOpt.get();
-
-        if (!user.getEnabled()) {
-            cookieService.clearRefreshTokenCookie(response);
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                .body(ApiResponse.<TokenResponse>error("Token refresh failed", "User account is disabled"));
-        }
-
-        String newAccessToken = jwtService.generateAccessToken(user);
-        String newRefreshToken = jwtService.generateRefreshToken(user);
-
-        cookieService.createRefreshTokenCookie(response, newRefreshToken);
+        cookieService.createRefreshTokenCookie(response, issued.refreshToken());
 
-        TokenResponse.UserInfo userInfo = new TokenResponse.UserInfo(
-            user.getId().toString(),
-            user.getEmail(),
-            user.getRole().name(),
-            user.getEnabled()
-        );
-
-        TokenResponse tokenResponse = new TokenResponse();
-        tokenResponse.setAccessToken(newAccessToken);
-        tokenResponse.setUser(userInfo);
-        tokenResponse.setExpiresIn(jwtService.getTokenExpiryTime(newAccessToken));
-
-        return ResponseEntity.ok(ApiResponse.success("Token refresh successful", tokenResponse));
+        return ResponseEntity.ok(ApiResponse.success("Token refresh successful", issued.response()));
     } catch (Exception e) {
         cookieService.clearRefreshTokenCookie(response);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -245,10 +222,26 @@ public class AuthController {
 
    @PostMapping("/logout")
    public ResponseEntity<ApiResponse<Void>> logout(
+    HttpServletRequest request,
     HttpServletResponse response
    ){
     try{
 
+        // Revoke server-side so a copied cookie stops working too
+        String refreshToken = cookieService.getRefreshTokenFromCookies(request);
+        if (refreshToken != null && jwtService.validateRefreshToken(refreshToken)) {
+            refreshTokenService.revoke(refreshToken);
+        }
+
+        // Access tokens stay valid until expiry unless revoked explicitly
+        String authorization = request.getHeader("Authorization");
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            String accessToken = authorization.substring(7);
+            if (jwtService.validateAccessToken(accessToken)) {
+                tokenRevocationService.revoke(accessToken, jwtService.extractExpiration(accessToken).toInstant());
+            }
+        }
+
         cookieService.clearRefreshTokenCookie(response);
         return ResponseEntity.ok(ApiResponse.<Void> success("Logout successful"));
     }catch(Exception e){
@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,13 +13,15 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.hms.auth.dto.ApiResponse;
-import com.hms.auth.entity.User;
+import com.hms.auth.dto.CurrentUser;
+import com.hms.auth.entity.UserRole;
 import com.hms.auth.service.UserService;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/doctor")
 @PreAuthorize("hasRole('DOCTOR')") // ✅ Only DOCTOR role can access
 @Slf4j
@@ -33,7 +36,7 @@ public class DoctorController {
         
         try {
             // 🔍 Get current doctor user from request attribute (set by JWT filter)
-            User currentDoctor = (User) request.getAttribute("currentUser");
+            CurrentUser currentDoctor = (CurrentUser) request.getAttribute("currentUser");
             
             if (currentDoctor == null) {
                 return ResponseEntity.badRequest().body(
@@ -50,11 +53,12 @@ public class DoctorController {
             dashboardData.put("doctorRole", currentDoctor.getRole().name());
             dashboardData.put("accessTime", LocalDateTime.now());
             
-            // 📈 Medical statistics
+            // 📈 Medical statistics (one grouped query)
+            UserService.UserCounts counts = userService.countUsers();
             dashboardData.put("medicalStats", Map.of(
-                "totalPatients", userService.countByRole("PATIENT"),
-                "totalDoctors", userService.countByRole("DOCTOR"),
-                "activePatients", userService.countActiveUsers(), // Active users as proxy
+                "totalPatients", counts.of(UserRole.PATIENT),
+                "totalDoctors", counts.of(UserRole.DOCTOR),
+                "activePatients", counts.active(), // Active users as proxy
                 "newPatientsToday", 5, // Mock data
                 "appointmentsToday", 12 // Mock data
             ));
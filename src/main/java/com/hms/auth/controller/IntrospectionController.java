@@ -0,0 +1,94 @@
+package com.hms.auth.controller;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hms.auth.dto.ApiResponse;
+import com.hms.auth.dto.IntrospectionResponse;
+import com.hms.auth.service.BatchValidationService;
+import com.hms.auth.service.IntrospectionService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/auth/v1")
+@PreAuthorize("hasRole('INTROSPECTION_CLIENT')") // ✅ Resource servers only (RFC 7662 §2.1), see IntrospectionClients
+public class IntrospectionController {
+
+    private final IntrospectionService introspectionService;
+    private final BatchValidationService batchValidationService;
+    private final ObjectMapper objectMapper;
+
+    public IntrospectionController(IntrospectionService introspectionService,
+                                   BatchValidationService batchValidationService,
+                                   ObjectMapper objectMapper) {
+        this.introspectionService = introspectionService;
+        this.batchValidationService = batchValidationService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * RFC 7662 introspection: POST application/x-www-form-urlencoded with token=...
+     * Active results may be cached by gateways for the token's remaining lifetime.
+     */
+    @PostMapping(value = "/introspect", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<IntrospectionResponse> introspect(
+            @RequestParam("token") String token,
+            @RequestParam(value = "token_type_hint", required = false) String tokenTypeHint) {
+
+        IntrospectionResponse result = introspectionService.introspect(token);
+
+        long maxAge = introspectionService.remainingLifetime(result);
+        CacheControl cacheControl = maxAge > 0
+            ? CacheControl.maxAge(maxAge, TimeUnit.SECONDS)
+            : CacheControl.noStore();
+
+        return ResponseEntity.ok()
+            .cacheControl(cacheControl)
+            .body(result);
+    }
+
+    /**
+     * Batch validation for gateways: JSON array of tokens in, compact positional array out.
+     * Both bodies are streamed; see {@link BatchValidationService} for the wire format.
+     */
+    @PostMapping(value = "/introspect/batch",
+                 consumes = MediaType.APPLICATION_JSON_VALUE,
+                 produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> introspectBatch(HttpServletRequest request) throws IOException {
+        
+        List<String> tokens;
+        try {
+            tokens = batchValidationService.readTokens(request.getInputStream());
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            byte[] error = objectMapper.writeValueAsBytes(
+                ApiResponse.error("Batch validation failed", e.getMessage()));
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> out.write(error));
+        }
+
+        IntrospectionResponse[] results = batchValidationService.validate(tokens);
+
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(out -> batchValidationService.writeResults(results, out));
+    }
+}
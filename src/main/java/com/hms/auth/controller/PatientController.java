@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,13 +13,14 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.hms.auth.dto.ApiResponse;
-import com.hms.auth.entity.User;
+import com.hms.auth.dto.CurrentUser;
 import com.hms.auth.service.UserService;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/patient")
 @PreAuthorize("hasRole('PATIENT')") // ✅ Only PATIENT role can access
 @Slf4j
@@ -33,7 +35,7 @@ public class PatientController {
         
         try {
             // 🔍 Get current patient user from request attribute (set by JWT filter)
-            User currentPatient = (User) request.getAttribute("currentUser");
+            CurrentUser currentPatient = (CurrentUser) request.getAttribute("currentUser");
             
             if (currentPatient == null) {
                 return ResponseEntity.badRequest().body(
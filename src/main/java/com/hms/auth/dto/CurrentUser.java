@@ -0,0 +1,30 @@
+package com.hms.auth.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.hms.auth.entity.User;
+import com.hms.auth.entity.UserRole;
+
+import lombok.Value;
+
+/**
+ * Detached copy of the authenticated user, set as the currentUser request attribute by the
+ * JWT filters. With open-in-view off the entity would be detached anyway; controllers get
+ * plain values instead so nothing can reach back into the persistence context.
+ */
+@Value
+public class CurrentUser {
+
+    UUID id;
+    String email;
+    UserRole role;
+    Boolean enabled;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+
+    public static CurrentUser of(User user) {
+        return new CurrentUser(user.getId(), user.getEmail(), user.getRole(), user.getEnabled(),
+                               user.getCreatedAt(), user.getUpdatedAt());
+    }
+}
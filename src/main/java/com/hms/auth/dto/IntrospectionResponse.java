@@ -0,0 +1,33 @@
+package com.hms.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * RFC 7662 token introspection response.
+ * Inactive tokens carry only {"active": false}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IntrospectionResponse {
+
+    private boolean active;
+    private String sub;
+    private String userId;
+    private String role;
+
+    @JsonProperty("token_type")
+    private String tokenType;
+
+    private Long exp;  // epoch seconds
+
+    public static IntrospectionResponse inactive() {
+        return new IntrospectionResponse(false, null, null, null, null, null);
+    }
+}
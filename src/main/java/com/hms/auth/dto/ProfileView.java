@@ -0,0 +1,69 @@
+package com.hms.auth.dto;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Profile payload shared by the servlet and reactive profile endpoints
+ */
+public final class ProfileView {
+
+    private ProfileView() {
+    }
+
+    /**
+     * 🏗️ Build profile data based on user role
+     */
+    public static Map<String, Object> of(CurrentUser user) {
+        Map<String, Object> profile = new HashMap<>();
+        
+        // 🔐 Common profile information for all users
+        profile.put("userId", user.getId());
+        profile.put("email", user.getEmail());
+        profile.put("role", user.getRole().name());
+        profile.put("accountStatus", user.getEnabled() ? "ACTIVE" : "INACTIVE");
+        profile.put("createdAt", user.getCreatedAt());
+        profile.put("lastUpdated", user.getUpdatedAt());
+        profile.put("accessTime", LocalDateTime.now());
+        
+        // 🎭 Role-specific profile enhancements
+        switch (user.getRole()) {
+            case ADMIN:
+                profile.put("dashboardUrl", "/admin/dashboard");
+                profile.put("permissions", new String[]{"USER_MANAGEMENT", "SYSTEM_CONFIG", "REPORTS"});
+                profile.put("roleDescription", "System Administrator - Full Access");
+                profile.put("accessLevel", "FULL");
+                break;
+                
+            case DOCTOR:
+                profile.put("dashboardUrl", "/doctor/dashboard");
+                profile.put("permissions", new String[]{"PATIENT_VIEW", "CONSULTATION", "APPOINTMENT_MANAGE"});
+                profile.put("roleDescription", "Medical Doctor - Patient Care Access");
+                profile.put("accessLevel", "MEDICAL");
+                break;
+                
+            case PATIENT:
+                profile.put("dashboardUrl", "/patient/dashboard");
+                profile.put("permissions", new String[]{"APPOINTMENT_BOOK", "MEDICAL_HISTORY", "PROFILE_UPDATE"});
+                profile.put("roleDescription", "Patient - Personal Health Access");
+                profile.put("accessLevel", "PERSONAL");
+                break;
+                
+            default:
+                profile.put("dashboardUrl", "/");
+                profile.put("permissions", new String[]{"BASIC_ACCESS"});
+                profile.put("roleDescription", "Standard User");
+                profile.put("accessLevel", "BASIC");
+        }
+        
+        // 📈 Add session information
+        profile.put("sessionInfo", Map.of(
+            "loginTime", LocalDateTime.now(),
+            "ipAddress", "Dynamic", // Could extract from request if needed
+            "userAgent", "API_CLIENT"
+        ));
+        
+        return profile;
+    }
+}
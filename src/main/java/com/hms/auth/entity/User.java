@@ -42,6 +42,10 @@ public class User{
     @Column(nullable = false)
     private Boolean enabled = true;
 
+    // Embedded in every token; bumping it invalidates all outstanding tokens of this user
+    @Column(name = "token_version", nullable = false)
+    private Integer tokenVersion = 0;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -56,5 +60,6 @@ public class User{
         this.password = password;
         this.role = role;
         this.enabled = true;
+        this.tokenVersion = 0;
     }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.hms.auth.grpc;
+
+import com.hms.auth.service.IntrospectionClients;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+/**
+ * Requires the introspection client credentials on every network gRPC call:
+ * {@code authorization: Basic base64(client-id:secret)}, checked against auth.introspection.clients.
+ * Unauthenticated calls are closed with UNAUTHENTICATED before the service sees them.
+ */
+public class ClientAuthInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> AUTHORIZATION =
+        Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final IntrospectionClients clients;
+
+    public ClientAuthInterceptor(IntrospectionClients clients) {
+        this.clients = clients;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        if (clients.authenticate(headers.get(AUTHORIZATION)).isEmpty()) {
+            call.close(Status.UNAUTHENTICATED.withDescription("Client credentials required"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+        return next.startCall(call, headers);
+    }
+}
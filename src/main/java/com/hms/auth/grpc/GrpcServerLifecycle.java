@@ -0,0 +1,144 @@
+package com.hms.auth.grpc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.hms.auth.service.BatchValidationService;
+import com.hms.auth.service.IntrospectionClients;
+import com.hms.auth.service.IntrospectionService;
+import com.hms.auth.service.UserService;
+
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the gRPC token-check service on its own port and its own executor,
+ * so internal token checks never queue behind REST requests on the servlet pool.
+ * The same service is also published in-process for callers inside this JVM.
+ *
+ * Off unless auth.grpc.enabled is set. The network port serves plaintext and accepts
+ * only callers with introspection client credentials (ClientAuthInterceptor); the
+ * in-process server is reachable from this JVM only and is not intercepted.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.grpc.enabled", havingValue = "true")
+@Slf4j
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private final TokenCheckGrpcService service;
+    private final ClientAuthInterceptor clientAuth;
+
+    @Value("${auth.grpc.port:9090}")
+    private int port = 9090;
+
+    @Value("${auth.grpc.threads:0}")
+    private int threads = 0;
+
+    // blank = unique generated name (several application contexts in one JVM, e.g. tests)
+    @Value("${auth.grpc.in-process-name:hms-auth}")
+    private String inProcessName = "hms-auth";
+
+    @Value("${auth.grpc.shutdown-grace-seconds:5}")
+    private long shutdownGraceSeconds = 5;
+
+    private ExecutorService executor;
+    private Server server;
+    private Server inProcessServer;
+
+    public GrpcServerLifecycle(IntrospectionService introspectionService,
+                               BatchValidationService batchValidationService,
+                               UserService userService,
+                               IntrospectionClients introspectionClients) {
+        this.service = new TokenCheckGrpcService(introspectionService, batchValidationService, userService);
+        this.clientAuth = new ClientAuthInterceptor(introspectionClients);
+    }
+
+    @Override
+    public void start() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors() * 2;
+        if (inProcessName == null || inProcessName.isBlank()) {
+            inProcessName = InProcessServerBuilder.generateName();
+        }
+        executor = Executors.newFixedThreadPool(poolSize, namedThreads("grpc-auth-"));
+
+        try {
+            server = NettyServerBuilder.forPort(port)
+                .executor(executor)
+                .addService(ServerInterceptors.intercept(service, clientAuth))
+                .build()
+                .start();
+            inProcessServer = InProcessServerBuilder.forName(inProcessName)
+                .executor(executor)
+                .addService(service)
+                .build()
+                .start();
+        } catch (IOException e) {
+            executor.shutdownNow();
+            throw new UncheckedIOException("Failed to start gRPC token-check server on port " + port, e);
+        }
+
+        log.info("gRPC token-check service started on port {} ({} threads, in-process name '{}')",
+                 server.getPort(), poolSize, inProcessName);
+    }
+
+    @Override
+    public void stop() {
+        if (server == null) {
+            return;
+        }
+        server.shutdown();
+        inProcessServer.shutdown();
+        try {
+            if (!server.awaitTermination(shutdownGraceSeconds, TimeUnit.SECONDS)) {
+                server.shutdownNow();
+            }
+            inProcessServer.awaitTermination(shutdownGraceSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            server.shutdownNow();
+        } finally {
+            inProcessServer.shutdownNow();
+            executor.shutdownNow();
+            server = null;
+            log.info("gRPC token-check service stopped");
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null && !server.isShutdown();
+    }
+
+    /**
+     * Bound port (differs from the configured one when that is 0)
+     */
+    public int getPort() {
+        return server.getPort();
+    }
+
+    public String getInProcessName() {
+        return inProcessName;
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package com.hms.auth.grpc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import io.grpc.ClientInterceptor;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.stub.MetadataUtils;
+
+/**
+ * Thin blocking client for the token-check service.
+ * {@link #inProcess(String)} talks to the service inside the same JVM without
+ * serialization or sockets; {@link #forAddress(String, int, String, String)} is what other
+ * services use, with their introspection client credentials.
+ */
+public class TokenCheckClient implements AutoCloseable {
+
+    private static final long DEFAULT_DEADLINE_MS = 2000;
+
+    private final ManagedChannel channel;
+    private final TokenCheckServiceGrpc.TokenCheckServiceBlockingStub stub;
+    private final long deadlineMs;
+
+    private TokenCheckClient(ManagedChannel channel, long deadlineMs) {
+        this.channel = channel;
+        this.stub = TokenCheckServiceGrpc.newBlockingStub(channel);
+        this.deadlineMs = deadlineMs;
+    }
+
+    public static TokenCheckClient inProcess(String name) {
+        return new TokenCheckClient(InProcessChannelBuilder.forName(name).directExecutor().build(), DEFAULT_DEADLINE_MS);
+    }
+
+    public static TokenCheckClient inProcess(String name, String clientId, String clientSecret) {
+        return new TokenCheckClient(InProcessChannelBuilder.forName(name).directExecutor()
+            .intercept(credentials(clientId, clientSecret)).build(), DEFAULT_DEADLINE_MS);
+    }
+
+    public static TokenCheckClient forAddress(String host, int port, String clientId, String clientSecret) {
+        return new TokenCheckClient(NettyChannelBuilder.forAddress(host, port).usePlaintext()
+            .intercept(credentials(clientId, clientSecret)).build(), DEFAULT_DEADLINE_MS);
+    }
+
+    public TokenStatus validate(String token) {
+        return withDeadline().validateToken(ValidateTokenRequest.newBuilder().setToken(token).build());
+    }
+
+    public List<TokenStatus> validateAll(List<String> tokens) {
+        return withDeadline()
+            .batchValidate(BatchValidateRequest.newBuilder().addAllTokens(tokens).build())
+            .getResultsList();
+    }
+
+    public UserStatus userStatus(UUID userId) {
+        return withDeadline().getUserStatus(GetUserStatusRequest.newBuilder().setUserId(userId.toString()).build());
+    }
+
+    @Override
+    public void close() {
+        channel.shutdown();
+        try {
+            if (!channel.awaitTermination(5, TimeUnit.SECONDS)) {
+                channel.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            channel.shutdownNow();
+        }
+    }
+
+    private static ClientInterceptor credentials(String clientId, String clientSecret) {
+        Metadata headers = new Metadata();
+        headers.put(ClientAuthInterceptor.AUTHORIZATION, "Basic " + Base64.getEncoder()
+            .encodeToString((clientId + ":" + clientSecret).getBytes(StandardCharsets.UTF_8)));
+        return MetadataUtils.newAttachHeadersInterceptor(headers);
+    }
+
+    private TokenCheckServiceGrpc.TokenCheckServiceBlockingStub withDeadline() {
+        return stub.withDeadlineAfter(deadlineMs, TimeUnit.MILLISECONDS);
+    }
+}
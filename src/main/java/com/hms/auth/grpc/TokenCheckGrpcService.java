@@ -0,0 +1,98 @@
+package com.hms.auth.grpc;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.hms.auth.dto.IntrospectionResponse;
+import com.hms.auth.entity.User;
+import com.hms.auth.service.BatchValidationService;
+import com.hms.auth.service.IntrospectionService;
+import com.hms.auth.service.UserService;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * gRPC token checks for internal HMS services.
+ * Same verification path as the REST introspection endpoints (revocation set,
+ * result cache, token version), without the JSON and HTTP/1.1 overhead.
+ */
+@Slf4j
+public class TokenCheckGrpcService extends TokenCheckServiceGrpc.TokenCheckServiceImplBase {
+
+    private final IntrospectionService introspectionService;
+    private final BatchValidationService batchValidationService;
+    private final UserService userService;
+
+    public TokenCheckGrpcService(IntrospectionService introspectionService,
+                                 BatchValidationService batchValidationService,
+                                 UserService userService) {
+        this.introspectionService = introspectionService;
+        this.batchValidationService = batchValidationService;
+        this.userService = userService;
+    }
+
+    @Override
+    public void validateToken(ValidateTokenRequest request, StreamObserver<TokenStatus> responseObserver) {
+        responseObserver.onNext(toStatus(introspectionService.introspect(request.getToken())));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void batchValidate(BatchValidateRequest request, StreamObserver<BatchValidateResponse> responseObserver) {
+        if (request.getTokensCount() > batchValidationService.getMaxTokens()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                .withDescription("Batch exceeds the maximum of " + batchValidationService.getMaxTokens() + " tokens")
+                .asRuntimeException());
+            return;
+        }
+
+        IntrospectionResponse[] results = batchValidationService.validate(request.getTokensList());
+
+        BatchValidateResponse.Builder response = BatchValidateResponse.newBuilder();
+        for (IntrospectionResponse result : results) {
+            response.addResults(toStatus(result));
+        }
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void getUserStatus(GetUserStatusRequest request, StreamObserver<UserStatus> responseObserver) {
+        UUID userId;
+        try {
+            userId = UUID.fromString(request.getUserId());
+        } catch (IllegalArgumentException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                .withDescription("user_id must be a UUID")
+                .asRuntimeException());
+            return;
+        }
+
+        Optional<User> user = userService.findById(userId);
+        UserStatus status = user
+            .map(found -> UserStatus.newBuilder()
+                .setExists(true)
+                .setEnabled(found.getEnabled())
+                .setRole(found.getRole().name())
+                .setTokenVersion(found.getTokenVersion())
+                .build())
+            .orElse(UserStatus.getDefaultInstance());
+
+        responseObserver.onNext(status);
+        responseObserver.onCompleted();
+    }
+
+    private static TokenStatus toStatus(IntrospectionResponse response) {
+        if (!response.isActive()) {
+            return TokenStatus.getDefaultInstance();
+        }
+        return TokenStatus.newBuilder()
+            .setActive(true)
+            .setUserId(response.getUserId())
+            .setRole(response.getRole())
+            .setExp(response.getExp())
+            .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.hms.auth.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.hms.auth.JwtSign")
+@Label("JWT Sign")
+@Category({"HMS Auth", "JWT"})
+@Description("Building and signing one access or refresh token")
+@StackTrace(false)
+public class JwtSignEvent extends jdk.jfr.Event {
+
+    @Label("Token Type")
+    public String tokenType;
+
+    @Label("Algorithm")
+    public String algorithm;
+
+    @Label("Token Length")
+    public int tokenLength;
+}
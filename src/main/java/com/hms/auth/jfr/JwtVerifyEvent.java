@@ -0,0 +1,25 @@
+package com.hms.auth.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.hms.auth.JwtVerify")
+@Label("JWT Verify")
+@Category({"HMS Auth", "JWT"})
+@Description("Parsing and verifying one token: signature, expiry and type")
+@StackTrace(false)
+public class JwtVerifyEvent extends jdk.jfr.Event {
+
+    @Label("Expected Type")
+    public String expectedType;
+
+    @Label("Outcome")
+    @Description("ok, expired, wrong_type or invalid")
+    public String outcome;
+
+    @Label("Token Length")
+    public int tokenLength;
+}
@@ -0,0 +1,22 @@
+package com.hms.auth.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.hms.auth.PasswordHash")
+@Label("Password Hash")
+@Category({"HMS Auth", "Password"})
+@Description("Hashing a new password (registration, password change)")
+@StackTrace(false)
+public class PasswordHashEvent extends jdk.jfr.Event {
+
+    @Label("Encoder")
+    public String encoder;
+
+    @Label("Cost")
+    @Description("Work factor of the encoder, e.g. BCrypt log rounds")
+    public int cost;
+}
@@ -0,0 +1,25 @@
+package com.hms.auth.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.hms.auth.PasswordMatch")
+@Label("Password Match")
+@Category({"HMS Auth", "Password"})
+@Description("Checking a presented password against a stored hash (login)")
+@StackTrace(false)
+public class PasswordMatchEvent extends jdk.jfr.Event {
+
+    @Label("Encoder")
+    public String encoder;
+
+    @Label("Cost")
+    @Description("Work factor of the encoder, e.g. BCrypt log rounds")
+    public int cost;
+
+    @Label("Matched")
+    public boolean matched;
+}
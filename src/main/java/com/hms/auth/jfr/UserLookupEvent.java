@@ -0,0 +1,22 @@
+package com.hms.auth.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.hms.auth.UserLookup")
+@Label("User Lookup")
+@Category({"HMS Auth", "Database"})
+@Description("One UserRepository query; the key (email or id) is not recorded")
+@StackTrace(false)
+public class UserLookupEvent extends jdk.jfr.Event {
+
+    @Label("Query")
+    @Description("Repository method, e.g. findByEmail")
+    public String query;
+
+    @Label("Found")
+    public boolean found;
+}
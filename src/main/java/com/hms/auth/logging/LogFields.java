@@ -0,0 +1,58 @@
+package com.hms.auth.logging;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * PII-safe values for structured log fields ({@code log.atDebug().addKeyValue(...)}).
+ *
+ * Emails are logged as a salted SHA-256 prefix: stable across lines and instances
+ * sharing the salt, so one user's requests can still be correlated, but not
+ * reversible without the salt. The hash is computed lazily in toString, i.e.
+ * only when the line is actually written.
+ */
+public final class LogFields {
+
+    private static final int HASH_HEX_CHARS = 12;
+
+    private static volatile byte[] emailSalt = new byte[0];
+
+    private LogFields() {
+    }
+
+    /**
+     * Set once at startup from auth.logging.email-salt
+     */
+    public static void setEmailSalt(String salt) {
+        emailSalt = salt == null ? new byte[0] : salt.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static Object email(String email) {
+        return new HashedEmail(email);
+    }
+
+    static String hashEmail(String email) {
+        if (email == null) {
+            return "none";
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(emailSalt);
+            byte[] hash = digest.digest(email.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash).substring(0, HASH_HEX_CHARS);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record HashedEmail(String email) {
+
+        @Override
+        public String toString() {
+            return hashEmail(email);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.hms.auth.logging;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate limit for a log statement on a per-request path: at most N lines per second,
+ * the rest are counted and reported on the next line that gets through.
+ *
+ * <pre>
+ * if (INVALID_TOKEN_LOG.tryAcquire()) {
+ *     log.atWarn().addKeyValue("suppressed", INVALID_TOKEN_LOG.takeSuppressed()).log("Invalid JWT token");
+ * }
+ * </pre>
+ *
+ * Denied calls cost a clock read and two atomic operations, no formatting.
+ */
+public final class LogSampler {
+
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    private final int permitsPerSecond;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger permitsUsed = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    private LogSampler(int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public static LogSampler perSecond(int permitsPerSecond) {
+        if (permitsPerSecond < 1) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        return new LogSampler(permitsPerSecond);
+    }
+
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            permitsUsed.set(0);
+        }
+        if (permitsUsed.incrementAndGet() <= permitsPerSecond) {
+            return true;
+        }
+        suppressed.increment();
+        return false;
+    }
+
+    /**
+     * Lines dropped since the last call; meant for the line that got a permit
+     */
+    public long takeSuppressed() {
+        return suppressed.sumThenReset();
+    }
+}
@@ -0,0 +1,72 @@
+package com.hms.auth.reactive;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Bounded schedulers that keep blocking work off the event loop.
+ * JDBC is capped near the connection pool size, BCrypt near the core count;
+ * excess work queues (up to a limit) instead of spawning threads.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class AuthSchedulers {
+
+    private final Scheduler jdbc;
+    private final Scheduler hashing;
+
+    public AuthSchedulers(
+            @Value("${auth.reactive.jdbc-threads:10}") int jdbcThreads,
+            @Value("${auth.reactive.jdbc-queue:10000}") int jdbcQueue,
+            @Value("${auth.reactive.hashing-threads:0}") int hashingThreads,
+            @Value("${auth.reactive.hashing-queue:1000}") int hashingQueue) {
+        int hashingCap = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        this.jdbc = Schedulers.newBoundedElastic(jdbcThreads, jdbcQueue, "auth-jdbc");
+        this.hashing = Schedulers.newBoundedElastic(hashingCap, hashingQueue, "auth-hash");
+
+        log.info("Reactive schedulers: jdbc={} threads, hashing={} threads", jdbcThreads, hashingCap);
+    }
+
+    /**
+     * Repository calls and anything else holding a JDBC connection
+     */
+    public Scheduler jdbc() {
+        return jdbc;
+    }
+
+    /**
+     * Password hashing / matching (CPU bound)
+     */
+    public Scheduler hashing() {
+        return hashing;
+    }
+
+    /**
+     * The JDBC scheduler as an Executor, for the CompletableFuture flows in UserService
+     */
+    public Executor jdbcExecutor() {
+        return jdbc::schedule;
+    }
+
+    /**
+     * The hashing scheduler as an Executor; a full queue rejects with RejectedExecutionException
+     */
+    public Executor hashingExecutor() {
+        return hashing::schedule;
+    }
+
+    @PreDestroy
+    public void dispose() {
+        jdbc.dispose();
+        hashing.dispose();
+    }
+}
@@ -0,0 +1,75 @@
+package com.hms.auth.reactive;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hms.auth.config.AdaptiveLimit;
+import com.hms.auth.config.ConcurrencyLimits;
+import com.hms.auth.dto.ApiResponse;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of ConcurrencyLimitFilter: ordered ahead of the security WebFilterChainProxy,
+ * the permit is held until the exchange completes, errors or is cancelled.
+ */
+public class ConcurrencyLimitWebFilter implements WebFilter, Ordered {
+
+    // WebFilterChainProxy (Spring Security) runs at -100
+    static final int ORDER = -101;
+
+    private final ConcurrencyLimits limits;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitWebFilter(ConcurrencyLimits limits, ObjectMapper objectMapper) {
+        this.limits = limits;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        AdaptiveLimit limit = limits.limitFor(exchange.getRequest().getMethod().name(),
+                                              JwtAuthenticationWebFilter.requestPath(exchange));
+        if (limit == null) {
+            return chain.filter(exchange);
+        }
+        if (!limit.tryAcquire()) {
+            return writeRejection(exchange.getResponse(), objectMapper, limits.getRetryAfterSeconds());
+        }
+
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+            .doFinally(signal -> limit.release(System.nanoTime() - start,
+                exchange.getResponse().getStatusCode() == HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    /**
+     * 503 with Retry-After and the usual ApiResponse error body (shared with JwtAuthenticationWebFilter)
+     */
+    static Mono<Void> writeRejection(ServerHttpResponse response, ObjectMapper objectMapper, long retryAfterSeconds) {
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        try {
+            DataBuffer body = response.bufferFactory().wrap(objectMapper.writeValueAsBytes(
+                ApiResponse.error("Request rejected", "Server is busy, please retry")));
+            return response.writeWith(Mono.just(body));
+        } catch (JsonProcessingException e) {
+            return response.setComplete();
+        }
+    }
+}
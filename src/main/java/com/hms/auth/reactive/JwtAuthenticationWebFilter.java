@@ -0,0 +1,205 @@
+package com.hms.auth.reactive;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.UriUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hms.auth.config.PriorityAdmission;
+import com.hms.auth.config.RouteTable;
+import com.hms.auth.config.UserAuthentication;
+import com.hms.auth.dto.CurrentUser;
+import com.hms.auth.entity.User;
+import com.hms.auth.entity.UserRole;
+import com.hms.auth.logging.LogFields;
+import com.hms.auth.logging.LogSampler;
+import com.hms.auth.service.JwtService;
+import com.hms.auth.service.NegativeCache;
+import com.hms.auth.service.TokenRevocationService;
+import com.hms.auth.service.TokenVersionCache;
+import com.hms.auth.service.UserService;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive counterpart of JwtAuthenticationFilter.
+ * Token checks run on the event loop (in-memory only); the user lookup is
+ * offloaded to the JDBC scheduler, after priority admission on the token's
+ * role. Requests that fail a check continue unauthenticated and are rejected
+ * by the authorization rules; shed requests are answered 503 here.
+ */
+@Slf4j
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    // A disabled user's client keeps retrying with its still-valid token
+    private static final LogSampler DISABLED_USER_LOG = LogSampler.perSecond(5);
+
+    private final JwtService jwtService;
+    private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenVersionCache tokenVersionCache;
+    private final AuthSchedulers schedulers;
+    private final RouteTable routeTable;
+    private final NegativeCache negativeCache;
+    private final PriorityAdmission admission;
+    private final ObjectMapper objectMapper;
+
+    public JwtAuthenticationWebFilter(JwtService jwtService, UserService userService,
+                                      TokenRevocationService tokenRevocationService,
+                                      TokenVersionCache tokenVersionCache,
+                                      AuthSchedulers schedulers,
+                                      RouteTable routeTable,
+                                      NegativeCache negativeCache,
+                                      PriorityAdmission admission,
+                                      ObjectMapper objectMapper) {
+        this.jwtService = jwtService;
+        this.userService = userService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.tokenVersionCache = tokenVersionCache;
+        this.schedulers = schedulers;
+        this.routeTable = routeTable;
+        this.negativeCache = negativeCache;
+        this.admission = admission;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        // 1️⃣ Public endpoints skip token processing
+        if (routeTable.isPublic(requestPath(exchange))) {
+            return chain.filter(exchange);
+        }
+
+        // 2️⃣ Extract token
+        String token = extractToken(exchange);
+        if (token == null || tokenRevocationService.isRevoked(token) || negativeCache.isRejectedToken(token)) {
+            return chain.filter(exchange);
+        }
+
+        // 3️⃣ Single parse: signature, expiry and type
+        Optional<Claims> claimsOpt = jwtService.verifyAccessToken(token);
+        if (claimsOpt.isEmpty()) {
+            log.debug("Invalid JWT token");
+            negativeCache.rejectToken(token);
+            return chain.filter(exchange);
+        }
+
+        Claims claims = claimsOpt.get();
+        String email = claims.getSubject();
+        String role = claims.get("role", String.class);
+        int tokenVersion = jwtService.extractTokenVersion(claims);
+
+        // Only older tokens are rejected from the cache; a newer one means the entry is behind
+        Integer cachedVersion = tokenVersionCache.get(claims.get("userId", String.class));
+        if (cachedVersion != null && tokenVersion < cachedVersion) {
+            log.atDebug().addKeyValue("user", LogFields.email(email)).log("Stale token version");
+            return chain.filter(exchange);
+        }
+
+        if (negativeCache.isUnknownEmail(email)) {
+            return chain.filter(exchange);
+        }
+
+        // 4️⃣ User lookup off the event loop; the rest of the chain hops off the JDBC threads again
+        Mono<Void> authenticated = Mono.fromCallable(() -> findUser(email))
+            .subscribeOn(schedulers.jdbc())
+            .publishOn(Schedulers.parallel())
+            .onErrorResume(ex -> {
+                log.error("Cannot set user authentication: ", ex);
+                return Mono.just(Optional.empty());
+            })
+            .flatMap(userOpt -> {
+                if (userOpt.isEmpty() || !isAuthenticatable(userOpt.get(), tokenVersion)) {
+                    return chain.filter(exchange);
+                }
+
+                // 5️⃣ Same request attributes as the servlet filter
+                User user = userOpt.get();
+                exchange.getAttributes().put("currentUser", CurrentUser.of(user));
+                exchange.getAttributes().put("currentUserId", user.getId());
+                exchange.getAttributes().put("currentUserRole", user.getRole());
+                jwtService.refreshHintSeconds(claims).ifPresent(
+                    seconds -> exchange.getResponse().getHeaders().set(JwtService.REFRESH_HINT_HEADER, Long.toString(seconds)));
+
+                return chain.filter(exchange)
+                    .contextWrite(ReactiveSecurityContextHolder.withAuthentication(UserAuthentication.of(user.getEmail(), role)));
+            });
+
+        // Wait our turn by the token's role before the lookup takes a pooled connection
+        return admission.isEnabled() ? admitted(admission.roleOf(role), exchange, authenticated) : authenticated;
+    }
+
+    /**
+     * Run once admitted, without blocking, holding the slot until the exchange completes, errors
+     * or is cancelled; shed or still queued after max-wait gets 503 with Retry-After
+     */
+    private Mono<Void> admitted(UserRole role, ServerWebExchange exchange, Mono<Void> authenticated) {
+        return Mono.defer(() -> {
+            PriorityAdmission.Ticket ticket = admission.admit(role);
+            return isAdmitted(ticket)
+                // Not in the queue any more: admitted or shed a moment ago, the outcome is about to land
+                .timeout(admission.getMaxWait(),
+                         Mono.defer(() -> admission.cancel(ticket) ? Mono.just(false) : isAdmitted(ticket)))
+                .doOnCancel(() -> admission.abandon(ticket))
+                .flatMap(admitted -> admitted
+                    ? authenticated.doFinally(signal -> admission.release())
+                    : ConcurrencyLimitWebFilter.writeRejection(exchange.getResponse(), objectMapper,
+                                                               admission.getRetryAfterSeconds()));
+        });
+    }
+
+    // A view that never fails: cancelling it on timeout leaves the ticket and drops no shed error
+    private static Mono<Boolean> isAdmitted(PriorityAdmission.Ticket ticket) {
+        return Mono.fromFuture(ticket.admitted().handle((ignored, shed) -> shed == null));
+    }
+
+    // Only a completed lookup marks the email unknown - a failed one must not
+    private Optional<User> findUser(String email) {
+        Optional<User> userOpt = userService.findByEmail(email);
+        if (userOpt.isEmpty()) {
+            negativeCache.unknownEmail(email);
+        }
+        return userOpt;
+    }
+
+    private boolean isAuthenticatable(User user, int tokenVersion) {
+        if (!user.getEnabled()) {
+            logDisabledUser(user.getEmail());
+            return false;
+        }
+        return userService.isTokenVersionCurrent(user, tokenVersion);
+    }
+
+    private String extractToken(ServerWebExchange exchange) {
+        String bearerToken = exchange.getRequest().getHeaders().getFirst("Authorization");
+        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+
+    /**
+     * Decoded path within the application (no context path), as the handler mapping sees it
+     */
+    static String requestPath(ServerWebExchange exchange) {
+        String path = exchange.getRequest().getPath().pathWithinApplication().value();
+        return path.indexOf('%') < 0 ? path : UriUtils.decode(path, StandardCharsets.UTF_8);
+    }
+
+    private static void logDisabledUser(String email) {
+        if (log.isWarnEnabled() && DISABLED_USER_LOG.tryAcquire()) {
+            log.atWarn()
+                .addKeyValue("user", LogFields.email(email))
+                .addKeyValue("suppressed", DISABLED_USER_LOG.takeSuppressed())
+                .log("User account disabled");
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.hms.auth.reactive;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.hms.auth.dto.ApiResponse;
+import com.hms.auth.dto.LoginRequest;
+import com.hms.auth.dto.RegisterRequest;
+import com.hms.auth.dto.TokenResponse;
+import com.hms.auth.entity.UserRole;
+import com.hms.auth.service.CookieService;
+import com.hms.auth.service.JwtService;
+import com.hms.auth.service.RefreshTokenService;
+import com.hms.auth.service.TokenIssuer;
+import com.hms.auth.service.TokenRefreshService;
+import com.hms.auth.service.TokenRevocationService;
+import com.hms.auth.service.UserService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive register / login / refresh / logout. Same flow and responses as AuthController;
+ * BCrypt runs on the hashing scheduler and repository calls on the JDBC scheduler.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/auth/v1")
+@Slf4j
+public class ReactiveAuthController {
+
+    private final UserService userService;
+    private final JwtService jwtService;
+    private final CookieService cookieService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenIssuer tokenIssuer;
+    private final TokenRefreshService tokenRefreshService;
+    private final AuthSchedulers schedulers;
+
+    // Metrics beans
+    @Autowired
+    private Counter loginSuccessCounter;
+
+    @Autowired
+    private Counter loginFailureCounter;
+
+    @Autowired
+    private Counter jwtTokenCounter;
+
+    @Autowired
+    private Counter userRegistrationCounter;
+
+    @Autowired
+    private Timer authenticationTimer;
+
+    public ReactiveAuthController(UserService userService, JwtService jwtService, CookieService cookieService,
+                                  RefreshTokenService refreshTokenService,
+                                  TokenRevocationService tokenRevocationService,
+                                  TokenIssuer tokenIssuer, TokenRefreshService tokenRefreshService,
+                                  AuthSchedulers schedulers) {
+        this.userService = userService;
+        this.jwtService = jwtService;
+        this.cookieService = cookieService;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.tokenIssuer = tokenIssuer;
+        this.tokenRefreshService = tokenRefreshService;
+        this.schedulers = schedulers;
+    }
+
+    @GetMapping("/health")
+    public Mono<ResponseEntity<ApiResponse<Map<String, Object>>>> healthCheck() {
+        Map<String, Object> healthData = new HashMap<>();
+        healthData.put("status", "UP");
+        healthData.put("timestamp", LocalDateTime.now());
+        return Mono.just(ResponseEntity.ok(ApiResponse.success("Service is healthy", healthData)));
+    }
+
+    @PostMapping("/register")
+    public Mono<ResponseEntity<ApiResponse<TokenResponse>>> register(@Valid @RequestBody RegisterRequest registerRequest) {
+        UserRole role;
+        try {
+            role = UserRole.valueOf(registerRequest.getRole().trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.<TokenResponse>error("Invalid role " + registerRequest.getRole(), e.getMessage())));
+        }
+
+        return Mono.fromFuture(() -> userService.registerUserAsync(registerRequest.getEmail(), registerRequest.getPassword(),
+                                                                   role, schedulers.jdbcExecutor(), schedulers.hashingExecutor()))
+            .flatMap(user -> Mono.fromCallable(() -> tokenIssuer.issue(user))
+                .subscribeOn(schedulers.jdbc()))
+            .publishOn(Schedulers.parallel())
+            .map(issued -> {
+                userRegistrationCounter.increment();
+                jwtTokenCounter.increment(2); // access + refresh token
+                return ResponseEntity.status(HttpStatus.CREATED)
+                    .header(HttpHeaders.SET_COOKIE, cookieService.refreshTokenCookie(issued.refreshToken()).toString())
+                    .body(ApiResponse.success("User registered successfully", issued.response()));
+            })
+            .onErrorResume(e -> Mono.just(failure("Registration failed", e)));
+    }
+
+    @PostMapping("/login")
+    public Mono<ResponseEntity<ApiResponse<TokenResponse>>> login(@Valid @RequestBody LoginRequest requestBody) {
+        Timer.Sample sample = Timer.start();
+
+        // Lookup on the JDBC scheduler, only the BCrypt compare on the hashing one
+        return Mono.fromFuture(() -> userService.authenticateUserAsync(requestBody.getEmail(), requestBody.getPassword(),
+                                                                       schedulers.jdbcExecutor(), schedulers.hashingExecutor()))
+            .flatMap(userOpt -> {
+                if (userOpt.isEmpty()) {
+                    loginFailureCounter.increment();
+                    return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(ApiResponse.<TokenResponse>error("Authentication failed", "Invalid email or password")));
+                }
+                return Mono.fromCallable(() -> tokenIssuer.issue(userOpt.get()))
+                    .subscribeOn(schedulers.jdbc())
+                    .publishOn(Schedulers.parallel())
+                    .map(issued -> {
+                        loginSuccessCounter.increment();
+                        jwtTokenCounter.increment(2); // access + refresh token
+                        return ResponseEntity.ok()
+                            .header(HttpHeaders.SET_COOKIE, cookieService.refreshTokenCookie(issued.refreshToken()).toString())
+                            .body(ApiResponse.success("Login successful", issued.response()));
+                    });
+            })
+            .onErrorResume(e -> {
+                loginFailureCounter.increment();
+                return Mono.just(failure("Login failed", e));
+            })
+            .doFinally(signal -> sample.stop(authenticationTimer));
+    }
+
+    /**
+     * Same mapping as AuthController: validation errors are 400, a saturated scheduler is 503
+     */
+    private static ResponseEntity<ApiResponse<TokenResponse>> failure(String message, Throwable e) {
+        if (e instanceof IllegalArgumentException) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.<TokenResponse>error(message, e.getMessage()));
+        }
+        if (e instanceof RejectedExecutionException) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.<TokenResponse>error(message, "Server is busy, please retry"));
+        }
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+            .body(ApiResponse.<TokenResponse>error(message, e.getMessage()));
+    }
+
+    @PostMapping("/refresh-token")
+    public Mono<ResponseEntity<ApiResponse<TokenResponse>>> refreshToken(ServerWebExchange exchange) {
+        HttpCookie cookie = exchange.getRequest().getCookies().getFirst(cookieService.getCookieName());
+        String refreshToken = cookie != null ? cookie.getValue() : null;
+
+        if (refreshToken == null || refreshToken.isEmpty()) {
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.<TokenResponse>error("Token refresh failed", "No refresh token found")));
+        }
+
+        return Mono.fromCallable(() -> refresh(refreshToken))
+            .subscribeOn(schedulers.jdbc())
+            .publishOn(Schedulers.parallel())
+            .onErrorResume(e -> Mono.just(rejectRefresh(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage())));
+    }
+
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<ApiResponse<Void>>> logout(ServerWebExchange exchange) {
+        HttpCookie cookie = exchange.getRequest().getCookies().getFirst(cookieService.getCookieName());
+        String authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        return Mono.fromRunnable(() -> {
+                // Revoke server-side so a copied cookie stops working too
+                if (cookie != null && jwtService.validateRefreshToken(cookie.getValue())) {
+                    refreshTokenService.revoke(cookie.getValue());
+                }
+                if (authorization != null && authorization.startsWith("Bearer ")) {
+                    String accessToken = authorization.substring(7);
+                    if (jwtService.validateAccessToken(accessToken)) {
+                        tokenRevocationService.revoke(accessToken, jwtService.extractExpiration(accessToken).toInstant());
+                    }
+                }
+            })
+            .subscribeOn(schedulers.jdbc())
+            .publishOn(Schedulers.parallel())
+            .then(Mono.fromSupplier(() -> ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, cookieService.clearedRefreshTokenCookie().toString())
+                .body(ApiResponse.<Void>success("Logout successful"))))
+            .onErrorResume(e -> Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.<Void>error("Logout failed", e.getMessage()))));
+    }
+
+    /**
+     * Blocking refresh flow (coalesced in TokenRefreshService) - runs on the JDBC scheduler
+     */
+    private ResponseEntity<ApiResponse<TokenResponse>> refresh(String refreshToken) {
+        TokenRefreshService.RefreshResult result = tokenRefreshService.refresh(refreshToken);
+        if (!result.isIssued()) {
+            return rejectRefresh(HttpStatus.UNAUTHORIZED, result.error());
+        }
+
+        TokenIssuer.IssuedTokens issued = result.tokens();
+        return ResponseEntity.ok()
+            .header(HttpHeaders.SET_COOKIE, cookieService.refreshTokenCookie(issued.refreshToken()).toString())
+            .body(ApiResponse.success("Token refresh successful", issued.response()));
+    }
+
+    private ResponseEntity<ApiResponse<TokenResponse>> rejectRefresh(HttpStatus status, String reason) {
+        return ResponseEntity.status(status)
+            .header(HttpHeaders.SET_COOKIE, cookieService.clearedRefreshTokenCookie().toString())
+            .body(ApiResponse.<TokenResponse>error("Token refresh failed", reason));
+    }
+}
@@ -0,0 +1,69 @@
+package com.hms.auth.reactive;
+
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hms.auth.dto.ApiResponse;
+import com.hms.auth.dto.CurrentUser;
+import com.hms.auth.dto.ProfileView;
+import com.hms.auth.service.UserService;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive profile endpoints; the current user is put on the exchange by JwtAuthenticationWebFilter
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/profile")
+@PreAuthorize("isAuthenticated()")
+@Slf4j
+public class ReactiveProfileController {
+
+    private final UserService userService;
+    private final AuthSchedulers schedulers;
+
+    public ReactiveProfileController(UserService userService, AuthSchedulers schedulers) {
+        this.userService = userService;
+        this.schedulers = schedulers;
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse<Map<String, Object>>>> getUserProfile(
+            @RequestAttribute(name = "currentUser", required = false) CurrentUser currentUser) {
+
+        if (currentUser == null) {
+            return Mono.just(ResponseEntity.badRequest().body(ApiResponse.error("User information not found", null)));
+        }
+        return Mono.just(ResponseEntity.ok(
+            ApiResponse.success("Profile retrieved successfully", ProfileView.of(currentUser))));
+    }
+
+    @PostMapping("/sessions/revoke")
+    public Mono<ResponseEntity<ApiResponse<Void>>> revokeAllSessions(
+            @RequestAttribute(name = "currentUser", required = false) CurrentUser currentUser) {
+
+        if (currentUser == null) {
+            return Mono.just(ResponseEntity.badRequest().body(ApiResponse.error("User information not found", null)));
+        }
+        return Mono.fromRunnable(() -> userService.revokeAllSessions(currentUser.getEmail()))
+            .subscribeOn(schedulers.jdbc())
+            .publishOn(Schedulers.parallel())
+            .then(Mono.just(ResponseEntity.ok(ApiResponse.<Void>success("All sessions revoked"))))
+            .onErrorResume(e -> {
+                log.error("Error revoking sessions: ", e);
+                return Mono.just(ResponseEntity.internalServerError()
+                    .body(ApiResponse.<Void>error("Failed to revoke sessions", null)));
+            });
+    }
+}
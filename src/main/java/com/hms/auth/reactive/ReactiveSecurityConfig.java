@@ -0,0 +1,142 @@
+package com.hms.auth.reactive;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authorization.AuthenticatedReactiveAuthorizationManager;
+import org.springframework.security.authorization.AuthorityReactiveAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hms.auth.config.PriorityAdmission;
+import com.hms.auth.config.RouteTable;
+import com.hms.auth.entity.UserRole;
+import com.hms.auth.service.JwtService;
+import com.hms.auth.service.NegativeCache;
+import com.hms.auth.service.TokenRevocationService;
+import com.hms.auth.service.TokenVersionCache;
+import com.hms.auth.service.UserService;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Security for the reactive deployment mode (spring.main.web-application-type=reactive).
+ * Same rules as SecurityConfig, expressed for WebFlux.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableWebFluxSecurity
+@EnableReactiveMethodSecurity
+public class ReactiveSecurityConfig {
+
+    private final JwtService jwtService;
+    private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenVersionCache tokenVersionCache;
+    private final AuthSchedulers schedulers;
+    private final RouteTable routeTable;
+    private final NegativeCache negativeCache;
+    private final PriorityAdmission admission;
+    private final ObjectMapper objectMapper;
+
+    public ReactiveSecurityConfig(JwtService jwtService, UserService userService,
+                                  TokenRevocationService tokenRevocationService,
+                                  TokenVersionCache tokenVersionCache,
+                                  AuthSchedulers schedulers,
+                                  RouteTable routeTable,
+                                  NegativeCache negativeCache,
+                                  PriorityAdmission admission,
+                                  ObjectMapper objectMapper) {
+        this.jwtService = jwtService;
+        this.userService = userService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.tokenVersionCache = tokenVersionCache;
+        this.schedulers = schedulers;
+        this.routeTable = routeTable;
+        this.negativeCache = negativeCache;
+        this.admission = admission;
+        this.objectMapper = objectMapper;
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+            // ✅ 1. Stateless REST API: no CSRF, no session, no login forms
+            .csrf(ServerHttpSecurity.CsrfSpec::disable)
+            .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+            .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+            .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+
+            // ✅ 2. CORS
+            .cors(cors -> cors.configurationSource(reactiveCorsConfigurationSource()))
+
+            // ✅ 3. Authorization rules
+            .authorizeExchange(exchanges -> exchanges
+                .anyExchange().access(routeAuthorizationManager())
+            )
+
+            // Anonymous requests get 403, as on the servlet stack
+            .exceptionHandling(handling -> handling
+                .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN)))
+
+            // ✅ 4. JWT authentication
+            .addFilterAt(new JwtAuthenticationWebFilter(jwtService, userService, tokenRevocationService,
+                                                        tokenVersionCache, schedulers, routeTable,
+                                                        negativeCache, admission, objectMapper),
+                         SecurityWebFiltersOrder.AUTHENTICATION)
+            .build();
+    }
+
+    /**
+     * Same route table as the servlet stack: public granted, role routes need ROLE_x, rest authenticated
+     */
+    private ReactiveAuthorizationManager<AuthorizationContext> routeAuthorizationManager() {
+        Mono<AuthorizationDecision> granted = Mono.just(new AuthorizationDecision(true));
+        ReactiveAuthorizationManager<AuthorizationContext> authenticated = AuthenticatedReactiveAuthorizationManager.authenticated();
+        Map<UserRole, ReactiveAuthorizationManager<AuthorizationContext>> roles = new EnumMap<>(UserRole.class);
+        for (UserRole role : UserRole.values()) {
+            roles.put(role, AuthorityReactiveAuthorizationManager.hasRole(role.name()));
+        }
+
+        return (authentication, context) -> {
+            RouteTable.Route route = routeTable.match(JwtAuthenticationWebFilter.requestPath(context.getExchange()));
+            return switch (route.access()) {
+                case PUBLIC -> granted;
+                case AUTHENTICATED -> authenticated.check(authentication, context);
+                case ROLE -> roles.get(route.role()).check(authentication, context);
+            };
+        };
+    }
+
+    @Bean
+    public CorsConfigurationSource reactiveCorsConfigurationSource() {
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOriginPatterns(Arrays.asList("*"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedHeaders(Arrays.asList("*"));
+        // Let browser clients read the proactive refresh hint, as on the servlet stack
+        configuration.setExposedHeaders(Arrays.asList(JwtService.REFRESH_HINT_HEADER));
+        configuration.setAllowCredentials(true);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", configuration);
+        return source;
+    }
+}
@@ -0,0 +1,37 @@
+package com.hms.auth.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.hms.auth.dto.ApiResponse;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Routes that only the servlet stack serves: the role dashboards, admin session
+ * revocation and token introspection. In reactive mode they answer 501 right away
+ * (after the usual route authorization) instead of an ambiguous 404.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class ServletOnlyRoutesController {
+
+    @PostConstruct
+    void warn() {
+        log.warn("Reactive mode: /api/admin, /api/doctor, /api/patient and introspection answer 501 - servlet stack only");
+    }
+
+    @RequestMapping({"/api/admin/**", "/api/doctor/**", "/api/patient/**", "/api/auth/v1/introspect/**"})
+    public Mono<ResponseEntity<ApiResponse<Void>>> notImplemented(ServerWebExchange exchange) {
+        return Mono.just(ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED)
+            .body(ApiResponse.<Void>error("Not available in reactive mode",
+                exchange.getRequest().getPath().value() + " requires spring.main.web-application-type=servlet")));
+    }
+}
@@ -0,0 +1,39 @@
+package com.hms.auth.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hms.auth.entity.RefreshToken;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+
+    // find stored token by hashed JTI
+    Optional<RefreshToken> findByJtiHash(String jtiHash);
+
+    // consume a token: succeeds (returns 1) only for the first caller presenting a live token
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken t SET t.revoked = true " +
+           "WHERE t.jtiHash = :jtiHash AND t.revoked = false AND t.expiresAt > :now")
+    int consume(String jtiHash, LocalDateTime now);
+
+    // revoke every token in a rotation family
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken t SET t.revoked = true WHERE t.familyId = :familyId AND t.revoked = false")
+    int revokeFamily(UUID familyId);
+
+    // delete at most :limit expired rows, walking idx_refresh_tokens_expires_at
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE id IN " +
+                   "(SELECT id FROM refresh_tokens WHERE expires_at < :cutoff LIMIT :limit)",
+           nativeQuery = true)
+    int deleteExpiredBatch(LocalDateTime cutoff, int limit);
+}
@@ -5,7 +5,9 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.hms.auth.entity.User;
 import com.hms.auth.entity.UserRole;
@@ -31,4 +33,21 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     // count enabled users
     long countByEnabledTrue();
 
+    // users and enabled users per role in one grouped query - one connection checkout for a dashboard
+    @Query("SELECT u.role AS role, COUNT(u) AS total, SUM(CASE WHEN u.enabled = true THEN 1 ELSE 0 END) AS enabled "
+         + "FROM User u GROUP BY u.role")
+    List<RoleCount> countGroupedByRole();
+
+    interface RoleCount {
+        UserRole getRole();
+        long getTotal();
+        long getEnabled();
+    }
+
+    // invalidate every outstanding token of a user in one statement
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :id")
+    int incrementTokenVersion(UUID id);
+
 }
@@ -0,0 +1,149 @@
+package com.hms.auth.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hms.auth.config.AsyncConfig;
+import com.hms.auth.dto.IntrospectionResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Batch token validation for gateways that coalesce checks into micro-batches.
+ *
+ * Request body: a JSON array of token strings, parsed as a stream.
+ * Response body: a JSON array in request order, one positional entry per token:
+ * {@code [true,"<userId>","<role>",<exp>]} for active tokens, {@code [false]} otherwise.
+ *
+ * Introspection can block on the user lookup (JDBC), so large batches are split into
+ * chunks on the bounded user task executor - the same pool as the other blocking user
+ * work - rather than a CPU-sized pool whose threads would sit waiting on connections.
+ */
+@Service
+@Slf4j
+public class BatchValidationService {
+
+    private final IntrospectionService introspectionService;
+    private final JsonFactory jsonFactory;
+    private final Executor userTaskExecutor;
+
+    @Value("${auth.batch-validation.max-tokens:500}")
+    private int maxTokens = 500;
+
+    @Value("${auth.batch-validation.parallel-threshold:32}")
+    private int parallelThreshold = 32;
+
+    @Value("${auth.batch-validation.chunks:4}")
+    private int chunks = 4;
+
+    public BatchValidationService(IntrospectionService introspectionService, ObjectMapper objectMapper,
+                                  @Qualifier(AsyncConfig.USER_TASK_EXECUTOR) Executor userTaskExecutor) {
+        this.introspectionService = introspectionService;
+        this.jsonFactory = objectMapper.getFactory();
+        this.userTaskExecutor = userTaskExecutor;
+    }
+
+    /**
+     * Stream-parse the token array, failing as soon as it exceeds the configured maximum
+     */
+    public List<String> readTokens(InputStream body) throws IOException {
+        List<String> tokens = new ArrayList<>();
+
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Request body must be a JSON array of tokens");
+            }
+            JsonToken next;
+            while ((next = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (next != JsonToken.VALUE_STRING) {
+                    throw new IllegalArgumentException("Every batch entry must be a token string");
+                }
+                if (tokens.size() == maxTokens) {
+                    throw new IllegalArgumentException("Batch exceeds the maximum of " + maxTokens + " tokens");
+                }
+                tokens.add(parser.getText());
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Validate every token; batches above the threshold are split into chunks on the
+     * user task executor, with the request thread taking the first chunk itself
+     */
+    public IntrospectionResponse[] validate(List<String> tokens) {
+        IntrospectionResponse[] results = new IntrospectionResponse[tokens.size()];
+
+        if (tokens.size() < parallelThreshold || chunks < 2) {
+            introspectRange(tokens, results, 0, results.length);
+            return results;
+        }
+
+        int chunkSize = (results.length + chunks - 1) / chunks;
+        List<CompletableFuture<Void>> pending = new ArrayList<>(chunks - 1);
+        for (int from = chunkSize; from < results.length; from += chunkSize) {
+            int start = from;
+            int end = Math.min(from + chunkSize, results.length);
+            try {
+                pending.add(CompletableFuture.runAsync(() -> introspectRange(tokens, results, start, end), userTaskExecutor));
+            } catch (RejectedExecutionException e) {
+                // Pool saturated: the caller pays instead of queueing without bound
+                introspectRange(tokens, results, start, end);
+            }
+        }
+        introspectRange(tokens, results, 0, Math.min(chunkSize, results.length));
+
+        try {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Batch validation failed", e.getCause());
+        }
+        return results;
+    }
+
+    private void introspectRange(List<String> tokens, IntrospectionResponse[] results, int start, int end) {
+        for (int i = start; i < end; i++) {
+            results[i] = introspectionService.introspect(tokens.get(i));
+        }
+    }
+
+    /**
+     * Write the compact result array straight to the response stream
+     */
+    public void writeResults(IntrospectionResponse[] results, OutputStream out) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.writeStartArray();
+            for (IntrospectionResponse result : results) {
+                generator.writeStartArray();
+                generator.writeBoolean(result.isActive());
+                if (result.isActive()) {
+                    generator.writeString(result.getUserId());
+                    generator.writeString(result.getRole());
+                    generator.writeNumber(result.getExp());
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    public int getMaxTokens() {
+        return maxTokens;
+    }
+}
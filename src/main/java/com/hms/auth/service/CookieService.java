@@ -1,6 +1,9 @@
 package com.hms.auth.service;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Service;
 import lombok.extern.slf4j.Slf4j;
 
@@ -54,7 +57,7 @@ public class CookieService {
         // ✅ Add cookie with enhanced security headers
         addSecureCookie(response, cookie);
         
-        log.info("Refresh token cookie created successfully - secure: {}, httpOnly: {}, sameSite: {}", 
+        log.debug("Refresh token cookie created successfully - secure: {}, httpOnly: {}, sameSite: {}", 
                  secure, httpOnly, sameSite);
     }
 
@@ -75,9 +78,27 @@ public class CookieService {
         }
         
         addSecureCookie(response, cookie);
-        log.info("Refresh token cookie cleared successfully");
+        log.debug("Refresh token cookie cleared successfully");
+    }
+
+
+    /**
+     * Refresh token cookie for the reactive stack (no servlet response available)
+     */
+    public ResponseCookie refreshTokenCookie(String refreshToken) {
+        return buildResponseCookie(refreshToken, Duration.ofSeconds(refreshTokenExpiration));
     }
 
+    /**
+     * Expired refresh token cookie for the reactive stack
+     */
+    public ResponseCookie clearedRefreshTokenCookie() {
+        return buildResponseCookie("", Duration.ZERO);
+    }
+
+    public String getCookieName() {
+        return cookieName;
+    }
 
     public String getRefreshTokenFromCookies(HttpServletRequest request) {
         Cookie[] cookies = request.getCookies();
@@ -129,6 +150,23 @@ public class CookieService {
     }
 
     
+    private ResponseCookie buildResponseCookie(String value, Duration maxAge) {
+        ResponseCookie.ResponseCookieBuilder builder = ResponseCookie.from(cookieName, value)
+            .httpOnly(httpOnly)
+            .secure(secure)
+            .path(cookiePath)
+            .maxAge(maxAge);
+
+        if (isValidDomain(domain)) {
+            builder.domain(domain);
+        }
+        if (isValidSameSite(sameSite)) {
+            builder.sameSite(sameSite);
+        }
+        return builder.build();
+    }
+
+    
     private boolean isValidDomain(String domain) {
         return domain != null && !domain.trim().isEmpty();
     }
@@ -0,0 +1,87 @@
+package com.hms.auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resource servers allowed to introspect tokens (RFC 7662 §2.1), from auth.introspection.clients.
+ *
+ * Callers authenticate with HTTP Basic client-id:secret. Secrets are kept only as
+ * SHA-256 digests and compared in constant time; a client with a blank secret is
+ * disabled, and with no clients configured every caller is rejected.
+ */
+@Component
+@Slf4j
+public class IntrospectionClients {
+
+    public static final String ROLE = "INTROSPECTION_CLIENT";
+
+    private static final String BASIC_PREFIX = "Basic ";
+
+    private final Map<String, byte[]> secretDigests = new HashMap<>();
+
+    public IntrospectionClients(Environment environment) {
+        Map<String, String> clients = Binder.get(environment)
+            .bind("auth.introspection.clients", Bindable.mapOf(String.class, String.class))
+            .orElse(Map.of());
+
+        clients.forEach((clientId, secret) -> {
+            if (secret != null && !secret.isBlank()) {
+                secretDigests.put(clientId, digest(secret));
+            }
+        });
+
+        if (secretDigests.isEmpty()) {
+            log.warn("No introspection clients configured - token introspection rejects every caller");
+        } else {
+            log.info("Introspection clients: {}", secretDigests.keySet());
+        }
+    }
+
+    /**
+     * Client id for a valid {@code Authorization: Basic} header, empty otherwise
+     */
+    public Optional<String> authenticate(String authorization) {
+        if (authorization == null || !authorization.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+            return Optional.empty();
+        }
+
+        String credentials;
+        try {
+            credentials = new String(Base64.getDecoder().decode(authorization.substring(BASIC_PREFIX.length()).trim()),
+                                     StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        int colon = credentials.indexOf(':');
+        if (colon <= 0) {
+            return Optional.empty();
+        }
+        String clientId = credentials.substring(0, colon);
+        byte[] expected = secretDigests.get(clientId);
+        if (expected == null || !MessageDigest.isEqual(expected, digest(credentials.substring(colon + 1)))) {
+            return Optional.empty();
+        }
+        return Optional.of(clientId);
+    }
+
+    public boolean isEmpty() {
+        return secretDigests.isEmpty();
+    }
+
+    private static byte[] digest(String secret) {
+        return TokenDigest.sha256Hex(secret).getBytes(StandardCharsets.US_ASCII);
+    }
+}
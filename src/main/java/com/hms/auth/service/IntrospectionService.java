@@ -0,0 +1,132 @@
+package com.hms.auth.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.hms.auth.dto.IntrospectionResponse;
+import com.hms.auth.entity.User;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RFC 7662 token introspection for downstream services that cannot verify tokens themselves.
+ * Results are cached for a short TTL keyed by the token's SHA-256 digest, so a
+ * token that is checked on every downstream call costs one verification per TTL.
+ */
+@Service
+@Slf4j
+public class IntrospectionService {
+
+    private final JwtService jwtService;
+    private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenVersionCache tokenVersionCache;
+
+    @Value("${auth.introspection.cache-ttl-seconds:10}")
+    private long cacheTtlSeconds = 10;
+
+    @Value("${auth.introspection.cache-max-entries:10000}")
+    private int cacheMaxEntries = 10000;
+
+    private final Map<String, CachedResult> cache = new ConcurrentHashMap<>();
+
+    public IntrospectionService(JwtService jwtService, UserService userService,
+                                TokenRevocationService tokenRevocationService,
+                                TokenVersionCache tokenVersionCache) {
+        this.jwtService = jwtService;
+        this.userService = userService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.tokenVersionCache = tokenVersionCache;
+    }
+
+    public IntrospectionResponse introspect(String token) {
+        if (token == null || token.isBlank()) {
+            return IntrospectionResponse.inactive();
+        }
+
+        // Not cached: revocation must take effect immediately, and the check is cheaper than a digest
+        if (tokenRevocationService.isRevoked(token)) {
+            return IntrospectionResponse.inactive();
+        }
+
+        String digest = TokenDigest.sha256Hex(token);
+        long now = System.currentTimeMillis();
+
+        CachedResult cached = cache.get(digest);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.response();
+        }
+
+        IntrospectionResponse response = verify(token);
+        store(digest, response, now);
+        return response;
+    }
+
+    /**
+     * Seconds left until the token in the response expires (0 for inactive tokens)
+     */
+    public long remainingLifetime(IntrospectionResponse response) {
+        if (!response.isActive() || response.getExp() == null) {
+            return 0;
+        }
+        return Math.max(0, response.getExp() - System.currentTimeMillis() / 1000);
+    }
+
+    private IntrospectionResponse verify(String token) {
+        Optional<Claims> claimsOpt = jwtService.verifyAccessToken(token);
+        if (claimsOpt.isEmpty()) {
+            return IntrospectionResponse.inactive();
+        }
+
+        Claims claims = claimsOpt.get();
+        String userId = claims.get("userId", String.class);
+        int tokenVersion = jwtService.extractTokenVersion(claims);
+
+        Integer cachedVersion = tokenVersionCache.get(userId);
+        if (cachedVersion != null && tokenVersion < cachedVersion) {
+            return IntrospectionResponse.inactive();
+        }
+        if (cachedVersion == null || tokenVersion > cachedVersion) {
+            // Unknown, or newer than this node has seen (revoked elsewhere, then a new login).
+            // Also covers deleted and disabled accounts
+            Optional<User> user = userService.findByEmail(claims.getSubject());
+            if (user.isEmpty() || !user.get().getEnabled()
+                    || !userService.isTokenVersionCurrent(user.get(), tokenVersion)) {
+                return IntrospectionResponse.inactive();
+            }
+        }
+
+        return new IntrospectionResponse(
+            true,
+            claims.getSubject(),
+            userId,
+            claims.get("role", String.class),
+            "Bearer",
+            claims.getExpiration().getTime() / 1000
+        );
+    }
+
+    private void store(String digest, IntrospectionResponse response, long now) {
+        long expiresAt = now + cacheTtlSeconds * 1000;
+        if (response.isActive()) {
+            // never serve an active result past the token's own expiry
+            expiresAt = Math.min(expiresAt, response.getExp() * 1000);
+        }
+
+        if (cache.size() >= cacheMaxEntries) {
+            cache.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (cache.size() >= cacheMaxEntries) {
+                return;
+            }
+        }
+        cache.put(digest, new CachedResult(response, expiresAt));
+    }
+
+    private record CachedResult(IntrospectionResponse response, long expiresAt) {
+    }
+}
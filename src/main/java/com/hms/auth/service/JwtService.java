@@ -4,7 +4,10 @@ import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 
 import javax.crypto.SecretKey;
@@ -13,6 +16,10 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.hms.auth.entity.User;
+import com.hms.auth.jfr.JwtSignEvent;
+import com.hms.auth.jfr.JwtVerifyEvent;
+import com.hms.auth.logging.LogFields;
+import com.hms.auth.logging.LogSampler;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
@@ -22,6 +29,14 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class JwtService {
 
+    /**
+     * Set on authenticated responses whose token is about to expire: seconds to wait before refreshing
+     */
+    public static final String REFRESH_HINT_HEADER = "X-Token-Refresh-After";
+
+    // Verification failures are client-driven (expired or forged tokens on every request)
+    private static final LogSampler VERIFY_FAILURE_LOG = LogSampler.perSecond(10);
+
     @Value("${jwt.secret}")
     private String jwtSecret;
     
@@ -31,48 +46,113 @@ public class JwtService {
     @Value("${jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
+    // Up to this many seconds are taken off each access token, so a login wave does not expire as one
+    @Value("${jwt.access-token-jitter:0}")
+    private long accessTokenJitter = 0;
+
+    // Remaining lifetime below which a token counts as about to expire
+    @Value("${jwt.refresh-hint-window:300}")
+    private long refreshHintWindow = 300;
+
+    // Immutable and thread-safe once built - no per-call key derivation when verifying
+    private volatile JwtParser parser;
+
+    // Derived once from the secret, shared by signing and verification
+    private volatile SecretKey signingKey;
+
     
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        SecretKey current = signingKey;
+        if (current == null) {
+            current = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+            signingKey = current;
+        }
+        return current;
     }
 
     //  Generate Access Token (short-lived, contains user data)
     
     public String generateAccessToken(User user) {
-        log.info("Generating access token for user: {}", user.getEmail());
-        
-        Instant now = Instant.now();
-        Instant expiry = now.plus(accessTokenExpiration, ChronoUnit.SECONDS);
+        log.atDebug().addKeyValue("user", LogFields.email(user.getEmail())).log("Generating access token");
+        return buildAccessToken(user, Instant.now(), nextAccessTokenLifetime());
+    }
+
+    //  Generate Refresh Token (long-lived, minimal data)
+    public String generateRefreshToken(User user) {
+        log.atDebug().addKeyValue("user", LogFields.email(user.getEmail())).log("Generating refresh token");
+        return buildRefreshToken(user, UUID.randomUUID().toString(), Instant.now());
+    }
+
+    //  Lifetime for the next access token: the configured expiration minus a uniform jitter (capped at half of it)
+    long nextAccessTokenLifetime() {
+        long jitter = Math.min(accessTokenJitter, accessTokenExpiration / 2);
+        if (jitter <= 0) {
+            return accessTokenExpiration;
+        }
+        return accessTokenExpiration - ThreadLocalRandom.current().nextLong(jitter + 1);
+    }
 
-        return Jwts.builder()
+    //  Sign an access token issued at the given instant (TokenIssuer mints both tokens from one clock read)
+    String buildAccessToken(User user, Instant now, long lifetimeSeconds) {
+        Instant expiry = now.plus(lifetimeSeconds, ChronoUnit.SECONDS);
+        JwtSignEvent event = new JwtSignEvent();
+        event.begin();
+
+        String token = Jwts.builder()
             .subject(user.getEmail())
             .issuedAt(Date.from(now))
             .expiration(Date.from(expiry))
             .claim("userId", user.getId().toString())
             .claim("role", user.getRole().name())
             .claim("enabled", user.getEnabled())
+            .claim("tokenVersion", user.getTokenVersion())
             .claim("tokenType", "ACCESS")
             .signWith(getSigningKey())
             .compact();
+
+        commitSign(event, "ACCESS", token);
+        return token;
     }
 
-    //  Generate Refresh Token (long-lived, minimal data)
-    public String generateRefreshToken(User user) {
-        log.info("Generating refresh token for user: {}", user.getEmail());
-        
-        Instant now = Instant.now();
+    //  Sign a refresh token with a caller-chosen JTI issued at the given instant
+    String buildRefreshToken(User user, String tokenId, Instant now) {
         Instant expiry = now.plus(refreshTokenExpiration, ChronoUnit.SECONDS);
-        String tokenId = UUID.randomUUID().toString();
-        
-        return Jwts.builder()
+        JwtSignEvent event = new JwtSignEvent();
+        event.begin();
+
+        String token = Jwts.builder()
             .id(tokenId)  // JTI (JWT ID)
             .subject(user.getEmail())
             .issuedAt(Date.from(now))
             .expiration(Date.from(expiry))
             .claim("userId", user.getId().toString())
+            .claim("tokenVersion", user.getTokenVersion())
             .claim("tokenType", "REFRESH")
             .signWith(getSigningKey())
             .compact();
+
+        commitSign(event, "REFRESH", token);
+        return token;
+    }
+
+    private void commitSign(JwtSignEvent event, String tokenType, String token) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.tokenType = tokenType;
+            event.algorithm = getSigningKey().getAlgorithm();
+            event.tokenLength = token.length();
+            event.commit();
+        }
+    }
+
+    //  Single-pass verification: one parse checks signature, expiry and type and returns the claims
+    public Optional<Claims> verifyAccessToken(String token) {
+        return verify(token, "ACCESS");
+    }
+
+    //  Single-pass verification for refresh tokens
+    public Optional<Claims> verifyRefreshToken(String token) {
+        return verify(token, "REFRESH");
     }
 
     //  Extract email (subject) from token
@@ -95,6 +175,18 @@ public class JwtService {
         return extractClaim(token, Claims::getId);
     }
 
+    //  Extract token version (tokens minted before versioning count as 0)
+    public int extractTokenVersion(String token) {
+        Integer version = extractClaim(token, claims -> claims.get("tokenVersion", Integer.class));
+        return version != null ? version : 0;
+    }
+
+    //  Token version from already verified claims
+    public int extractTokenVersion(Claims claims) {
+        Integer version = claims.get("tokenVersion", Integer.class);
+        return version != null ? version : 0;
+    }
+
     //  Extract token type (ACCESS or REFRESH)
     public String extractTokenType(String token) {
         return extractClaim(token, claims -> claims.get("tokenType", String.class));
@@ -105,77 +197,39 @@ public class JwtService {
         return extractClaim(token, Claims::getExpiration);
     }
 
+    //  Extract issue time from token
+    public Date extractIssuedAt(String token) {
+        return extractClaim(token, Claims::getIssuedAt);
+    }
+
     //  Check if token is expired
     public Boolean isTokenExpired(String token) {
         try {
             Date expiration = extractExpiration(token);
             return expiration.before(new Date());
         } catch (JwtException e) {
-            log.warn("Error checking token expiration: {}", e.getMessage());
+            logVerifyFailure("invalid", e.getMessage());
             return true;
         }
     }
 
     //  Validate access token (checks structure, signature, expiration, and type)
     public boolean validateAccessToken(String token) {
-        try {
-            if (!validateTokenStructure(token)) {
-                return false;
-            }
-
-            String tokenType = extractTokenType(token);
-            if (!"ACCESS".equals(tokenType)) {
-                log.warn("Token is not an access token: {}", tokenType);
-                return false;
-            }
-            
-            if (isTokenExpired(token)) {
-                log.warn("Access token is expired");
-                return false;
-            }
-            
-            return true;
-        } catch (Exception e) {
-            log.error("Error validating access token: {}", e.getMessage());
-            return false;
-        }
+        return verifyAccessToken(token).isPresent();
     }
 
     //  Validate refresh token (checks structure, signature, expiration, and type)
     public boolean validateRefreshToken(String token) {
-        try {
-            if (!validateTokenStructure(token)) {
-                return false;
-            }
-
-            String tokenType = extractTokenType(token);
-            if (!"REFRESH".equals(tokenType)) {
-                log.warn("Token is not a refresh token: {}", tokenType);
-                return false;
-            }
-
-            if (isTokenExpired(token)) {
-                log.warn("Refresh token is expired");
-                return false;
-            }
-            
-            return true;
-        } catch (Exception e) {
-            log.error("Error validating refresh token: {}", e.getMessage());
-            return false;
-        }
+        return verifyRefreshToken(token).isPresent();
     }
 
     //  Validate token structure and signature (JJWT 0.12+ Modern API)
     public boolean validateTokenStructure(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token);
+            getParser().parseSignedClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
-            log.warn("Invalid JWT token: {}", e.getMessage());
+            logVerifyFailure("invalid", e.getMessage());
             return false;
         }
     }
@@ -188,7 +242,7 @@ public class JwtService {
             long expiryTime = expiration.getTime();
             return Math.max(0, (expiryTime - currentTime) / 1000);
         } catch (Exception e) {
-            log.warn("Error getting token expiry time: {}", e.getMessage());
+            logVerifyFailure("invalid", e.getMessage());
             return 0;
         }
     }
@@ -213,10 +267,97 @@ public class JwtService {
     }
     
     /**
-     * Check if a token is about to expire (within 5 minutes)
+     * Check if a token is about to expire (within jwt.refresh-hint-window, 5 minutes by default)
      */
     public boolean isTokenAboutToExpire(String token) {
-        return getTokenExpiryTime(token) <= 300; // 5 minutes
+        return getTokenExpiryTime(token) <= refreshHintWindow;
+    }
+
+    /**
+     * Same check on already verified claims, no second parse
+     */
+    public boolean isTokenAboutToExpire(Claims claims) {
+        return remainingSeconds(claims) <= refreshHintWindow;
+    }
+
+    /**
+     * Seconds the client should wait before refreshing a token that is about to expire, drawn
+     * uniformly from the first half of its remaining lifetime so clients holding tokens from the
+     * same wave spread their refreshes out. Empty while the token is not about to expire.
+     */
+    public OptionalLong refreshHintSeconds(Claims claims) {
+        if (!isTokenAboutToExpire(claims)) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(ThreadLocalRandom.current().nextLong(remainingSeconds(claims) / 2 + 1));
+    }
+
+    private static long remainingSeconds(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return 0;
+        }
+        return Math.max(0, (expiration.getTime() - System.currentTimeMillis()) / 1000);
+    }
+
+    /**
+     * Parse once and check the token type; expiry and signature are enforced by the parser
+     */
+    private Optional<Claims> verify(String token, String expectedType) {
+        JwtVerifyEvent event = new JwtVerifyEvent();
+        event.begin();
+        String outcome = "invalid";
+        try {
+            Claims claims = getParser().parseSignedClaims(token).getPayload();
+
+            String tokenType = claims.get("tokenType", String.class);
+            if (!expectedType.equals(tokenType)) {
+                outcome = "wrong_type";
+                logVerifyFailure(outcome, "expected " + expectedType + ", got " + tokenType);
+                return Optional.empty();
+            }
+            outcome = "ok";
+            return Optional.of(claims);
+        } catch (ExpiredJwtException e) {
+            outcome = "expired";
+            logVerifyFailure(outcome, expectedType);
+            return Optional.empty();
+        } catch (JwtException | IllegalArgumentException e) {
+            logVerifyFailure(outcome, e.getMessage());
+            return Optional.empty();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.expectedType = expectedType;
+                event.outcome = outcome;
+                event.tokenLength = token == null ? 0 : token.length();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Sampled: at most VERIFY_FAILURE_LOG lines per second, dropped lines are counted on the next one
+     */
+    private static void logVerifyFailure(String reason, String detail) {
+        if (log.isWarnEnabled() && VERIFY_FAILURE_LOG.tryAcquire()) {
+            log.atWarn()
+                .addKeyValue("reason", reason)
+                .addKeyValue("detail", detail)
+                .addKeyValue("suppressed", VERIFY_FAILURE_LOG.takeSuppressed())
+                .log("JWT verification failed");
+        }
+    }
+
+    private JwtParser getParser() {
+        JwtParser current = parser;
+        if (current == null) {
+            current = Jwts.parser()
+                .verifyWith(getSigningKey())
+                .build();
+            parser = current;
+        }
+        return current;
     }
 
     /**
@@ -231,9 +372,7 @@ public class JwtService {
      * Extract all claims from token (JJWT 0.12+ Modern API)
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-            .verifyWith(getSigningKey())
-            .build()
+        return getParser()
             .parseSignedClaims(token)
             .getPayload();
     }
@@ -0,0 +1,178 @@
+package com.hms.auth.service;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Short-lived memory of requests that are known to fail, so a client replaying a
+ * forged or expired token, or a valid token of a deleted user, costs a map lookup
+ * instead of a signature check and a database round trip on every call.
+ *
+ * Rejected tokens are keyed by a 64-bit hash of the whole token (a JWT that failed
+ * verification never becomes valid); unknown emails are keyed by the lower-cased
+ * address and forgotten as soon as that email registers.
+ *
+ * Each kind is bounded by max-entries. All entries of a kind share one TTL, so
+ * insertion order is expiry order: a full cache drops its oldest entry, and expired
+ * entries are dropped from the front as new ones arrive.
+ */
+@Component
+public class NegativeCache {
+
+    @Value("${auth.negative-cache.token-ttl-seconds:60}")
+    private long tokenTtlSeconds = 60;
+
+    @Value("${auth.negative-cache.email-ttl-seconds:10}")
+    private long emailTtlSeconds = 10;
+
+    @Value("${auth.negative-cache.max-entries:10000}")
+    private int maxEntries = 10000;
+
+    private final Entries<Long> rejectedTokens = new Entries<>();
+    private final Entries<String> unknownEmails = new Entries<>();
+
+    private final Counter tokenHits;
+    private final Counter emailHits;
+
+    public NegativeCache(MeterRegistry meterRegistry) {
+        this.tokenHits = Counter.builder("auth.negative_cache.hits")
+            .description("Requests short-circuited by the negative cache")
+            .tag("kind", "token")
+            .register(meterRegistry);
+        this.emailHits = Counter.builder("auth.negative_cache.hits")
+            .description("Requests short-circuited by the negative cache")
+            .tag("kind", "email")
+            .register(meterRegistry);
+        Gauge.builder("auth.negative_cache.size", rejectedTokens, Entries::size)
+            .tag("kind", "token")
+            .register(meterRegistry);
+        Gauge.builder("auth.negative_cache.size", unknownEmails, Entries::size)
+            .tag("kind", "email")
+            .register(meterRegistry);
+    }
+
+    /**
+     * True when the token failed verification recently; counts a hit
+     */
+    public boolean isRejectedToken(String token) {
+        if (rejectedTokens.isLive(hash(token))) {
+            tokenHits.increment();
+            return true;
+        }
+        return false;
+    }
+
+    public void rejectToken(String token) {
+        rejectedTokens.remember(hash(token), tokenTtlSeconds);
+    }
+
+    /**
+     * True when no user with this email existed a moment ago; counts a hit
+     */
+    public boolean isUnknownEmail(String email) {
+        if (unknownEmails.isLive(email.toLowerCase())) {
+            emailHits.increment();
+            return true;
+        }
+        return false;
+    }
+
+    public void unknownEmail(String email) {
+        unknownEmails.remember(email.toLowerCase(), emailTtlSeconds);
+    }
+
+    public void forgetEmail(String email) {
+        unknownEmails.forget(email.toLowerCase());
+    }
+
+    /**
+     * Deadlines by key, plus the insertion order used to expire and evict from the front
+     */
+    private final class Entries<K> {
+
+        // value: System.nanoTime() deadline
+        private final Map<K, Long> deadlines = new ConcurrentHashMap<>();
+        private final Queue<Map.Entry<K, Long>> order = new ConcurrentLinkedQueue<>();
+
+        boolean isLive(K key) {
+            Long deadline = deadlines.get(key);
+            if (deadline == null) {
+                return false;
+            }
+            if (System.nanoTime() - deadline > 0) {
+                deadlines.remove(key, deadline);
+                return false;
+            }
+            return true;
+        }
+
+        void remember(K key, long ttlSeconds) {
+            long now = System.nanoTime();
+            dropExpired(now);
+            if (deadlines.size() >= maxEntries && !deadlines.containsKey(key)) {
+                evictOldest();
+            }
+            long deadline = now + ttlSeconds * 1_000_000_000L;
+            deadlines.put(key, deadline);
+            order.add(Map.entry(key, deadline));
+        }
+
+        void forget(K key) {
+            deadlines.remove(key);
+        }
+
+        int size() {
+            return deadlines.size();
+        }
+
+        private void dropExpired(long now) {
+            Map.Entry<K, Long> head;
+            while ((head = order.peek()) != null && now - head.getValue() > 0) {
+                if (order.remove(head)) {
+                    deadlines.remove(head.getKey(), head.getValue());
+                }
+            }
+        }
+
+        /**
+         * Remove the oldest live entry; order entries whose key was since forgotten
+         * or re-remembered no longer match a deadline and are skipped
+         */
+        private void evictOldest() {
+            Map.Entry<K, Long> head;
+            while ((head = order.poll()) != null) {
+                if (deadlines.remove(head.getKey(), head.getValue())) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a over the whole token, finished with a murmur3 mix.
+     * Unlike the revocation set it covers header and payload too, so a forged
+     * payload reusing a genuine signature cannot poison the genuine token.
+     */
+    static long hash(String token) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            h ^= token.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,223 @@
+package com.hms.auth.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hms.auth.entity.RefreshToken;
+import com.hms.auth.entity.User;
+import com.hms.auth.repository.RefreshTokenRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Server-side refresh token store.
+ * Every issued refresh token is recorded by its hashed JTI and rotation family.
+ * A token can be consumed exactly once; presenting a consumed token again is
+ * treated as theft and revokes the whole family.
+ *
+ * Tokens issued before the store recorded them have no row. One issued before
+ * jwt.refresh-store.legacy-issued-before (default: this instance's start) is
+ * adopted on its first refresh instead of being rejected, see adoptLegacy.
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtService jwtService;
+
+    @Value("${jwt.refresh-store.purge-batch-size:500}")
+    private int purgeBatchSize = 500;
+
+    @Value("${jwt.refresh-store.purge-max-batches:20}")
+    private int purgeMaxBatches = 20;
+
+    @Value("${jwt.refresh-store.index-max-entries:100000}")
+    private int indexMaxEntries = 100000;
+
+    // ISO-8601 instant; empty = when this instance started
+    @Value("${jwt.refresh-store.legacy-issued-before:}")
+    private String legacyIssuedBefore = "";
+
+    private final Instant startedAt = Instant.now();
+
+    // jtiHash -> family/expiry, saves a SELECT when rotating or detecting reuse.
+    // Global, not per user. Once index-max-entries is reached nothing is evicted:
+    // new tokens are simply not indexed and their rotation / reuse check reads the
+    // row instead, until purgeExpired drops expired entries.
+    private final Map<String, IndexEntry> index = new ConcurrentHashMap<>();
+    private volatile boolean indexFullLogged;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, JwtService jwtService) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtService = jwtService;
+    }
+
+    /**
+     * Record a refresh token that starts a new rotation family (login / register)
+     */
+    public UUID register(String refreshToken, User user) {
+        UUID familyId = UUID.randomUUID();
+        register(refreshToken, user, familyId);
+        return familyId;
+    }
+
+    /**
+     * Record a refresh token minted by rotating a token of the given family
+     */
+    public void register(String refreshToken, User user, UUID familyId) {
+        Date expiration = jwtService.extractExpiration(refreshToken);
+        register(jwtService.extractTokenId(refreshToken), expiration.toInstant(), user, familyId);
+    }
+
+    /**
+     * Record a refresh token by its JTI and expiry, for callers that just minted it (no re-parse)
+     */
+    public void register(String tokenId, Instant expiration, User user, UUID familyId) {
+        String jtiHash = TokenDigest.sha256Hex(tokenId);
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(expiration, ZoneId.systemDefault());
+
+        refreshTokenRepository.save(new RefreshToken(jtiHash, familyId, user.getId(), expiresAt));
+        remember(jtiHash, new IndexEntry(familyId, expiration, false));
+
+        log.debug("Refresh token registered for family: {}", familyId);
+    }
+
+    /**
+     * Consume a refresh token.
+     * Returns the family to continue when this call won the single-use token,
+     * empty when the token was already used, revoked, expired or unknown.
+     * Reuse of an already consumed token revokes its whole family.
+     */
+    public Optional<UUID> rotate(String refreshToken) {
+        String jtiHash = TokenDigest.sha256Hex(jwtService.extractTokenId(refreshToken));
+
+        IndexEntry cached = index.get(jtiHash);
+        if (cached != null && cached.revoked()) {
+            log.warn("Refresh token reuse detected (cached), revoking family: {}", cached.familyId());
+            refreshTokenRepository.revokeFamily(cached.familyId());
+            return Optional.empty();
+        }
+
+        int consumed = refreshTokenRepository.consume(jtiHash, LocalDateTime.now());
+        Optional<UUID> familyId = resolveFamily(jtiHash, cached);
+
+        if (consumed == 1) {
+            familyId.ifPresent(family -> index.computeIfPresent(jtiHash,
+                (key, entry) -> new IndexEntry(entry.familyId(), entry.expiresAt(), true)));
+            return familyId;
+        }
+
+        if (familyId.isPresent()) {
+            log.warn("Refresh token reuse detected, revoking family: {}", familyId.get());
+            refreshTokenRepository.revokeFamily(familyId.get());
+        } else if (isLegacy(refreshToken)) {
+            return adoptLegacy(refreshToken, jtiHash);
+        } else {
+            log.warn("Unknown refresh token presented");
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * A token minted before the store existed: record it as already consumed, in a new
+     * family, so this refresh succeeds and a replay of it is caught as reuse like any other
+     */
+    private Optional<UUID> adoptLegacy(String refreshToken, String jtiHash) {
+        UUID familyId = UUID.randomUUID();
+        Instant expiration = jwtService.extractExpiration(refreshToken).toInstant();
+        RefreshToken row = new RefreshToken(jtiHash, familyId, UUID.fromString(jwtService.extractUserId(refreshToken)),
+                                            LocalDateTime.ofInstant(expiration, ZoneId.systemDefault()));
+        row.setRevoked(true);
+        try {
+            refreshTokenRepository.saveAndFlush(row);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent refresh adopted it first (unique jti_hash): this one is a reuse
+            refreshTokenRepository.findByJtiHash(jtiHash).map(RefreshToken::getFamilyId).ifPresent(winner -> {
+                log.warn("Legacy refresh token reuse detected, revoking family: {}", winner);
+                refreshTokenRepository.revokeFamily(winner);
+            });
+            return Optional.empty();
+        }
+        remember(jtiHash, new IndexEntry(familyId, expiration, true));
+        log.info("Legacy refresh token adopted into family: {}", familyId);
+        return Optional.of(familyId);
+    }
+
+    private boolean isLegacy(String refreshToken) {
+        Date issuedAt = jwtService.extractIssuedAt(refreshToken);
+        Instant cutoff = legacyIssuedBefore.isBlank() ? startedAt : Instant.parse(legacyIssuedBefore);
+        return issuedAt != null && issuedAt.toInstant().isBefore(cutoff);
+    }
+
+    /**
+     * Revoke the family of the given refresh token (logout)
+     */
+    public void revoke(String refreshToken) {
+        String jtiHash = TokenDigest.sha256Hex(jwtService.extractTokenId(refreshToken));
+        resolveFamily(jtiHash, index.get(jtiHash)).ifPresent(familyId -> {
+            int revoked = refreshTokenRepository.revokeFamily(familyId);
+            log.debug("Revoked {} refresh tokens of family: {}", revoked, familyId);
+        });
+        index.computeIfPresent(jtiHash,
+            (key, entry) -> new IndexEntry(entry.familyId(), entry.expiresAt(), true));
+    }
+
+    /**
+     * Delete expired rows in bounded batches so a single run never locks or scans the whole table
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-store.purge-interval-ms:300000}",
+               initialDelayString = "${jwt.refresh-store.purge-initial-delay-ms:60000}")
+    public int purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        int total = 0;
+
+        for (int batch = 0; batch < purgeMaxBatches; batch++) {
+            int deleted = refreshTokenRepository.deleteExpiredBatch(cutoff, purgeBatchSize);
+            total += deleted;
+            if (deleted < purgeBatchSize) {
+                break;
+            }
+        }
+
+        Instant now = Instant.now();
+        index.values().removeIf(entry -> entry.expiresAt().isBefore(now));
+        indexFullLogged = false;
+
+        if (total > 0) {
+            log.info("Purged {} expired refresh tokens", total);
+        }
+        return total;
+    }
+
+    private Optional<UUID> resolveFamily(String jtiHash, IndexEntry cached) {
+        if (cached != null) {
+            return Optional.of(cached.familyId());
+        }
+        return refreshTokenRepository.findByJtiHash(jtiHash).map(RefreshToken::getFamilyId);
+    }
+
+    private void remember(String jtiHash, IndexEntry entry) {
+        if (index.size() < indexMaxEntries) {
+            index.put(jtiHash, entry);
+        } else if (!indexFullLogged) {
+            indexFullLogged = true;
+            log.warn("Refresh token index full ({} entries): new tokens are checked against the database until the next purge",
+                     indexMaxEntries);
+        }
+    }
+
+    private record IndexEntry(UUID familyId, Instant expiresAt, boolean revoked) {
+    }
+}
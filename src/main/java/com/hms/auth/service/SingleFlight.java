@@ -0,0 +1,68 @@
+package com.hms.auth.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into one computation.
+ *
+ * The first caller runs the work on its own thread; callers arriving while it runs get
+ * the same result or the same exception. Nothing is kept once the flight completes, so
+ * the next caller runs the work again.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+    private final LongAdder shared = new LongAdder();
+
+    public V execute(K key, Supplier<V> work) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = flights.putIfAbsent(key, flight);
+        if (existing != null) {
+            shared.increment();
+            return await(existing);
+        }
+
+        V value;
+        try {
+            value = work.get();
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        // Leave the map before completing: a caller that finds this flight is still served
+        flights.remove(key, flight);
+        flight.complete(value);
+        return value;
+    }
+
+    /**
+     * Calls answered from another caller's computation
+     */
+    public long sharedCount() {
+        return shared.sum();
+    }
+
+    int size() {
+        return flights.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.hms.auth.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.hms.auth.dto.TokenResponse;
+import com.hms.auth.entity.User;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Single issuance path for register, login and refresh.
+ * Both tokens are minted from one clock read with the cached signing key,
+ * the refresh token is recorded from the JTI and expiry it was built with,
+ * and expiresIn is the (jittered) lifetime the access token was built with
+ * rather than parsed back out of the new token.
+ */
+@Service
+@Slf4j
+public class TokenIssuer {
+
+    private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
+
+    public TokenIssuer(JwtService jwtService, RefreshTokenService refreshTokenService) {
+        this.jwtService = jwtService;
+        this.refreshTokenService = refreshTokenService;
+    }
+
+    /**
+     * Issue tokens that start a new refresh family (register / login)
+     */
+    public IssuedTokens issue(User user) {
+        return issue(user, UUID.randomUUID());
+    }
+
+    /**
+     * Issue tokens continuing an existing refresh family (rotation)
+     */
+    public IssuedTokens issue(User user, UUID familyId) {
+        Instant now = Instant.now();
+        String tokenId = UUID.randomUUID().toString();
+
+        long accessLifetime = jwtService.nextAccessTokenLifetime();
+
+        String accessToken = jwtService.buildAccessToken(user, now, accessLifetime);
+        String refreshToken = jwtService.buildRefreshToken(user, tokenId, now);
+
+        // Same arithmetic the builder used, so no second clock read
+        Instant refreshExpiry = now.plusSeconds(jwtService.getRefreshTokenExpiration());
+        refreshTokenService.register(tokenId, refreshExpiry, user, familyId);
+
+        TokenResponse.UserInfo userInfo = new TokenResponse.UserInfo(
+            user.getId().toString(),
+            user.getEmail(),
+            user.getRole().name(),
+            user.getEnabled()
+        );
+
+        log.debug("Issued token pair for user: {} (family {})", user.getId(), familyId);
+        return new IssuedTokens(
+            new TokenResponse(accessToken, "Bearer", accessLifetime, userInfo),
+            refreshToken
+        );
+    }
+
+    /**
+     * Response body plus the refresh token that goes into the cookie
+     */
+    public record IssuedTokens(TokenResponse response, String refreshToken) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.hms.auth.service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.hms.auth.entity.User;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Refresh flow shared by both web stacks, coalesced per refresh token.
+ *
+ * Several tabs or a retrying client often present the same refresh token at once. Refresh
+ * tokens are single-use, so without coalescing every call but the first would look like a
+ * replay and revoke the whole family. Calls are keyed by the token's SHA-256 digest: the
+ * first one verifies, rotates and issues, the others arriving while it runs receive the
+ * same outcome and the same new tokens. Nothing is shared once the rotation completes, so
+ * any later presentation of the consumed token is a replay and triggers reuse detection.
+ */
+@Service
+public class TokenRefreshService {
+
+    private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
+    private final UserService userService;
+    private final TokenIssuer tokenIssuer;
+    private final SingleFlight<String, RefreshResult> flights;
+
+    public TokenRefreshService(JwtService jwtService, RefreshTokenService refreshTokenService,
+                               UserService userService, TokenIssuer tokenIssuer, MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.refreshTokenService = refreshTokenService;
+        this.userService = userService;
+        this.tokenIssuer = tokenIssuer;
+        this.flights = new SingleFlight<>();
+
+        FunctionCounter.builder("auth.refresh.coalesced", flights, SingleFlight::sharedCount)
+            .description("Refresh calls answered with the result of an identical concurrent call")
+            .register(meterRegistry);
+    }
+
+    public RefreshResult refresh(String refreshToken) {
+        return flights.execute(TokenDigest.sha256Hex(refreshToken), () -> rotate(refreshToken));
+    }
+
+    private RefreshResult rotate(String refreshToken) {
+        if (!jwtService.validateRefreshToken(refreshToken)) {
+            return RefreshResult.rejected("Invalid or expired refresh token");
+        }
+
+        // Single-use: consuming an already rotated token revokes its whole family
+        Optional<UUID> familyId = refreshTokenService.rotate(refreshToken);
+        if (familyId.isEmpty()) {
+            return RefreshResult.rejected("Refresh token has been revoked");
+        }
+
+        Optional<User> userOpt = userService.getUserByEmail(jwtService.extractEmail(refreshToken));
+        if (userOpt.isEmpty()) {
+            return RefreshResult.rejected("User not found");
+        }
+
+        User user = userOpt.get();
+        if (!user.getEnabled()) {
+            return RefreshResult.rejected("User account is disabled");
+        }
+        if (!userService.isTokenVersionCurrent(user, jwtService.extractTokenVersion(refreshToken))) {
+            return RefreshResult.rejected("Session has been revoked");
+        }
+
+        return RefreshResult.issued(tokenIssuer.issue(user, familyId.get()));
+    }
+
+    /**
+     * New tokens, or the reason the refresh was rejected (the cookie is cleared then)
+     */
+    public record RefreshResult(TokenIssuer.IssuedTokens tokens, String error) {
+
+        static RefreshResult issued(TokenIssuer.IssuedTokens tokens) {
+            return new RefreshResult(tokens, null);
+        }
+
+        static RefreshResult rejected(String error) {
+            return new RefreshResult(null, error);
+        }
+
+        public boolean isIssued() {
+            return tokens != null;
+        }
+    }
+}
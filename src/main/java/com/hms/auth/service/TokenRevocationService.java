@@ -0,0 +1,249 @@
+package com.hms.auth.service;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Off-heap set of revoked access tokens, backed by a memory-mapped file.
+ *
+ * Layout: a 64 byte header followed by a fixed open-addressing table of
+ * 16 byte slots [token hash | expiry epoch second]. The footprint is exactly
+ * {@code 64 + capacity * 16} bytes regardless of load, and entries stop
+ * matching once their token has expired, so no sweeper is needed: expired
+ * slots are simply reused by later inserts.
+ *
+ * Lookups are lock-free and allocation-free; inserts are serialized.
+ * The file lives in the page cache, so a restarted process re-maps the same
+ * entries without any database reload. It belongs in auth.data-dir, a persistent
+ * directory private to the service: a wiped or shared tmp directory would lose
+ * or expose revocations, so there is no tmp fallback and startup fails when
+ * neither auth.data-dir nor auth.revocation.file is set.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    private static final long MAGIC = 0x484D535245564B31L; // "HMSREVK1"
+    private static final int HEADER_BYTES = 64;
+    private static final int SLOT_BYTES = 16;
+    private static final int MAX_PROBES = 32;
+
+    private static final VarHandle LONGS =
+        MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final Path file;
+    private final int capacity;
+    private final int mask;
+    private final MappedByteBuffer table;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    @Autowired
+    public TokenRevocationService(
+            @Value("${auth.data-dir:}") String dataDir,
+            @Value("${auth.revocation.file:}") String file,
+            @Value("${auth.revocation.capacity:2097152}") int capacity) throws IOException {
+        this(resolveFile(dataDir, file), capacity);
+    }
+
+    TokenRevocationService(Path file, int capacity) throws IOException {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Revocation capacity must be a power of two: " + capacity);
+        }
+        this.file = file;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.table = map(file, capacity);
+
+        log.info("Token revocation set mapped: {} ({} slots, {} MB)",
+                 file, capacity, (HEADER_BYTES + (long) capacity * SLOT_BYTES) >> 20);
+    }
+
+    /**
+     * Revoke a token until its own expiry.
+     * Returns false when the probe window is full (table undersized).
+     */
+    public boolean revoke(String token, Instant expiresAt) {
+        long key = hash(token);
+        long expiry = expiresAt.getEpochSecond();
+        long now = Instant.now().getEpochSecond();
+
+        writeLock.lock();
+        try {
+            int reusable = -1;
+            int slot = spread(key);
+            for (int probe = 0; probe < MAX_PROBES; probe++, slot = (slot + 1) & mask) {
+                int offset = offset(slot);
+                long slotKey = (long) LONGS.getAcquire(table, offset);
+
+                if (slotKey == key) {
+                    long current = (long) LONGS.getAcquire(table, offset + 8);
+                    LONGS.setRelease(table, offset + 8, Math.max(current, expiry));
+                    return true;
+                }
+                if (reusable < 0 && (slotKey == 0 || (long) LONGS.getAcquire(table, offset + 8) <= now)) {
+                    reusable = offset;
+                }
+                if (slotKey == 0) {
+                    break;
+                }
+            }
+
+            if (reusable < 0) {
+                log.warn("Token revocation set probe window full - increase auth.revocation.capacity");
+                return false;
+            }
+
+            // expiry first, then key: a reader that sees the key also sees its expiry
+            LONGS.setRelease(table, reusable + 8, expiry);
+            LONGS.setRelease(table, reusable, key);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Check whether a token has been revoked and has not yet expired
+     */
+    public boolean isRevoked(String token) {
+        long key = hash(token);
+        long now = System.currentTimeMillis() / 1000;
+
+        int slot = spread(key);
+        for (int probe = 0; probe < MAX_PROBES; probe++, slot = (slot + 1) & mask) {
+            int offset = offset(slot);
+            long slotKey = (long) LONGS.getAcquire(table, offset);
+            if (slotKey == 0) {
+                return false;
+            }
+            if (slotKey == key) {
+                return (long) LONGS.getAcquire(table, offset + 8) > now;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Count live (revoked and unexpired) entries - walks the whole table, for diagnostics only
+     */
+    public int size() {
+        long now = Instant.now().getEpochSecond();
+        int live = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            int offset = offset(slot);
+            if ((long) LONGS.getAcquire(table, offset) != 0
+                    && (long) LONGS.getAcquire(table, offset + 8) > now) {
+                live++;
+            }
+        }
+        return live;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @PreDestroy
+    public void flush() {
+        table.force();
+        log.debug("Token revocation set flushed to {}", file);
+    }
+
+    /**
+     * 64-bit FNV-1a over the signature segment of the JWT, finished with a murmur3 mix.
+     * The signature alone identifies the token and keeps the loop short.
+     */
+    static long hash(String token) {
+        int start = token.lastIndexOf('.') + 1;
+        long h = 0xcbf29ce484222325L;
+        for (int i = start; i < token.length(); i++) {
+            h ^= token.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h; // 0 marks an empty slot
+    }
+
+    private int spread(long key) {
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+
+    private static int offset(int slot) {
+        return HEADER_BYTES + slot * SLOT_BYTES;
+    }
+
+    static Path resolveFile(String dataDir, String file) {
+        if (!file.isBlank()) {
+            return Path.of(file);
+        }
+        if (dataDir.isBlank()) {
+            throw new IllegalStateException(
+                "auth.data-dir (AUTH_DATA_DIR) must point to a persistent directory for the revocation file");
+        }
+        return Path.of(dataDir, "revocations.bin");
+    }
+
+    private static MappedByteBuffer map(Path file, int capacity) throws IOException {
+        long size = HEADER_BYTES + (long) capacity * SLOT_BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Revocation capacity too large for a single mapping: " + capacity);
+        }
+        Path dir = file.toAbsolutePath().getParent();
+        if (!Files.isDirectory(dir)) {
+            // Owner-only where supported: other local users must not read or rewrite revocations
+            if (dir.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+                Files.createDirectories(dir, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            } else {
+                Files.createDirectories(dir);
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long existing = channel.size();
+            boolean reuse = existing == size;
+            if (existing > size) {
+                channel.truncate(size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.nativeOrder());
+
+            if (reuse && buffer.getLong(0) == MAGIC && buffer.getInt(8) == capacity) {
+                return buffer;
+            }
+
+            // Layout change: start from an empty table (a new file is already zero-filled)
+            if (existing != 0) {
+                log.warn("Revocation file {} has an incompatible layout, reinitializing", file);
+                for (long offset = 0; offset < size; offset += 8) {
+                    buffer.putLong((int) offset, 0L);
+                }
+            }
+            buffer.putLong(0, MAGIC);
+            buffer.putInt(8, capacity);
+            buffer.force();
+            return buffer;
+        }
+    }
+}
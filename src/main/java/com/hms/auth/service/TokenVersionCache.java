@@ -0,0 +1,55 @@
+package com.hms.auth.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived cache of each user's current token version, keyed by user id.
+ * Lets the filter reject tokens minted before a "log out everywhere" without
+ * touching the database. Only tokens older than the cached version may be
+ * rejected from here: a newer one means this entry is behind (a bump on another
+ * instance, picked up once the entry expires) and goes to the database check.
+ */
+@Component
+public class TokenVersionCache {
+
+    @Value("${auth.token-version.cache-ttl-seconds:30}")
+    private long ttlSeconds = 30;
+
+    @Value("${auth.token-version.cache-max-entries:50000}")
+    private int maxEntries = 50000;
+
+    private final Map<String, Entry> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Cached version for the user, or null when unknown or stale
+     */
+    public Integer get(String userId) {
+        Entry entry = versions.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.loadedAt() > ttlSeconds * 1_000_000_000L) {
+            versions.remove(userId, entry);
+            return null;
+        }
+        return entry.version();
+    }
+
+    public void put(String userId, int version) {
+        if (versions.size() >= maxEntries && !versions.containsKey(userId)) {
+            versions.clear(); // crude bound - entries are cheap to reload
+        }
+        versions.put(userId, new Entry(version, System.nanoTime()));
+    }
+
+    public void invalidate(String userId) {
+        versions.remove(userId);
+    }
+
+    private record Entry(int version, long loadedAt) {
+    }
+}
@@ -1,16 +1,30 @@
 package com.hms.auth.service;
 
 import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.hms.auth.config.AsyncConfig;
 import com.hms.auth.entity.User;
 import com.hms.auth.entity.UserRole;
+import com.hms.auth.jfr.UserLookupEvent;
+import com.hms.auth.logging.LogFields;
+import com.hms.auth.logging.LogSampler;
 import com.hms.auth.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -24,8 +38,22 @@ public class UserService {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenVersionCache tokenVersionCache;
+    private final NegativeCache negativeCache;
+
+    // Async work: blocking JDBC on the user task executor, BCrypt on the bounded hashing pool
+    @Autowired
+    @Qualifier(AsyncConfig.USER_TASK_EXECUTOR)
+    private Executor userTaskExecutor;
+
+    @Autowired
+    @Qualifier(AsyncConfig.PASSWORD_HASHING_EXECUTOR)
+    private Executor passwordHashingExecutor;
     
     // Email validation regex pattern
+    // Failed logins come in bursts (credential stuffing); each still shows up in metrics
+    private static final LogSampler FAILED_LOGIN_LOG = LogSampler.perSecond(10);
+
     private static final Pattern EMAIL_PATTERN = Pattern.compile(
         "^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$"
     );
@@ -55,8 +83,44 @@ public class UserService {
 
     public User registerUser(String email, String rawPassword , UserRole role) throws IllegalArgumentException {
 
-        log.info("Registering user with email: {}", email);
+        log.atDebug().addKeyValue("user", LogFields.email(email)).log("Registering user");
+
+        validateRegistration(email, rawPassword);
+        ensureEmailAvailable(email);
+
+        return saveNewUser(email, passwordEncoder.encode(rawPassword), role);
+    }
+
+    /**
+     * Register without holding the caller's thread: duplicate check and insert on the
+     * user task executor, BCrypt on the hashing pool
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<User> registerUserAsync(String email, String rawPassword, UserRole role) {
+        return registerUserAsync(email, rawPassword, role, userTaskExecutor, passwordHashingExecutor);
+    }
+
+    /**
+     * Register with the caller's executors for the JDBC and BCrypt stages (reactive schedulers)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<User> registerUserAsync(String email, String rawPassword, UserRole role,
+                                                     Executor jdbcExecutor, Executor hashingExecutor) {
+        log.atDebug().addKeyValue("user", LogFields.email(email)).log("Registering user");
+
+        try {
+            validateRegistration(email, rawPassword);
+
+            return CompletableFuture
+                .runAsync(() -> ensureEmailAvailable(email), jdbcExecutor)
+                .thenApplyAsync(ignored -> passwordEncoder.encode(rawPassword), hashingExecutor)
+                .thenApplyAsync(encodedPassword -> saveNewUser(email, encodedPassword, role), jdbcExecutor);
+        } catch (IllegalArgumentException | RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
+    private void validateRegistration(String email, String rawPassword) {
         // Validate email format
         if (!isValidEmail(email)) {
             throw new IllegalArgumentException("Invalid email format: " + email);
@@ -66,15 +130,18 @@ public class UserService {
         if (!isValidPassword(rawPassword)) {
             throw new IllegalArgumentException("Password must be at least 8 characters and contain uppercase, lowercase and digit");
         }
+    }
 
+    private void ensureEmailAvailable(String email) {
         if(userRepository.existsByEmail(email.toLowerCase())){
             throw new IllegalArgumentException("User with email already exists: " + email);
         }
+    }
 
-        String encodedPassword = passwordEncoder.encode(rawPassword);
-
+    private User saveNewUser(String email, String encodedPassword, UserRole role) {
         User user = new User(email.toLowerCase(), encodedPassword, role);
         User savedUser = userRepository.save(user);
+        negativeCache.forgetEmail(email);
 
         log.info("User registered successfully with id: {}", savedUser.getId());
 
@@ -83,18 +150,77 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public Optional<User> getUserByEmail(String email){
-        log.info("Fetching user by email: {}", email);
+        log.atDebug().addKeyValue("user", LogFields.email(email)).log("Fetching user by email");
 
         if(email == null || email.trim().isEmpty()){
             throw new IllegalArgumentException("Email cannot be null or empty");
         }
-        return userRepository.findByEmail(email.toLowerCase());
+        return lookupByEmail(email);
     }
 
     @Transactional(readOnly = true)
     public Optional<User> authenticateUser(String email, String rawPassword){
-        log.info("Authenticating user with email: {}", email);
+        log.atDebug().addKeyValue("user", LogFields.email(email)).log("Authenticating user");
 
+        validateCredentials(email, rawPassword);
+
+        Optional<User> foundUser = lookupEnabledByEmail(email);
+        return checkPassword(email, rawPassword, foundUser);
+    }
+
+    /**
+     * Authenticate without holding the caller's thread: lookup on the user task
+     * executor, BCrypt compare on the hashing pool
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Optional<User>> authenticateUserAsync(String email, String rawPassword) {
+        return authenticateUserAsync(email, rawPassword, userTaskExecutor, passwordHashingExecutor);
+    }
+
+    /**
+     * Authenticate with the caller's executors for the lookup and the BCrypt compare (reactive schedulers)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Optional<User>> authenticateUserAsync(String email, String rawPassword,
+                                                                   Executor jdbcExecutor, Executor hashingExecutor) {
+        log.atDebug().addKeyValue("user", LogFields.email(email)).log("Authenticating user");
+
+        try {
+            validateCredentials(email, rawPassword);
+
+            return CompletableFuture
+                .supplyAsync(() -> lookupEnabledByEmail(email), jdbcExecutor)
+                .thenApplyAsync(foundUser -> checkPassword(email, rawPassword, foundUser), hashingExecutor);
+        } catch (IllegalArgumentException | RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private Optional<User> lookupByEmail(String email) {
+        return lookup("findByEmail", () -> userRepository.findByEmail(email.toLowerCase()));
+    }
+
+    private Optional<User> lookupEnabledByEmail(String email) {
+        return lookup("findByEmailAndEnabled", () -> userRepository.findByEmailAndEnabled(email.toLowerCase()));
+    }
+
+    /**
+     * Run a single-user repository query inside a UserLookup JFR event (no key recorded)
+     */
+    private Optional<User> lookup(String query, Supplier<Optional<User>> finder) {
+        UserLookupEvent event = new UserLookupEvent();
+        event.begin();
+        Optional<User> user = finder.get();
+        event.end();
+        if (event.shouldCommit()) {
+            event.query = query;
+            event.found = user.isPresent();
+            event.commit();
+        }
+        return user;
+    }
+
+    private void validateCredentials(String email, String rawPassword) {
         if(email == null || email.trim().isEmpty()){
             throw new IllegalArgumentException("Email cannot be null or empty");
         }
@@ -102,27 +228,37 @@ public class UserService {
         if(rawPassword == null || rawPassword.isEmpty()){
             throw new IllegalArgumentException("Password cannot be null or empty");
         }
+    }
 
-        Optional<User> foundUser = userRepository.findByEmailAndEnabled(email.toLowerCase());
-
+    private Optional<User> checkPassword(String email, String rawPassword, Optional<User> foundUser) {
         if(foundUser.isEmpty()){
-            log.warn("User not found or disabled: {}", email);
+            logFailedLogin(email, "unknown_or_disabled");
             return Optional.empty();
         }
 
         if(!passwordEncoder.matches(rawPassword, foundUser.get().getPassword())){
-            log.warn("Invalid password for user: {}", email);
+            logFailedLogin(email, "bad_password");
             return Optional.empty();
         }
 
-        log.info("User authenticated successfully: {}", email);
+        log.atDebug().addKeyValue("user", LogFields.email(email)).log("User authenticated successfully");
         return Optional.of(foundUser.get());
     }
 
+    private static void logFailedLogin(String email, String reason) {
+        if (log.isWarnEnabled() && FAILED_LOGIN_LOG.tryAcquire()) {
+            log.atWarn()
+                .addKeyValue("user", LogFields.email(email))
+                .addKeyValue("reason", reason)
+                .addKeyValue("suppressed", FAILED_LOGIN_LOG.takeSuppressed())
+                .log("Login failed");
+        }
+    }
+
     public void enableUser(String email){
-        log.info("Enabling user with email: {}", email);
+        log.atInfo().addKeyValue("user", LogFields.email(email)).log("Enabling user");
 
-        Optional<User> foundUser = userRepository.findByEmail(email.toLowerCase());
+        Optional<User> foundUser = lookupByEmail(email);
 
         if(foundUser.isEmpty()){
             throw new IllegalArgumentException("User not found: " + email);
@@ -132,16 +268,16 @@ public class UserService {
         user.setEnabled(true);
         userRepository.save(user);
 
-        log.info("User enabled successfully: {}", email);
+        log.atInfo().addKeyValue("user", LogFields.email(email)).log("User enabled successfully");
     }
     
     /**
      * Disable a user account
      */
     public void disableUser(String email) {
-        log.info("Disabling user with email: {}", email);
+        log.atInfo().addKeyValue("user", LogFields.email(email)).log("Disabling user");
 
-        Optional<User> foundUser = userRepository.findByEmail(email.toLowerCase());
+        Optional<User> foundUser = lookupByEmail(email);
 
         if(foundUser.isEmpty()){
             throw new IllegalArgumentException("User not found: " + email);
@@ -149,22 +285,24 @@ public class UserService {
 
         User user = foundUser.get();
         user.setEnabled(false);
+        user.setTokenVersion(user.getTokenVersion() + 1);
         userRepository.save(user);
+        tokenVersionCache.put(user.getId().toString(), user.getTokenVersion());
 
-        log.info("User disabled successfully: {}", email);
+        log.atInfo().addKeyValue("user", LogFields.email(email)).log("User disabled successfully");
     }
     
     /**
      * Update user password
      */
     public void updatePassword(String email, String newPassword) {
-        log.info("Updating password for user: {}", email);
+        log.atInfo().addKeyValue("user", LogFields.email(email)).log("Updating password");
         
         if (!isValidPassword(newPassword)) {
             throw new IllegalArgumentException("Password must be at least 8 characters and contain uppercase, lowercase and digit");
         }
         
-        Optional<User> foundUser = userRepository.findByEmail(email.toLowerCase());
+        Optional<User> foundUser = lookupByEmail(email);
         
         if(foundUser.isEmpty()){
             throw new IllegalArgumentException("User not found: " + email);
@@ -173,10 +311,45 @@ public class UserService {
         User user = foundUser.get();
         user.setPassword(passwordEncoder.encode(newPassword));
         user.setUpdatedAt(LocalDateTime.now());
+        user.setTokenVersion(user.getTokenVersion() + 1);
         userRepository.save(user);
+        tokenVersionCache.put(user.getId().toString(), user.getTokenVersion());
         
-        log.info("Password updated successfully for user: {}", email);
+        log.atInfo().addKeyValue("user", LogFields.email(email)).log("Password updated successfully");
+    }
+
+    /**
+     * Invalidate every access and refresh token of a user ("log out everywhere")
+     */
+    public void revokeAllSessions(String email) {
+        log.atInfo().addKeyValue("user", LogFields.email(email)).log("Revoking all sessions");
+
+        Optional<User> foundUser = lookupByEmail(email);
+
+        if(foundUser.isEmpty()){
+            throw new IllegalArgumentException("User not found: " + email);
+        }
+
+        User user = foundUser.get();
+        userRepository.incrementTokenVersion(user.getId());
+        // The UPDATE computed the new version in SQL; the loaded entity may already be behind
+        // (a concurrent revoke or password change), so drop the entry and let the next check reload it
+        tokenVersionCache.invalidate(user.getId().toString());
+
+        log.atInfo().addKeyValue("user", LogFields.email(email)).log("All sessions revoked");
+    }
+
+    /**
+     * Check a token's version claim against the user's current version. Compares the
+     * loaded user only, so it opts out of the class-level transaction: joining one took
+     * a second pooled connection per authenticated request in the JWT filter
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean isTokenVersionCurrent(User user, int tokenVersion) {
+        tokenVersionCache.put(user.getId().toString(), user.getTokenVersion());
+        return user.getTokenVersion() == tokenVersion;
     }
+
     
     /**
      * Get total user count
@@ -191,8 +364,16 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
-        log.info("Finding user by email: {}", email);
-        return userRepository.findByEmail(email.toLowerCase());
+        log.atDebug().addKeyValue("user", LogFields.email(email)).log("Finding user by email");
+        return lookupByEmail(email);
+    }
+    
+    /**
+     * Find user by id
+     */
+    @Transactional(readOnly = true)
+    public Optional<User> findById(UUID id) {
+        return lookup("findById", () -> userRepository.findById(id));
     }
     
     /**
@@ -209,6 +390,21 @@ public class UserService {
         }
     }
     
+    /**
+     * All dashboard counts from one grouped query, instead of one query (and one
+     * connection checkout without open-in-view) per count
+     */
+    @Transactional(readOnly = true)
+    public UserCounts countUsers() {
+        Map<UserRole, Long> byRole = new EnumMap<>(UserRole.class);
+        long active = 0;
+        for (UserRepository.RoleCount count : userRepository.countGroupedByRole()) {
+            byRole.put(count.getRole(), count.getTotal());
+            active += count.getEnabled();
+        }
+        return new UserCounts(byRole, active);
+    }
+
     /**
      * Count active (enabled) users
      */
@@ -230,4 +426,18 @@ public class UserService {
             return List.of();
         }
     }
+
+    /**
+     * Users per role and enabled users, as read by countUsers()
+     */
+    public record UserCounts(Map<UserRole, Long> byRole, long active) {
+
+        public long total() {
+            return byRole.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        public long of(UserRole role) {
+            return byRole.getOrDefault(role, 0L);
+        }
+    }
 }
@@ -0,0 +1,18 @@
+-- Server-side refresh token store (hashed JTI, rotation families, revocation)
+CREATE TABLE refresh_tokens (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    jti_hash VARCHAR(64) NOT NULL UNIQUE,
+    family_id UUID NOT NULL,
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    expires_at TIMESTAMP NOT NULL,
+    revoked BOOLEAN NOT NULL DEFAULT false,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Family revocation on reuse detection
+CREATE INDEX idx_refresh_tokens_family_id ON refresh_tokens(family_id);
+
+-- Bounded purge of expired rows walks this index instead of scanning the table
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens(expires_at);
+
+CREATE INDEX idx_refresh_tokens_user_id ON refresh_tokens(user_id);
@@ -0,0 +1,2 @@
+-- Per-user token version: bumping it invalidates every outstanding access and refresh token
+ALTER TABLE users ADD COLUMN token_version INTEGER NOT NULL DEFAULT 0;
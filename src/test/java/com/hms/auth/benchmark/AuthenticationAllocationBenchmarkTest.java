@@ -0,0 +1,76 @@
+package com.hms.auth.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+
+import com.hms.auth.config.UserAuthentication;
+
+/**
+ * Bytes allocated per request to put the authenticated user into the security context:
+ * the previous UsernamePasswordAuthenticationToken path vs UserAuthentication.
+ * Measured with the per-thread allocation counter of the HotSpot ThreadMXBean.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=AuthenticationAllocationBenchmarkTest
+ */
+@Tag("benchmark")
+class AuthenticationAllocationBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 200_000;
+    private static final int MEASURED_ROUNDS = 1_000_000;
+
+    private final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void compareAllocationPerRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/profile");
+        request.setRemoteAddr("10.0.0.1");
+        String email = "alloc@example.com";
+        String role = "PATIENT";
+
+        Runnable previous = () -> {
+            List<GrantedAuthority> authorities = new ArrayList<>();
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
+            UsernamePasswordAuthenticationToken token = new UsernamePasswordAuthenticationToken(email, null, authorities);
+            token.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(token);
+            SecurityContextHolder.clearContext();
+        };
+        Runnable current = () -> {
+            SecurityContextHolder.getContext().setAuthentication(UserAuthentication.of(email, role));
+            SecurityContextHolder.clearContext();
+        };
+
+        double previousBytes = bytesPerRound(previous);
+        double currentBytes = bytesPerRound(current);
+
+        System.out.printf("UsernamePasswordAuthenticationToken %6.1f bytes/request%n", previousBytes);
+        System.out.printf("UserAuthentication                  %6.1f bytes/request%n", currentBytes);
+        assertTrue(currentBytes < previousBytes);
+    }
+
+    private double bytesPerRound(Runnable round) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round.run();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            round.run();
+        }
+        return (double) (threads.getThreadAllocatedBytes(threadId) - before) / MEASURED_ROUNDS;
+    }
+}
@@ -0,0 +1,190 @@
+package com.hms.auth.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.hms.auth.HmsAuthServiceApplication;
+import com.hms.auth.entity.User;
+import com.hms.auth.entity.UserRole;
+import com.hms.auth.service.JwtService;
+import com.hms.auth.service.UserService;
+
+/**
+ * Thread-pool vs virtual-thread vs reactive (WebFlux) request execution at 1k, 5k and
+ * 10k concurrent clients. Each client repeatedly calls GET /api/profile with a bearer
+ * token, which runs the JWT filter and a JDBC user lookup per request.
+ *
+ * Besides throughput and latency, each run reports peak live threads and heap growth
+ * per connection (sampled in-process, so the client's share is included in every mode).
+ *
+ * The virtual-thread run needs a Java 21 runtime and is skipped otherwise.
+ * Client counts can be overridden with -Dloadtest.clients=1000,5000,10000.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=ConcurrencyModeLoadTest
+ */
+@Tag("benchmark")
+class ConcurrencyModeLoadTest {
+
+    private static final int REQUESTS_PER_CLIENT = 5;
+
+    @Test
+    void compareThreadPoolAndVirtualThreads() throws Exception {
+        int[] clientCounts = Arrays.stream(System.getProperty("loadtest.clients", "1000,5000,10000").split(","))
+            .mapToInt(value -> Integer.parseInt(value.trim()))
+            .toArray();
+
+        List<String> report = new ArrayList<>(run("thread-pool", "servlet", false, clientCounts));
+        if (Runtime.version().feature() >= 21) {
+            report.addAll(run("virtual", "servlet", true, clientCounts));
+        } else {
+            report.add("virtual threads skipped: Java " + Runtime.version().feature() + " runtime (build with -Pjava21)");
+        }
+        report.addAll(run("reactive", "reactive", false, clientCounts));
+        report.forEach(System.out::println);
+    }
+
+    private List<String> run(String mode, String webStack, boolean virtualThreads, int[] clientCounts) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(HmsAuthServiceApplication.class)
+                // command-line arguments: default properties would lose to application.yaml
+                .run(
+                    "--server.port=0",
+                    "--spring.main.web-application-type=" + webStack,
+                    "--server.tomcat.max-connections=20000",
+                    "--server.tomcat.accept-count=20000",
+                    "--spring.threads.virtual.enabled=" + virtualThreads,
+                    "--auth.grpc.enabled=false",
+                    "--jwt.access-token-expiration=3600",
+                    "--auth.concurrency-limit.enabled=false",   // measure the stack, not the shedding or queueing
+                    "--auth.admission.enabled=false",
+                    "--logging.level.com.hms.auth=WARN")) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            User user = context.getBean(UserService.class)
+                .registerUser("load-" + UUID.randomUUID() + "@example.com", "LoadTest1!", UserRole.PATIENT);
+            String token = context.getBean(JwtService.class).generateAccessToken(user);
+
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/profile"))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+            // warm-up
+            HttpClient warmup = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            for (int i = 0; i < 200; i++) {
+                assertEquals(200, warmup.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+            }
+
+            List<String> lines = new ArrayList<>();
+            for (int clients : clientCounts) {
+                lines.add(String.format("%-11s %s", mode, load(request, clients)));
+            }
+            return lines;
+        }
+    }
+
+    private String load(HttpRequest request, int clients) throws InterruptedException {
+        HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(30)).build();
+        AtomicInteger ok = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        long[] latencies = new long[clients * REQUESTS_PER_CLIENT];
+        AtomicInteger index = new AtomicInteger();
+
+        System.gc();
+        ResourceSampler sampler = new ResourceSampler();
+        sampler.start();
+
+        long start = System.nanoTime();
+        CompletableFuture<?>[] chains = new CompletableFuture<?>[clients];
+        for (int c = 0; c < clients; c++) {
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                chain = chain.thenCompose(ignored -> {
+                    long sent = System.nanoTime();
+                    return http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .handle((response, error) -> {
+                            latencies[index.getAndIncrement()] = System.nanoTime() - sent;
+                            if (error == null && response.statusCode() == 200) {
+                                ok.incrementAndGet();
+                            } else {
+                                failed.incrementAndGet();
+                            }
+                            return null;
+                        });
+                });
+            }
+            chains[c] = chain;
+        }
+        CompletableFuture.allOf(chains).join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        sampler.stop();
+
+        long[] recorded = Arrays.copyOf(latencies, index.get());
+        Arrays.sort(recorded);
+        return String.format("clients=%-6d ok=%-6d failed=%-5d throughput=%,8.0f req/s p50=%7.1fms p99=%7.1fms "
+                             + "p99.9=%7.1fms threads=%-5d heap/conn=%,6.1fKB",
+                             clients, ok.get(), failed.get(), ok.get() / seconds,
+                             recorded[recorded.length / 2] / 1e6, recorded[recorded.length * 99 / 100] / 1e6,
+                             recorded[recorded.length * 999 / 1000] / 1e6,
+                             sampler.peakThreads, sampler.heapGrowthBytes() / 1024.0 / clients);
+    }
+
+    /**
+     * Samples live threads and heap use while a load step runs
+     */
+    private static final class ResourceSampler {
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        private final long baselineHeap = memory.getHeapMemoryUsage().getUsed();
+        private volatile boolean running = true;
+        private volatile long peakHeap;
+        private volatile int peakThreads;
+        private Thread thread;
+
+        void start() {
+            thread = new Thread(() -> {
+                while (running) {
+                    peakHeap = Math.max(peakHeap, memory.getHeapMemoryUsage().getUsed());
+                    peakThreads = Math.max(peakThreads, threads.getThreadCount());
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }, "load-sampler");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        void stop() throws InterruptedException {
+            running = false;
+            thread.join();
+        }
+
+        long heapGrowthBytes() {
+            return Math.max(0, peakHeap - baselineHeap);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.hms.auth.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hms.auth.entity.User;
+import com.hms.auth.entity.UserRole;
+import com.hms.auth.logging.LogFields;
+import com.hms.auth.service.JwtService;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+
+/**
+ * Request throughput of the JWT check path with logging at the production level
+ * (com.hms.auth at INFO, written to a file):
+ *
+ * - valid tokens: the previous INFO line with the raw email per lookup, synchronous
+ *   and behind the AsyncAppender, vs the DEBUG key/value line that is now skipped
+ * - forged tokens: one WARN per request vs the sampled verification-failure line
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=LoggingThroughputBenchmarkTest
+ */
+@Tag("benchmark")
+class LoggingThroughputBenchmarkTest {
+
+    private static final int THREADS = 4;
+    private static final int WARMUP_REQUESTS = 20_000;
+    private static final int MEASURED_REQUESTS = 100_000;
+    private static final String PATTERN = "%d %-5level [%thread] %logger{36} - %msg %kvp%n";
+
+    @TempDir
+    Path logDir;
+
+    private final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+    @Test
+    void compareLoggingModes() throws Exception {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "jwtSecret", "myVerySecretKeyForTestingPurposesOnly123456789");
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", 3600L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", 604800L);
+
+        User user = new User("bench@example.com", "encoded", UserRole.PATIENT);
+        user.setId(UUID.randomUUID());
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        String token = jwtService.generateAccessToken(user);
+        String forged = token.substring(0, token.length() - 4) + "AAAA";
+
+        // The "request logger" stands in for the lines UserService / JwtService used to write
+        Logger requestLog = context.getLogger("com.hms.auth.benchmark.request");
+        Logger jwtLog = context.getLogger(JwtService.class);
+
+        Runnable oldValid = () -> {
+            jwtService.verifyAccessToken(token);
+            requestLog.info("Finding user by email: {}", user.getEmail());
+        };
+        Runnable newValid = () -> {
+            jwtService.verifyAccessToken(token);
+            requestLog.atDebug().addKeyValue("user", LogFields.email(user.getEmail())).log("Finding user by email");
+        };
+        Runnable oldForged = () -> {
+            if (jwtService.verifyAccessToken(forged).isEmpty()) {
+                requestLog.warn("Invalid JWT token: {}", "JWT signature does not match locally computed signature");
+            }
+        };
+        Runnable newForged = () -> jwtService.verifyAccessToken(forged);
+
+        List<String> lines = new ArrayList<>();
+        try {
+            lines.add(measure("valid, INFO line, sync", requestLog, jwtLog, false, Level.OFF, oldValid));
+            lines.add(measure("valid, INFO line, async", requestLog, jwtLog, true, Level.OFF, oldValid));
+            lines.add(measure("valid, DEBUG kv line, sync", requestLog, jwtLog, false, Level.OFF, newValid));
+            lines.add(measure("forged, WARN per request, sync", requestLog, jwtLog, false, Level.OFF, oldForged));
+            lines.add(measure("forged, sampled WARN, sync", requestLog, jwtLog, false, Level.WARN, newForged));
+        } finally {
+            jwtLog.setLevel(null);
+        }
+        lines.forEach(System.out::println);
+    }
+
+    private String measure(String name, Logger requestLog, Logger jwtLog, boolean async, Level jwtLevel,
+                           Runnable request) throws Exception {
+        Appender<ILoggingEvent> appender = appender(name.replaceAll("[^a-z]+", "-") + ".log", async);
+        for (Logger logger : List.of(requestLog, jwtLog)) {
+            logger.detachAndStopAllAppenders();
+            logger.setAdditive(false);
+            logger.addAppender(appender);
+        }
+        requestLog.setLevel(Level.INFO);
+        jwtLog.setLevel(jwtLevel);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            run(pool, request, WARMUP_REQUESTS);
+            long start = System.nanoTime();
+            run(pool, request, MEASURED_REQUESTS);
+            long elapsed = System.nanoTime() - start;
+            return String.format("%-32s %9.0f req/s", name, MEASURED_REQUESTS * 1e9 / elapsed);
+        } finally {
+            pool.shutdown();
+            requestLog.detachAndStopAllAppenders();
+            jwtLog.detachAndStopAllAppenders();
+        }
+    }
+
+    private Appender<ILoggingEvent> appender(String fileName, boolean async) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(logDir.resolve(fileName).toString());
+        file.setEncoder(encoder);
+        file.start();
+        if (!async) {
+            return file;
+        }
+
+        AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.addAppender(file);
+        asyncAppender.start();
+        return asyncAppender;
+    }
+
+    private static void run(ExecutorService pool, Runnable request, int requests) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(pool.submit(() -> {
+                for (int i = 0; i < requests / THREADS; i++) {
+                    request.run();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        assertTrue(futures.stream().allMatch(Future::isDone));
+    }
+}
@@ -0,0 +1,151 @@
+package com.hms.auth.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.hms.auth.HmsAuthServiceApplication;
+import com.hms.auth.entity.User;
+import com.hms.auth.entity.UserRole;
+import com.hms.auth.service.JwtService;
+import com.hms.auth.service.UserService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+/**
+ * Open-session-in-view on vs off with a deliberately small pool (5 connections) and
+ * more Tomcat threads than connections. Clients call GET /api/doctor/dashboard, which
+ * runs one grouped count query and renders a JSON dashboard.
+ *
+ * Open-in-view keeps the EntityManager open until the response is written; whether it also
+ * pins the connection depends on Hibernate's connection handling mode, which checkouts/req
+ * and the auth.db.connection.wait / .hold p99 of the endpoint make visible. The JWT filter's
+ * user lookup is a separate checkout, tagged "filter" and reported next to it. Reported per
+ * mode along with throughput and p99 latency.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=OpenInViewLoadTest
+ */
+@Tag("benchmark")
+class OpenInViewLoadTest {
+
+    private static final String ENDPOINT = "/api/doctor/dashboard";
+    private static final int CLIENTS = 200;
+    private static final int REQUESTS_PER_CLIENT = 20;
+
+    @Test
+    void compareOpenInViewOnAndOff() throws Exception {
+        run(true); // JIT warm-up for both modes, otherwise the second run always wins
+        List<String> report = new ArrayList<>();
+        report.add(run(true));
+        report.add(run(false));
+        report.forEach(System.out::println);
+    }
+
+    private String run(boolean openInView) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(HmsAuthServiceApplication.class)
+                // command-line arguments: default properties would lose to application.yaml
+                .run(
+                    "--server.port=0",
+                    "--spring.jpa.open-in-view=" + openInView,
+                    "--spring.datasource.hikari.maximum-pool-size=5",
+                    "--spring.datasource.hikari.connection-timeout=30000",
+                    "--server.tomcat.threads.max=50",
+                    "--auth.grpc.enabled=false",
+                    "--auth.warmup.enabled=false",
+                    "--jwt.access-token-expiration=3600",
+                    "--auth.concurrency-limit.enabled=false",   // measure the stack, not the shedding or queueing
+                    "--auth.admission.enabled=false",
+                    "--logging.level.com.hms.auth=WARN")) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            User doctor = context.getBean(UserService.class)
+                .registerUser("osiv-" + UUID.randomUUID() + "@example.com", "LoadTest1!", UserRole.DOCTOR);
+            String token = context.getBean(JwtService.class).generateAccessToken(doctor);
+
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + ENDPOINT))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+            HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            // warm-up; percentiles decay over a 2 minute window, so they are dominated by the load below
+            for (int i = 0; i < 300; i++) {
+                assertEquals(200, http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+            }
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            Timer wait = meterRegistry.get("auth.db.connection.wait").tag("uri", ENDPOINT).timer();
+            Timer hold = meterRegistry.get("auth.db.connection.hold").tag("uri", ENDPOINT).timer();
+            Timer filterHold = meterRegistry.get("auth.db.connection.hold").tag("uri", "filter").timer();
+            long checkoutsBefore = hold.count();
+            long filterCheckoutsBefore = filterHold.count();
+
+            AtomicInteger ok = new AtomicInteger();
+            AtomicInteger failed = new AtomicInteger();
+            long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+            AtomicInteger index = new AtomicInteger();
+
+            long start = System.nanoTime();
+            CompletableFuture<?>[] chains = new CompletableFuture<?>[CLIENTS];
+            for (int c = 0; c < CLIENTS; c++) {
+                CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+                for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                    chain = chain.thenCompose(ignored -> {
+                        long sent = System.nanoTime();
+                        return http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                            .handle((response, error) -> {
+                                latencies[index.getAndIncrement()] = System.nanoTime() - sent;
+                                if (error == null && response.statusCode() == 200) {
+                                    ok.incrementAndGet();
+                                } else {
+                                    failed.incrementAndGet();
+                                }
+                                return null;
+                            });
+                    });
+                }
+                chains[c] = chain;
+            }
+            CompletableFuture.allOf(chains).join();
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            long[] recorded = Arrays.copyOf(latencies, index.get());
+            Arrays.sort(recorded);
+            return String.format("open-in-view=%-5s ok=%-6d failed=%-4d throughput=%,7.0f req/s p99=%7.1fms "
+                                 + "checkouts/req=%.1f (+%.1f in the filter) wait p99=%6.2fms hold p99=%6.2fms",
+                                 openInView, ok.get(), failed.get(), ok.get() / seconds,
+                                 recorded[recorded.length * 99 / 100] / 1e6,
+                                 (double) (hold.count() - checkoutsBefore) / ok.get(),
+                                 (double) (filterHold.count() - filterCheckoutsBefore) / ok.get(),
+                                 p99Millis(wait), p99Millis(hold));
+        }
+    }
+
+    private static double p99Millis(Timer timer) {
+        for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+            if (value.percentile() == 0.99) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return Double.NaN;
+    }
+}
@@ -0,0 +1,207 @@
+package com.hms.auth.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+
+import com.hms.auth.HmsAuthServiceApplication;
+import com.hms.auth.entity.User;
+import com.hms.auth.entity.UserRole;
+import com.hms.auth.service.JwtService;
+import com.hms.auth.service.UserService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+/**
+ * Role-priority admission under a growing patient load. A fixed group of doctor clients calls
+ * GET /api/doctor/dashboard while patient clients call GET /api/patient/dashboard, first at the
+ * base patient count, then at three times that. Every client sends its next request as soon as
+ * the previous one returns, or after Retry-After when shed, for a fixed duration.
+ *
+ * Admission capacity is kept small so the patient load saturates it. Patients weigh less than
+ * queue-min-weight, so at capacity they are shed rather than parked on request threads. The
+ * tripled load also runs with admission off for contrast. Each run reports doctor p99, patient
+ * p99 and how many patient requests were shed with 503. The concurrency limiter is disabled to
+ * isolate admission.
+ *
+ * Client counts and duration can be overridden with -Dloadtest.doctors=10,
+ * -Dloadtest.patients=40 and -Dloadtest.seconds=10.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=PriorityAdmissionLoadTest
+ */
+@Tag("benchmark")
+class PriorityAdmissionLoadTest {
+
+    private static final int DOCTORS = Integer.getInteger("loadtest.doctors", 10);
+    private static final int PATIENTS = Integer.getInteger("loadtest.patients", 40);
+    private static final long SECONDS = Long.getLong("loadtest.seconds", 10);
+
+    @Test
+    void doctorLatencyUnderTriplingPatientLoad() throws Exception {
+        run(true, PATIENTS, 3); // JIT warm-up, otherwise the first measured run pays for compilation
+        List<String> report = new ArrayList<>();
+        Result base = run(true, PATIENTS, SECONDS);
+        Result tripled = run(true, PATIENTS * 3, SECONDS);
+        Result unprotected = run(false, PATIENTS * 3, SECONDS);
+        report.add(base.describe());
+        report.add(tripled.describe());
+        report.add(unprotected.describe());
+        report.add(String.format("doctor p99 growth with admission: x%.2f, without: x%.2f",
+                                 tripled.doctorP99() / base.doctorP99(), unprotected.doctorP99() / base.doctorP99()));
+        report.forEach(System.out::println);
+
+        assertEquals(0, base.doctorFailed());
+        assertEquals(0, tripled.doctorFailed());
+    }
+
+    private Result run(boolean admission, int patients, long seconds) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(HmsAuthServiceApplication.class)
+                // command-line arguments: default properties would lose to application.yaml
+                .run(
+                    "--server.port=0",
+                    "--server.tomcat.threads.max=200",
+                    "--server.tomcat.max-connections=2000",
+                    "--auth.admission.enabled=" + admission,
+                    "--auth.admission.capacity=4",
+                    "--auth.admission.queue-capacity=64",
+                    "--auth.admission.queue-min-weight=2",
+                    "--auth.admission.max-wait=5s",
+                    "--auth.concurrency-limit.enabled=false",
+                    "--auth.grpc.enabled=false",
+                    "--auth.warmup.enabled=false",
+                    "--jwt.access-token-expiration=3600",
+                    "--jwt.access-token-jitter=0",
+                    "--logging.level.com.hms.auth=WARN")) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            UserService userService = context.getBean(UserService.class);
+            JwtService jwtService = context.getBean(JwtService.class);
+            User doctor = userService.registerUser("adm-doc-" + UUID.randomUUID() + "@example.com", "LoadTest1!", UserRole.DOCTOR);
+            User patient = userService.registerUser("adm-pat-" + UUID.randomUUID() + "@example.com", "LoadTest1!", UserRole.PATIENT);
+
+            HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            HttpRequest doctorRequest = request(port, "/api/doctor/dashboard", jwtService.generateAccessToken(doctor));
+            HttpRequest patientRequest = request(port, "/api/patient/dashboard", jwtService.generateAccessToken(patient));
+
+            Stats doctorStats = new Stats();
+            Stats patientStats = new Stats();
+            long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+            CompletableFuture<?>[] clients = new CompletableFuture<?>[DOCTORS + patients];
+            for (int c = 0; c < clients.length; c++) {
+                boolean isDoctor = c < DOCTORS;
+                clients[c] = loop(http, isDoctor ? doctorRequest : patientRequest,
+                                  isDoctor ? doctorStats : patientStats, deadline);
+            }
+            CompletableFuture.allOf(clients).join();
+
+            Timer doctorWait = context.getBean(MeterRegistry.class).get("auth.admission.wait").tag("role", "doctor").timer();
+            return new Result(admission, patients, doctorStats, patientStats, p99Millis(doctorWait));
+        }
+    }
+
+    /**
+     * One closed-loop client: the next request goes out when the previous one returns, or after
+     * Retry-After when it was shed
+     */
+    private static CompletableFuture<Void> loop(HttpClient http, HttpRequest request, Stats stats, long deadline) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long sent = System.nanoTime();
+        return http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .handle((response, error) -> {
+                int status = error == null ? response.statusCode() : -1;
+                stats.record(status, System.nanoTime() - sent);
+                return status != 503 ? 0L
+                    : response.headers().firstValueAsLong(HttpHeaders.RETRY_AFTER).orElse(1L);
+            })
+            .thenCompose(retryAfter -> CompletableFuture.supplyAsync(
+                () -> null, CompletableFuture.delayedExecutor(retryAfter, TimeUnit.SECONDS)))
+            .thenCompose(ignored -> loop(http, request, stats, deadline));
+    }
+
+    private static double p99Millis(Timer timer) {
+        for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+            if (value.percentile() == 0.99) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static HttpRequest request(int port, String path, String token) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+            .header("Authorization", "Bearer " + token)
+            .timeout(Duration.ofSeconds(60))
+            .GET()
+            .build();
+    }
+
+    private static final class Stats {
+
+        private final ConcurrentLinkedQueue<Long> okLatencies = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger shed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+
+        void record(int status, long latencyNanos) {
+            if (status == 200) {
+                okLatencies.add(latencyNanos);
+            } else if (status == 503) {
+                shed.incrementAndGet();
+            } else {
+                failed.incrementAndGet();
+            }
+        }
+
+        double p99Millis() {
+            long[] sorted = okLatencies.stream().mapToLong(Long::longValue).toArray();
+            if (sorted.length == 0) {
+                return Double.NaN;
+            }
+            Arrays.sort(sorted);
+            return sorted[sorted.length * 99 / 100] / 1e6;
+        }
+    }
+
+    private record Result(boolean admission, int patients, Stats doctors, Stats patientStats, double doctorWaitP99) {
+
+        double doctorP99() {
+            return doctors.p99Millis();
+        }
+
+        int doctorFailed() {
+            return doctors.shed.get() + doctors.failed.get();
+        }
+
+        String describe() {
+            return String.format("admission=%-5s patients=%-4d doctor ok=%-6d p99=%7.1fms queue p99=%7.1fms failed=%-4d | "
+                                 + "patient ok=%-6d p99=%7.1fms shed=%-5d failed=%d",
+                                 admission, patients,
+                                 doctors.okLatencies.size(), doctors.p99Millis(), doctorWaitP99, doctorFailed(),
+                                 patientStats.okLatencies.size(), patientStats.p99Millis(),
+                                 patientStats.shed.get(), patientStats.failed.get());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.hms.auth.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.hms.auth.config.RouteTable;
+import com.hms.auth.entity.UserRole;
+
+/**
+ * Cost of deciding whether a path is public, with 120 configured routes:
+ * the route table trie vs the old linear startsWith scan vs a list of Spring
+ * PathPatterns (what a chain of requestMatchers evaluates).
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=RouteMatchingBenchmarkTest
+ */
+@Tag("benchmark")
+class RouteMatchingBenchmarkTest {
+
+    private static final int SERVICES = 30;
+    private static final int WARMUP_ROUNDS = 200_000;
+    private static final int MEASURED_ROUNDS = 2_000_000;
+
+    @Test
+    void compareMatchers() {
+        List<String> publicPatterns = new ArrayList<>();
+        RouteTable.Builder builder = RouteTable.builder();
+        for (int i = 0; i < SERVICES; i++) {
+            String base = "/api/service-" + i;
+            publicPatterns.add(base + "/public/**");
+            publicPatterns.add(base + "/health");
+            builder.permitAll(base + "/public/**", base + "/health")
+                   .authenticated(base + "/profile/**")
+                   .hasRole(UserRole.values()[i % UserRole.values().length], base + "/admin/**");
+        }
+        RouteTable routeTable = builder.build();
+        assertTrue(routeTable.getRoutes().size() >= 100);
+
+        String[] prefixes = publicPatterns.stream()
+            .map(pattern -> pattern.endsWith("/**") ? pattern.substring(0, pattern.length() - 3) : pattern)
+            .toArray(String[]::new);
+        PathPatternParser parser = new PathPatternParser();
+        List<PathPattern> pathPatterns = publicPatterns.stream().map(parser::parse).toList();
+
+        // Mix of hits early and late in the list, and misses that scan everything
+        String[] paths = {
+            "/api/service-0/health",
+            "/api/service-29/public/docs/index",
+            "/api/service-15/profile/me",
+            "/api/service-7/admin/users/42",
+            "/api/unknown/resource",
+            "/api/service-22/health"
+        };
+
+        report("trie", paths, routeTable::isPublic);
+        report("linear startsWith", paths, path -> {
+            for (String prefix : prefixes) {
+                if (path.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+        report("PathPattern list", paths, path -> {
+            PathContainer container = PathContainer.parsePath(path);
+            for (PathPattern pattern : pathPatterns) {
+                if (pattern.matches(container)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+
+        // All three agree on the exact-match and subtree cases
+        assertTrue(routeTable.isPublic("/api/service-29/public/docs/index"));
+        assertFalse(routeTable.isPublic("/api/service-15/profile/me"));
+    }
+
+    private static void report(String name, String[] paths, Predicate<String> matcher) {
+        int sink = run(paths, matcher, WARMUP_ROUNDS);
+
+        long start = System.nanoTime();
+        sink += run(paths, matcher, MEASURED_ROUNDS);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%-18s %7.1f ns/lookup (sink %d)%n",
+                          name, (double) elapsed / MEASURED_ROUNDS, sink);
+    }
+
+    private static int run(String[] paths, Predicate<String> matcher, int rounds) {
+        int hits = 0;
+        for (int i = 0; i < rounds; i++) {
+            if (matcher.test(paths[i % paths.length])) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,139 @@
+package com.hms.auth.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.hms.auth.entity.User;
+import com.hms.auth.entity.UserRole;
+import com.hms.auth.grpc.GrpcServerLifecycle;
+import com.hms.auth.grpc.TokenCheckClient;
+import com.hms.auth.service.JwtService;
+import com.hms.auth.service.UserService;
+
+/**
+ * REST introspection vs gRPC ValidateToken, same token, same verification path.
+ * Both sides hit the introspection result cache after the first call, so the
+ * numbers compare transport and serialization cost.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=TokenCheckBenchmarkTest
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "jwt.access-token-expiration=3600",   // outlive the run under the test profile
+    "auth.grpc.enabled=true",
+    "logging.level.com.hms.auth=INFO"     // debug logging would dominate the hot path
+})
+class TokenCheckBenchmarkTest {
+
+    private static final int WARMUP_CALLS = 2_000;
+    private static final int MEASURED_CALLS = 20_000;
+    private static final int CLIENT_THREADS = 16;
+
+    @LocalServerPort
+    private int httpPort;
+
+    @Autowired
+    private GrpcServerLifecycle grpcServer;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Test
+    void compareRestAndGrpc() throws Exception {
+        User user = userService.registerUser("bench-" + UUID.randomUUID() + "@example.com", "Benchmark1!", UserRole.PATIENT);
+        String token = jwtService.generateAccessToken(user);
+
+        HttpClient http = HttpClient.newHttpClient();
+        HttpRequest restRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + httpPort + "/api/auth/v1/introspect"))
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .header("Authorization", "Basic " + Base64.getEncoder()
+                .encodeToString("gateway:test-introspection-secret".getBytes(StandardCharsets.UTF_8)))
+            .POST(HttpRequest.BodyPublishers.ofString("token=" + URLEncoder.encode(token, StandardCharsets.UTF_8)))
+            .build();
+
+        try (TokenCheckClient grpc = TokenCheckClient.forAddress("localhost", grpcServer.getPort(),
+                                                                   "gateway", "test-introspection-secret")) {
+            Callable<Boolean> restCall = () -> http.send(restRequest, HttpResponse.BodyHandlers.ofString())
+                .body().contains("\"active\":true");
+            Callable<Boolean> grpcCall = () -> grpc.validate(token).getActive();
+
+            Result rest = measure("REST introspect", restCall);
+            Result rpc = measure("gRPC ValidateToken", grpcCall);
+
+            System.out.println(rest);
+            System.out.println(rpc);
+            assertTrue(rest.callsPerSecond() > 0 && rpc.callsPerSecond() > 0);
+        }
+    }
+
+    private Result measure(String name, Callable<Boolean> call) throws Exception {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            assertTrue(call.call(), name + " returned an inactive result");
+        }
+
+        // Latency: single caller
+        long[] latencies = new long[MEASURED_CALLS];
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            long start = System.nanoTime();
+            call.call();
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+
+        // Throughput: concurrent callers
+        ExecutorService pool = Executors.newFixedThreadPool(CLIENT_THREADS);
+        try {
+            int perThread = MEASURED_CALLS / CLIENT_THREADS;
+            List<Future<?>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int t = 0; t < CLIENT_THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        call.call();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            return new Result(name, latencies[MEASURED_CALLS / 2], latencies[MEASURED_CALLS * 99 / 100],
+                              perThread * CLIENT_THREADS / seconds);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private record Result(String name, long p50Nanos, long p99Nanos, double callsPerSecond) {
+        @Override
+        public String toString() {
+            return String.format("%-20s p50=%7.1fus p99=%7.1fus throughput=%,.0f calls/s (%d threads)",
+                                 name, p50Nanos / 1e3, p99Nanos / 1e3, callsPerSecond, CLIENT_THREADS);
+        }
+    }
+}
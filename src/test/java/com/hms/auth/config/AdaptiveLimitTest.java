@@ -0,0 +1,86 @@
+package com.hms.auth.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AdaptiveLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveLimit limit;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limit = new AdaptiveLimit("reads", new AdaptiveLimit.Settings(4, 2, 8, Duration.ofMillis(100), 0.5),
+                                  meterRegistry);
+    }
+
+    @Test
+    void testTryAcquire_LimitReached_ShouldRejectAndCount() {
+        // Act
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limit.tryAcquire());
+        }
+        boolean fifth = limit.tryAcquire();
+
+        // Assert
+        assertFalse(fifth);
+        assertEquals(4, limit.getInFlight());
+        assertEquals(1.0, meterRegistry.get("auth.concurrency.rejected").tag("class", "reads").counter().count());
+        assertEquals(4.0, meterRegistry.get("auth.concurrency.limit").tag("class", "reads").gauge().value());
+    }
+
+    @Test
+    void testUpdate_SlowCompletions_ShouldBackOffOncePerIntervalDownToMin() {
+        // Arrange
+        long now = System.nanoTime();
+
+        // Act + Assert
+        limit.update(SLOW, false, 4, now);
+        assertEquals(2, limit.getLimit());
+
+        limit.update(SLOW, false, 4, now + 1);
+        assertEquals(2, limit.getLimit(), "a burst of slow completions is one signal");
+
+        limit.update(SLOW, false, 4, now + INTERVAL);
+        assertEquals(2, limit.getLimit(), "never below min-limit");
+    }
+
+    @Test
+    void testUpdate_OverloadedCompletion_ShouldBackOffEvenWhenFast() {
+        // Act
+        limit.update(FAST, true, 4, System.nanoTime());
+
+        // Assert
+        assertEquals(2, limit.getLimit());
+    }
+
+    @Test
+    void testUpdate_FastCompletions_ShouldGrowOnlyWhileLimitIsInUse() {
+        // Act - idle: one request in flight out of four
+        for (int i = 0; i < 100; i++) {
+            limit.update(FAST, false, 1, System.nanoTime());
+        }
+        int idle = limit.getLimit();
+
+        // Busy: the limit is fully used
+        for (int i = 0; i < 100; i++) {
+            limit.update(FAST, false, limit.getLimit(), System.nanoTime());
+        }
+
+        // Assert
+        assertEquals(4, idle);
+        assertEquals(8, limit.getLimit(), "grows additively up to max-limit");
+    }
+}
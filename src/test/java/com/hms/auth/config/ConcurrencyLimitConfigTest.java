@@ -0,0 +1,39 @@
+package com.hms.auth.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimitConfigTest {
+
+    @Test
+    void testBoundedByWorkers_QueueWouldParkMostWorkers_ShouldLowerQueueCapacity() {
+        // Arrange
+        PriorityAdmission.Settings settings = settings(20, 256);
+
+        // Act
+        PriorityAdmission.Settings bounded = ConcurrencyLimitConfig.boundedByWorkers(settings, 200);
+
+        // Assert - 20 admitted + 80 waiters leave half of the 200 workers free
+        assertEquals(80, bounded.queueCapacity());
+        assertEquals(20, bounded.capacity());
+        assertEquals(settings.maxWait(), bounded.maxWait());
+    }
+
+    @Test
+    void testBoundedByWorkers_QueueWithinBound_ShouldKeepSettings() {
+        // Arrange
+        PriorityAdmission.Settings settings = settings(20, 64);
+
+        // Act & Assert
+        assertSame(settings, ConcurrencyLimitConfig.boundedByWorkers(settings, 200));
+        assertEquals(0, ConcurrencyLimitConfig.boundedByWorkers(settings, 10).queueCapacity());
+    }
+
+    private static PriorityAdmission.Settings settings(int capacity, int queueCapacity) {
+        return new PriorityAdmission.Settings(true, capacity, queueCapacity, 2, Duration.ofSeconds(2), 1, Map.of());
+    }
+}
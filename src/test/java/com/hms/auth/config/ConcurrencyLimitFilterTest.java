@@ -0,0 +1,117 @@
+package com.hms.auth.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hms.auth.config.ConcurrencyLimits.EndpointClass;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class ConcurrencyLimitFilterTest {
+
+    private ConcurrencyLimits limits;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AdaptiveLimit.Settings single = new AdaptiveLimit.Settings(1, 1, 1, Duration.ofSeconds(1), 0.9);
+        limits = ConcurrencyLimits.builder()
+            .retryAfterSeconds(2)
+            .limit(EndpointClass.CREDENTIALS, new AdaptiveLimit("credentials", single, meterRegistry),
+                   "/api/auth/v1/login")
+            .limit(EndpointClass.REFRESH, new AdaptiveLimit("refresh", single, meterRegistry),
+                   "/api/auth/v1/refresh-token")
+            .limit(EndpointClass.READS, new AdaptiveLimit("reads", single, meterRegistry), "/api/profile/**")
+            .build();
+        filter = new ConcurrencyLimitFilter(limits, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    void testFilter_LimitReached_ShouldReject503WithRetryAfter() throws Exception {
+        // Arrange - the only credentials permit is taken
+        assertTrue(limits.getLimit(EndpointClass.CREDENTIALS).tryAcquire());
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("POST", "/api/auth/v1/login"), response, chain);
+
+        // Assert
+        assertNull(chain.getRequest());
+        assertEquals(503, response.getStatus());
+        assertEquals("2", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(response.getContentAsString().contains("Server is busy"));
+    }
+
+    @Test
+    void testFilter_SeparateClasses_ShouldNotShareLimits() throws Exception {
+        // Arrange - credentials saturated
+        assertTrue(limits.getLimit(EndpointClass.CREDENTIALS).tryAcquire());
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request("GET", "/api/profile"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+        assertEquals(0, limits.getLimit(EndpointClass.READS).getInFlight(), "permit returned after the chain");
+    }
+
+    @Test
+    void testFilter_WriteOnReadPathOrUnlistedPath_ShouldNotBeLimited() throws Exception {
+        // Arrange
+        assertTrue(limits.getLimit(EndpointClass.READS).tryAcquire());
+
+        // Act + Assert
+        for (MockHttpServletRequest request : new MockHttpServletRequest[] {
+                request("POST", "/api/profile/sessions/revoke"), request("GET", "/actuator/health")}) {
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            assertNotNull(chain.getRequest(), request.getRequestURI());
+        }
+    }
+
+    @Test
+    void testFilter_AsyncRequest_ShouldHoldPermitUntilComplete() throws Exception {
+        // Arrange - the handler starts async processing (login on the hashing pool)
+        MockHttpServletRequest request = request("POST", "/api/auth/v1/login");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                req.startAsync();
+            }
+        });
+
+        // Act
+        filter.doFilter(request, response, chain);
+        int inFlightDuringAsync = limits.getLimit(EndpointClass.CREDENTIALS).getInFlight();
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+
+        // Assert
+        assertEquals(1, inFlightDuringAsync);
+        assertEquals(0, limits.getLimit(EndpointClass.CREDENTIALS).getInFlight());
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+}
@@ -0,0 +1,86 @@
+package com.hms.auth.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConnectionTimingDataSourceTest {
+
+    private Connection connection;
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionTimingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = mock(Connection.class);
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenReturn(connection);
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ConnectionTimingDataSource(pool, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testGetConnection_InHandler_ShouldTimeWaitAndHoldByPattern() throws SQLException {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/doctor/dashboard");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/doctor/dashboard");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // Act
+        Connection timed = dataSource.getConnection();
+        timed.isValid(1);
+        timed.close();
+        timed.close();
+
+        // Assert
+        verify(connection).isValid(1);
+        verify(connection, times(2)).close();
+        assertEquals(1, meterRegistry.get("auth.db.connection.wait").tag("uri", "/api/doctor/dashboard").timer().count());
+        assertEquals(1, meterRegistry.get("auth.db.connection.hold").tag("uri", "/api/doctor/dashboard").timer().count());
+    }
+
+    @Test
+    void testGetConnection_BeforeHandlerMapping_ShouldTagFilter() throws SQLException {
+        // Arrange
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        // Act
+        dataSource.getConnection().close();
+
+        // Assert
+        assertEquals(1, meterRegistry.get("auth.db.connection.hold").tag("uri", ConnectionTimingDataSource.FILTER).timer().count());
+    }
+
+    @Test
+    void testGetConnection_OutsideRequest_ShouldTagNoneAndExposeTarget() throws SQLException {
+        // Act
+        Connection timed = dataSource.getConnection();
+
+        // Assert
+        assertSame(connection, ((ConnectionProxy) timed).getTargetConnection());
+        assertEquals(timed, timed);
+        assertNotEquals(timed, connection);
+        assertEquals(1, meterRegistry.get("auth.db.connection.wait").tag("uri", ConnectionTimingDataSource.NONE).timer().count());
+        assertEquals(0, meterRegistry.get("auth.db.connection.hold").tag("uri", ConnectionTimingDataSource.NONE).timer().count());
+    }
+}
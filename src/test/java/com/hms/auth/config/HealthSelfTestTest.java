@@ -0,0 +1,150 @@
+package com.hms.auth.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hms.auth.service.JwtService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class HealthSelfTestTest {
+
+    private JwtService jwtService;
+    private DataSource dataSource;
+    private Connection connection;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "jwtSecret", "myVerySecretKeyForTestingPurposesOnly123456789");
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", 3600L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", 604800L);
+
+        connection = mock(Connection.class);
+        dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testHealth_BeforeFirstRun_ShouldBeUnknown() {
+        HealthSelfTest selfTest = new HealthSelfTest(jwtService, dataSource, meterRegistry);
+
+        assertEquals(Status.UNKNOWN, selfTest.jwtHealth().getStatus());
+        assertEquals(Status.UNKNOWN, selfTest.databaseHealth().getStatus());
+    }
+
+    @Test
+    void testRun_Healthy_ShouldCacheUpWithLatencies() throws SQLException {
+        // Arrange
+        when(connection.isValid(anyInt())).thenReturn(true);
+        HealthSelfTest selfTest = new HealthSelfTest(jwtService, dataSource, meterRegistry);
+
+        // Act
+        selfTest.run();
+        Health jwt = selfTest.jwtHealth();
+        Health database = selfTest.databaseHealth();
+
+        // Assert
+        assertEquals(Status.UP, jwt.getStatus());
+        assertTrue(jwt.getDetails().containsKey("signMicros"));
+        assertTrue(jwt.getDetails().containsKey("verifyMicros"));
+        assertEquals(Status.UP, database.getStatus());
+        assertTrue(database.getDetails().containsKey("pingMicros"));
+
+        // Probes only read the cache
+        assertSame(jwt, selfTest.jwtHealth());
+        verify(dataSource, times(1)).getConnection();
+        assertEquals(1, meterRegistry.get("auth.health.self_test").tag("check", "jwt_sign").timer().count());
+    }
+
+    @Test
+    void testRun_TokenDoesNotVerify_ShouldBeDown() throws SQLException {
+        // Arrange
+        JwtService brokenJwtService = mock(JwtService.class);
+        when(brokenJwtService.generateAccessToken(any())).thenReturn("token");
+        when(brokenJwtService.verifyAccessToken("token")).thenReturn(Optional.empty());
+        when(connection.isValid(anyInt())).thenReturn(true);
+        HealthSelfTest selfTest = new HealthSelfTest(brokenJwtService, dataSource, meterRegistry);
+
+        // Act
+        selfTest.run();
+
+        // Assert
+        assertEquals(Status.DOWN, selfTest.jwtHealth().getStatus());
+        assertEquals(Status.UP, selfTest.databaseHealth().getStatus());
+    }
+
+    @Test
+    void testRun_DatabaseUnavailable_ShouldBeDown() throws SQLException {
+        // Arrange
+        when(dataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+        HealthSelfTest selfTest = new HealthSelfTest(jwtService, dataSource, meterRegistry);
+
+        // Act
+        selfTest.run();
+
+        // Assert
+        assertEquals(Status.UP, selfTest.jwtHealth().getStatus());
+        assertEquals(Status.DOWN, selfTest.databaseHealth().getStatus());
+    }
+
+    @Test
+    void testHealth_StaleResult_ShouldBeDown() throws Exception {
+        // Arrange
+        when(connection.isValid(anyInt())).thenReturn(true);
+        HealthSelfTest selfTest = new HealthSelfTest(jwtService, dataSource, meterRegistry);
+        ReflectionTestUtils.setField(selfTest, "staleAfterMs", 0L);
+        selfTest.run();
+
+        // Act
+        Thread.sleep(5);
+
+        // Assert
+        assertEquals(Status.DOWN, selfTest.jwtHealth().getStatus());
+        assertEquals("Self-test result is stale", selfTest.databaseHealth().getDetails().get("error"));
+    }
+
+    @Test
+    void testStart_StuckDatabasePing_ShouldNotDelayJwtCheck() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        when(connection.isValid(anyInt())).thenAnswer(invocation -> release.await(5, TimeUnit.SECONDS));
+        HealthSelfTest selfTest = new HealthSelfTest(jwtService, dataSource, meterRegistry);
+        ReflectionTestUtils.setField(selfTest, "intervalMs", 10L);
+
+        try {
+            // Act
+            selfTest.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (meterRegistry.get("auth.health.self_test").tag("check", "jwt_sign").timer().count() < 3
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            // Assert
+            assertTrue(meterRegistry.get("auth.health.self_test").tag("check", "jwt_sign").timer().count() >= 3);
+            assertEquals(Status.UP, selfTest.jwtHealth().getStatus());
+            assertEquals(Status.UNKNOWN, selfTest.databaseHealth().getStatus());
+        } finally {
+            release.countDown();
+            selfTest.stop();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.hms.auth.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class JfrRecordingEndpointTest {
+
+    @TempDir
+    Path dataDir;
+
+    private JfrRecordingEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new JfrRecordingEndpoint(60, 16, dataDir.resolve("jfr").toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.closeRecording();
+    }
+
+    @Test
+    void testStart_ShouldCapDurationAndReportRunning() {
+        // Act
+        Map<String, Object> status = endpoint.start(3600, null);
+
+        // Assert
+        assertEquals("RUNNING", status.get("state"));
+        assertEquals(Duration.ofSeconds(60), status.get("duration"));
+        assertEquals(16L * 1024 * 1024, status.get("maxSizeBytes"));
+    }
+
+    @Test
+    void testStart_UnknownSettings_ShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> endpoint.start(10, "no-such-settings"));
+        assertEquals("NONE", endpoint.status().get("state"));
+    }
+
+    @Test
+    void testDump_ShouldContainPasswordEvents() throws Exception {
+        // Arrange
+        InstrumentedPasswordEncoder encoder = new InstrumentedPasswordEncoder(new BCryptPasswordEncoder(4), 4);
+        endpoint.start(30, "default");
+        String hash = encoder.encode("secret");
+        encoder.matches("wrong", hash);
+
+        // Act
+        Resource dump = endpoint.dump();
+
+        // Assert
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump.getFile().toPath());
+        RecordedEvent hashEvent = events.stream()
+            .filter(event -> event.getEventType().getName().equals("com.hms.auth.PasswordHash"))
+            .findFirst().orElseThrow();
+        RecordedEvent matchEvent = events.stream()
+            .filter(event -> event.getEventType().getName().equals("com.hms.auth.PasswordMatch"))
+            .findFirst().orElseThrow();
+        assertEquals(4, hashEvent.getInt("cost"));
+        assertFalse(matchEvent.getBoolean("matched"));
+        assertTrue(matchEvent.getDuration().toNanos() > 0);
+    }
+
+    @Test
+    void testDump_ShouldBeOwnerOnlyAndLeaveOutEnvironment() throws Exception {
+        // Arrange
+        endpoint.start(30, "default");
+
+        // Act
+        Path dump = endpoint.dump().getFile().toPath();
+
+        // Assert
+        if (dump.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(dump.getParent())));
+            assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(dump)));
+        }
+        assertTrue(RecordingFile.readAllEvents(dump).stream()
+            .noneMatch(event -> JfrRecordingEndpoint.SECRET_BEARING_EVENTS.contains(event.getEventType().getName())));
+    }
+
+    @Test
+    void testDump_WithoutRecording_ShouldFail() {
+        assertThrows(IllegalStateException.class, () -> endpoint.dump());
+    }
+
+    @Test
+    void testStop_ShouldKeepRecordingForDump() {
+        // Arrange
+        endpoint.start(30, null);
+
+        // Act
+        Map<String, Object> status = endpoint.stop();
+
+        // Assert
+        assertEquals("STOPPED", status.get("state"));
+        assertTrue(endpoint.dump().exists());
+    }
+}
@@ -0,0 +1,315 @@
+package com.hms.auth.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hms.auth.dto.CurrentUser;
+import com.hms.auth.entity.User;
+import com.hms.auth.entity.UserRole;
+import com.hms.auth.service.JwtService;
+import com.hms.auth.service.NegativeCache;
+import com.hms.auth.service.TokenRevocationService;
+import com.hms.auth.service.TokenVersionCache;
+import com.hms.auth.service.UserService;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private TokenVersionCache tokenVersionCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtAuthenticationFilter filter;
+    private User testUser;
+    private Claims claims;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = filter(admission(false, 0, Duration.ZERO));
+
+        testUser = new User("test@example.com", "encodedPassword", UserRole.PATIENT);
+        testUser.setId(UUID.randomUUID());
+        claims = Jwts.claims()
+            .subject("test@example.com")
+            .add("userId", testUser.getId().toString())
+            .add("role", "PATIENT")
+            .expiration(new Date(System.currentTimeMillis() + 60000))
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testFilter_ValidToken_ShouldAuthenticateAndTimeEveryStage() throws Exception {
+        // Arrange
+        when(jwtService.verifyAccessToken("good.token")).thenReturn(Optional.of(claims));
+        when(userService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userService.isTokenVersionCurrent(testUser, 0)).thenReturn(true);
+        MockHttpServletRequest request = request("/api/profile", "good.token");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertEquals("test@example.com", SecurityContextHolder.getContext().getAuthentication().getName());
+        assertEquals(CurrentUser.of(testUser), request.getAttribute("currentUser"));
+        for (String stage : new String[] {"extraction", "verification", "claims", "user_lookup", "context", "total"}) {
+            assertEquals(1, timer(stage, "ok").count(), stage);
+        }
+    }
+
+    @Test
+    void testFilter_TokenAboutToExpire_ShouldSetRefreshHint() throws Exception {
+        // Arrange
+        when(jwtService.verifyAccessToken("good.token")).thenReturn(Optional.of(claims));
+        when(jwtService.refreshHintSeconds(claims)).thenReturn(OptionalLong.of(17));
+        when(userService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userService.isTokenVersionCurrent(testUser, 0)).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("/api/profile", "good.token"), response, new MockFilterChain());
+
+        // Assert
+        assertEquals("17", response.getHeader(JwtService.REFRESH_HINT_HEADER));
+    }
+
+    @Test
+    void testFilter_PublicEndpoint_ShouldOnlyRecordTotal() throws Exception {
+        // Act
+        filter.doFilter(request("/api/auth/v1/login", "any.token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertEquals(1, timer("total", "public").count());
+        assertNull(meterRegistry.find("auth.filter.stage").tag("stage", "extraction").timer());
+        verifyNoInteractions(jwtService);
+    }
+
+    @Test
+    void testFilter_MissingToken_ShouldTagMissing() throws Exception {
+        // Act
+        filter.doFilter(request("/api/profile", null), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertEquals(1, timer("extraction", "missing").count());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void testFilter_InvalidToken_ShouldTagInvalidAndContinueChain() throws Exception {
+        // Arrange
+        when(jwtService.verifyAccessToken("forged.token")).thenReturn(Optional.empty());
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request("/api/profile", "forged.token"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+        assertEquals(1, timer("verification", "invalid").count());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void testFilter_DisabledUser_ShouldTagDisabled() throws Exception {
+        // Arrange
+        testUser.setEnabled(false);
+        when(jwtService.verifyAccessToken("good.token")).thenReturn(Optional.of(claims));
+        when(userService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+
+        // Act
+        filter.doFilter(request("/api/profile", "good.token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertEquals(1, timer("user_lookup", "disabled").count());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void testFilter_LookupFailure_ShouldTagErrorAndClearContext() throws Exception {
+        // Arrange
+        when(jwtService.verifyAccessToken("good.token")).thenReturn(Optional.of(claims));
+        when(userService.findByEmail(anyString())).thenThrow(new IllegalStateException("pool exhausted"));
+
+        // Act
+        filter.doFilter(request("/api/profile", "good.token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertEquals(1, timer("total", "error").count());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void testFilter_SamplingDisabled_ShouldRecordNothing() throws Exception {
+        // Arrange
+        JwtAuthenticationFilter unsampled = new JwtAuthenticationFilter(
+            jwtService, userService, tokenRevocationService, tokenVersionCache,
+            RouteTable.builder().build(), new NegativeCache(meterRegistry),
+            new FilterStageTimers(meterRegistry, true, 0.0),
+            admission(false, 0, Duration.ZERO), new ObjectMapper());
+
+        // Act
+        unsampled.doFilter(request("/api/profile", null), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertNull(meterRegistry.find("auth.filter.stage").timer());
+    }
+
+    @Test
+    void testFilter_TokenNewerThanCachedVersion_ShouldCheckDatabase() throws Exception {
+        // Arrange - revoked on another instance, then a new login: this node still caches 0
+        when(jwtService.verifyAccessToken("new.token")).thenReturn(Optional.of(claims));
+        when(jwtService.extractTokenVersion(claims)).thenReturn(1);
+        when(tokenVersionCache.get(testUser.getId().toString())).thenReturn(0);
+        when(userService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userService.isTokenVersionCurrent(testUser, 1)).thenReturn(true);
+
+        // Act
+        filter.doFilter(request("/api/profile", "new.token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertEquals("test@example.com", SecurityContextHolder.getContext().getAuthentication().getName());
+        verify(userService).isTokenVersionCurrent(testUser, 1);
+    }
+
+    @Test
+    void testFilter_AdmissionFree_ShouldAuthenticateAndReturnSlot() throws Exception {
+        // Arrange
+        PriorityAdmission admission = admission(true, 10, Duration.ofSeconds(1));
+        when(jwtService.verifyAccessToken("good.token")).thenReturn(Optional.of(claims));
+        when(userService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userService.isTokenVersionCurrent(testUser, 0)).thenReturn(true);
+
+        // Act
+        filter(admission).doFilter(request("/api/profile", "good.token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertEquals("test@example.com", SecurityContextHolder.getContext().getAuthentication().getName());
+        assertEquals(1, timer("admission", "ok").count());
+        assertEquals(0, admission.getActive());
+    }
+
+    @Test
+    void testFilter_AdmissionUnknownRoleClaim_ShouldAdmitAsLowestWeight() throws Exception {
+        // Arrange
+        PriorityAdmission admission = admission(true, 10, Duration.ofSeconds(1));
+        Claims unknownRole = Jwts.claims().add(claims).add("role", "SUPERUSER").build();
+        when(jwtService.verifyAccessToken("good.token")).thenReturn(Optional.of(unknownRole));
+        when(userService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userService.isTokenVersionCurrent(testUser, 0)).thenReturn(true);
+
+        // Act
+        filter(admission).doFilter(request("/api/profile", "good.token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert - admitted and authenticated (without authorities), not an ERROR outcome
+        assertEquals("test@example.com", SecurityContextHolder.getContext().getAuthentication().getName());
+        assertTrue(SecurityContextHolder.getContext().getAuthentication().getAuthorities().isEmpty());
+        assertEquals(1, timer("admission", "ok").count());
+        assertEquals(0, admission.getActive());
+    }
+
+    @Test
+    void testFilter_AdmissionShed_ShouldReject503BeforeUserLookup() throws Exception {
+        // Arrange - the only slot is held by a doctor, no queue
+        PriorityAdmission admission = admission(true, 0, Duration.ofSeconds(1));
+        admission.admit(UserRole.DOCTOR);
+        when(jwtService.verifyAccessToken("good.token")).thenReturn(Optional.of(claims));
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter(admission).doFilter(request("/api/patient/dashboard", "good.token"), response, chain);
+
+        // Assert
+        assertNull(chain.getRequest());
+        assertEquals(503, response.getStatus());
+        assertEquals("3", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, timer("total", "shed").count());
+        verify(userService, never()).findByEmail(anyString());
+        assertEquals(1, admission.getActive());
+    }
+
+    @Test
+    void testFilter_AdmissionMaxWaitExceeded_ShouldLeaveQueueAndReject() throws Exception {
+        // Arrange
+        PriorityAdmission admission = admission(true, 10, Duration.ofMillis(20));
+        admission.admit(UserRole.DOCTOR);
+        when(jwtService.verifyAccessToken("good.token")).thenReturn(Optional.of(claims));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter(admission).doFilter(request("/api/patient/dashboard", "good.token"), response, new MockFilterChain());
+
+        // Assert
+        assertEquals(503, response.getStatus());
+        assertEquals(0, admission.getQueued(UserRole.PATIENT));
+        assertEquals(1, admission.getActive());
+    }
+
+    private JwtAuthenticationFilter filter(PriorityAdmission admission) {
+        return new JwtAuthenticationFilter(jwtService, userService, tokenRevocationService, tokenVersionCache,
+                                           RouteTable.builder().permitAll("/api/auth/v1/login").build(),
+                                           new NegativeCache(meterRegistry),
+                                           new FilterStageTimers(meterRegistry, true, 1.0),
+                                           admission, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    // A single slot, so one admit() saturates it; every role may queue
+    private static PriorityAdmission admission(boolean enabled, int queueCapacity, Duration maxWait) {
+        return new PriorityAdmission(new PriorityAdmission.Settings(enabled, 1, queueCapacity, 0, maxWait, 3,
+            Map.of(UserRole.DOCTOR, 4, UserRole.PATIENT, 1)), new SimpleMeterRegistry());
+    }
+
+    private Timer timer(String stage, String outcome) {
+        return meterRegistry.get("auth.filter.stage").tag("stage", stage).tag("outcome", outcome).timer();
+    }
+
+    private static MockHttpServletRequest request(String path, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,157 @@
+package com.hms.auth.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.hms.auth.entity.UserRole;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PriorityAdmissionTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // Every role queues
+    private PriorityAdmission admission(int capacity, int queueCapacity) {
+        return admission(capacity, queueCapacity, 0);
+    }
+
+    private PriorityAdmission admission(int capacity, int queueCapacity, int queueMinWeight) {
+        return new PriorityAdmission(new PriorityAdmission.Settings(true, capacity, queueCapacity, queueMinWeight,
+            Duration.ofSeconds(1), 1, Map.of(UserRole.ADMIN, 4, UserRole.DOCTOR, 4, UserRole.PATIENT, 1)), meterRegistry);
+    }
+
+    @Test
+    void testAdmit_BelowCapacity_ShouldAdmitImmediately() {
+        // Arrange
+        PriorityAdmission admission = admission(2, 10);
+
+        // Act
+        PriorityAdmission.Ticket first = admission.admit(UserRole.PATIENT);
+        PriorityAdmission.Ticket second = admission.admit(UserRole.DOCTOR);
+        PriorityAdmission.Ticket third = admission.admit(UserRole.DOCTOR);
+
+        // Assert
+        assertTrue(first.admitted().isDone());
+        assertTrue(second.admitted().isDone());
+        assertFalse(third.admitted().isDone());
+        assertEquals(1, admission.getQueued(UserRole.DOCTOR));
+    }
+
+    @Test
+    void testRelease_BothQueuesBacklogged_ShouldHandOutSlotsByWeight() {
+        // Arrange - one slot, taken; 10 doctors and 10 patients waiting
+        PriorityAdmission admission = admission(1, 100);
+        admission.admit(UserRole.ADMIN);
+        List<UserRole> order = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            for (UserRole role : new UserRole[] {UserRole.PATIENT, UserRole.DOCTOR}) {
+                admission.admit(role).admitted().thenRun(() -> order.add(role));
+            }
+        }
+
+        // Act - pass the slot along ten times
+        for (int i = 0; i < 10; i++) {
+            admission.release();
+        }
+
+        // Assert - 4:1, and patients are not starved
+        assertEquals(10, order.size());
+        assertEquals(8, order.stream().filter(role -> role == UserRole.DOCTOR).count());
+        assertEquals(2, order.stream().filter(role -> role == UserRole.PATIENT).count());
+        assertEquals(1, admission.getActive());
+    }
+
+    @Test
+    void testAdmit_QueueFull_ShouldShedNewestPatientForDoctor() {
+        // Arrange
+        PriorityAdmission admission = admission(1, 2);
+        admission.admit(UserRole.DOCTOR);
+        PriorityAdmission.Ticket olderPatient = admission.admit(UserRole.PATIENT);
+        PriorityAdmission.Ticket newerPatient = admission.admit(UserRole.PATIENT);
+
+        // Act
+        PriorityAdmission.Ticket doctor = admission.admit(UserRole.DOCTOR);
+
+        // Assert
+        assertTrue(newerPatient.admitted().isCompletedExceptionally());
+        assertFalse(olderPatient.admitted().isDone());
+        assertFalse(doctor.admitted().isDone());
+        assertEquals(1.0, meterRegistry.get("auth.admission.shed")
+            .tag("role", "patient").tag("reason", "queue_full").counter().count());
+    }
+
+    @Test
+    void testAdmit_QueueFullOfHigherPriority_ShouldShedNewcomer() {
+        // Arrange
+        PriorityAdmission admission = admission(1, 1);
+        admission.admit(UserRole.DOCTOR);
+        PriorityAdmission.Ticket queuedDoctor = admission.admit(UserRole.DOCTOR);
+
+        // Act
+        PriorityAdmission.Ticket patient = admission.admit(UserRole.PATIENT);
+        PriorityAdmission.Ticket admin = admission.admit(UserRole.ADMIN);
+
+        // Assert - equal weights do not shed each other
+        assertTrue(patient.admitted().isCompletedExceptionally());
+        assertTrue(admin.admitted().isCompletedExceptionally());
+        assertFalse(queuedDoctor.admitted().isDone());
+    }
+
+    @Test
+    void testAdmit_AtCapacityBelowQueueMinWeight_ShouldShedWithoutQueueing() {
+        // Arrange - patients (weight 1) may not queue, doctors (weight 4) may
+        PriorityAdmission admission = admission(1, 10, 2);
+        admission.admit(UserRole.DOCTOR);
+
+        // Act
+        PriorityAdmission.Ticket patient = admission.admit(UserRole.PATIENT);
+        PriorityAdmission.Ticket doctor = admission.admit(UserRole.DOCTOR);
+
+        // Assert
+        assertTrue(patient.admitted().isCompletedExceptionally());
+        assertEquals(0, admission.getQueued(UserRole.PATIENT));
+        assertFalse(doctor.admitted().isDone());
+        assertEquals(1, admission.getQueued(UserRole.DOCTOR));
+        assertEquals(1.0, meterRegistry.get("auth.admission.shed")
+            .tag("role", "patient").tag("reason", "at_capacity").counter().count());
+    }
+
+    @Test
+    void testRoleOf_UnknownOrMissingClaim_ShouldMapToLowestWeight() {
+        // Arrange
+        PriorityAdmission admission = admission(1, 10);
+
+        // Act & Assert
+        assertEquals(UserRole.DOCTOR, admission.roleOf("DOCTOR"));
+        assertEquals(UserRole.PATIENT, admission.roleOf("SUPERUSER"));
+        assertEquals(UserRole.PATIENT, admission.roleOf("doctor"));
+        assertEquals(UserRole.PATIENT, admission.roleOf(null));
+    }
+
+    @Test
+    void testCancel_QueuedTicket_ShouldLeaveQueueAndCountTimeout() {
+        // Arrange
+        PriorityAdmission admission = admission(1, 10);
+        admission.admit(UserRole.DOCTOR);
+        PriorityAdmission.Ticket patient = admission.admit(UserRole.PATIENT);
+
+        // Act
+        boolean cancelled = admission.cancel(patient);
+        admission.release();
+
+        // Assert
+        assertTrue(cancelled);
+        assertFalse(admission.cancel(patient));
+        assertEquals(0, admission.getQueued(UserRole.PATIENT));
+        assertEquals(0, admission.getActive());
+        assertEquals(1.0, meterRegistry.get("auth.admission.shed")
+            .tag("role", "patient").tag("reason", "timeout").counter().count());
+    }
+}
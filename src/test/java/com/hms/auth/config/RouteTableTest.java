@@ -0,0 +1,85 @@
+package com.hms.auth.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.hms.auth.config.RouteTable.Access;
+import com.hms.auth.entity.UserRole;
+
+class RouteTableTest {
+
+    private RouteTable routeTable;
+
+    @BeforeEach
+    void setUp() {
+        routeTable = RouteTable.builder()
+            .permitAll("/api/auth/v1/login", "/api/auth/v1/introspect", "/actuator/**")
+            .authenticated("/api/profile/**")
+            .hasRole(UserRole.ADMIN, "/api/admin/**")
+            .permitAll("/api/admin/public")
+            .build();
+    }
+
+    @Test
+    void testMatch_ExactRoute_ShouldBePublic() {
+        assertTrue(routeTable.isPublic("/api/auth/v1/login"));
+        assertTrue(routeTable.isPublic("/api/auth/v1/introspect"));
+    }
+
+    @Test
+    void testMatch_ExactRoute_ShouldNotMatchLongerPaths() {
+        // The old startsWith check made these public
+        assertFalse(routeTable.isPublic("/api/auth/v1/loginx"));
+        assertFalse(routeTable.isPublic("/api/auth/v1/introspect/other"));
+    }
+
+    @Test
+    void testMatch_SubtreeRoute_ShouldMatchRootAndDescendants() {
+        assertTrue(routeTable.isPublic("/actuator"));
+        assertTrue(routeTable.isPublic("/actuator/health"));
+        assertTrue(routeTable.isPublic("/actuator/health/liveness"));
+        assertFalse(routeTable.isPublic("/actuatorx"));
+    }
+
+    @Test
+    void testMatch_RoleRoute_ShouldCarryRole() {
+        // Act
+        RouteTable.Route route = routeTable.match("/api/admin/users/42");
+
+        // Assert
+        assertEquals(Access.ROLE, route.access());
+        assertEquals(UserRole.ADMIN, route.role());
+        assertEquals(Access.AUTHENTICATED, routeTable.match("/api/administrator").access());
+    }
+
+    @Test
+    void testMatch_MostSpecificRoute_ShouldWinRegardlessOfOrder() {
+        assertEquals(Access.PUBLIC, routeTable.match("/api/admin/public").access());
+        assertEquals(Access.ROLE, routeTable.match("/api/admin/public/more").access());
+    }
+
+    @Test
+    void testMatch_UnlistedPath_ShouldRequireAuthentication() {
+        assertEquals(Access.AUTHENTICATED, routeTable.match("/api/unknown").access());
+        assertEquals(Access.AUTHENTICATED, routeTable.match("/").access());
+        assertEquals(Access.AUTHENTICATED, routeTable.match("").access());
+    }
+
+    @Test
+    void testBuild_DuplicatePattern_ShouldFail() {
+        RouteTable.Builder builder = RouteTable.builder()
+            .permitAll("/api/auth/v1/login")
+            .hasRole(UserRole.ADMIN, "/api/auth/v1/login");
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    void testBuild_InnerWildcard_ShouldFail() {
+        RouteTable.Builder builder = RouteTable.builder().permitAll("/api/*/login");
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+}
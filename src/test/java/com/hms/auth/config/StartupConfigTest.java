@@ -0,0 +1,78 @@
+package com.hms.auth.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationInfoService;
+import org.flywaydb.core.api.MigrationState;
+import org.flywaydb.core.api.MigrationVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+
+class StartupConfigTest {
+
+    private Flyway flyway;
+    private MigrationInfoService info;
+    private MigrationInfo applied;
+
+    @BeforeEach
+    void setUp() {
+        flyway = mock(Flyway.class);
+        info = mock(MigrationInfoService.class);
+        applied = mock(MigrationInfo.class);
+        when(flyway.info()).thenReturn(info);
+        when(applied.getVersion()).thenReturn(MigrationVersion.fromVersion("4"));
+        when(applied.getState()).thenReturn(MigrationState.SUCCESS);
+        when(info.current()).thenReturn(applied);
+        when(info.all()).thenReturn(new MigrationInfo[] {applied});
+        when(info.pending()).thenReturn(new MigrationInfo[0]);
+    }
+
+    @Test
+    void testStrategy_SchemaCurrent_ShouldSkipMigrate() {
+        // Act
+        strategy(true).migrate(flyway);
+
+        // Assert
+        verify(flyway, never()).migrate();
+    }
+
+    @Test
+    void testStrategy_PendingMigration_ShouldMigrate() {
+        // Arrange
+        when(info.pending()).thenReturn(new MigrationInfo[] {mock(MigrationInfo.class)});
+
+        // Act
+        strategy(true).migrate(flyway);
+
+        // Assert
+        verify(flyway).migrate();
+    }
+
+    @Test
+    void testStrategy_Disabled_ShouldAlwaysMigrate() {
+        // Act
+        strategy(false).migrate(flyway);
+
+        // Assert
+        verify(flyway).migrate();
+        verify(flyway, never()).info();
+    }
+
+    @Test
+    void testIsCurrent_EmptyOrFailedSchema_ShouldBeFalse() {
+        when(info.current()).thenReturn(null);
+        assertFalse(StartupConfig.isCurrent(info));
+
+        when(info.current()).thenReturn(applied);
+        when(applied.getState()).thenReturn(MigrationState.FAILED);
+        assertFalse(StartupConfig.isCurrent(info));
+    }
+
+    private FlywayMigrationStrategy strategy(boolean skipWhenCurrent) {
+        return new StartupConfig().flywayMigrationStrategy(skipWhenCurrent);
+    }
+}
@@ -0,0 +1,37 @@
+package com.hms.auth.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+class StartupReportTest {
+
+    @Test
+    void testSlowestSteps_ShouldRankBySelfTime() throws InterruptedException {
+        // Arrange
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(16);
+        StartupStep refresh = startup.start("spring.context.refresh");
+        StartupStep slowBean = startup.start("spring.beans.instantiate").tag("beanName", "slowBean");
+        Thread.sleep(60);
+        slowBean.end();
+        StartupStep fastBean = startup.start("spring.beans.instantiate").tag("beanName", "fastBean");
+        Thread.sleep(5);
+        fastBean.end();
+        refresh.end();
+
+        // Act
+        List<StartupReport.StepTime> steps =
+            StartupReport.slowestSteps(startup.getBufferedTimeline().getEvents(), 2);
+
+        // Assert - the refresh contains both beans, so it ranks below the slow one
+        assertEquals(2, steps.size());
+        assertEquals("spring.beans.instantiate slowBean", steps.get(0).label());
+        assertTrue(steps.get(0).self().toMillis() >= 60);
+        assertTrue(steps.stream().noneMatch(step -> step.label().equals("spring.context.refresh")
+                                                    && step.self().toMillis() >= 60));
+    }
+}
@@ -0,0 +1,40 @@
+package com.hms.auth.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class ThreadLocalSecureRandomTest {
+
+    @Test
+    void testNextBytes_ShouldProduceDistinctSaltsAcrossThreads() throws Exception {
+        // Arrange
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4, new ThreadLocalSecureRandom());
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> encoder.encode("Password1"), pool);
+            CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> encoder.encode("Password1"), pool);
+            String local = encoder.encode("Password1");
+
+            // Assert
+            assertNotEquals(first.get(), second.get());
+            assertNotEquals(local, first.get());
+            assertTrue(encoder.matches("Password1", first.get()));
+            assertTrue(encoder.matches("Password1", local));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGetAlgorithm_ShouldReportDrbg() throws Exception {
+        assertEquals("DRBG", new ThreadLocalSecureRandom().getAlgorithm());
+    }
+}
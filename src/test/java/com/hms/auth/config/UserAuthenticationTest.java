@@ -0,0 +1,40 @@
+package com.hms.auth.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.hms.auth.entity.UserRole;
+
+class UserAuthenticationTest {
+
+    @Test
+    void testOf_ShouldShareAuthoritiesPerRole() {
+        // Act
+        UserAuthentication first = UserAuthentication.of("a@example.com", UserRole.DOCTOR);
+        UserAuthentication second = UserAuthentication.of("b@example.com", "DOCTOR");
+
+        // Assert
+        assertSame(first.getAuthorities(), second.getAuthorities());
+        assertEquals("ROLE_DOCTOR", first.getAuthorities().iterator().next().getAuthority());
+        assertTrue(first.isAuthenticated());
+        assertEquals("a@example.com", first.getName());
+        assertNull(first.getCredentials());
+        assertNull(first.getDetails());
+    }
+
+    @Test
+    void testOf_UnknownRoleClaim_ShouldHaveNoAuthorities() {
+        UserAuthentication authentication = UserAuthentication.of("a@example.com", "SUPERUSER");
+
+        assertTrue(authentication.getAuthorities().isEmpty());
+    }
+
+    @Test
+    void testSetAuthenticated_False_ShouldBeRejected() {
+        UserAuthentication authentication = UserAuthentication.of("a@example.com", UserRole.PATIENT);
+
+        assertThrows(IllegalArgumentException.class, () -> authentication.setAuthenticated(false));
+        assertTrue(authentication.isAuthenticated());
+    }
+}
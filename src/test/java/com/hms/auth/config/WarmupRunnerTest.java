@@ -0,0 +1,118 @@
+package com.hms.auth.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hms.auth.service.JwtService;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WarmupRunnerTest {
+
+    private JwtService jwtService;
+    private MockEnvironment environment;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "jwtSecret", "myVerySecretKeyForTestingPurposesOnly123456789");
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", 3600L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", 604800L);
+
+        environment = new MockEnvironment();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testRun_WithoutServer_ShouldWarmTokenJsonAndPasswordSteps() {
+        // Arrange
+        WarmupRunner runner = runner(1, 3);
+
+        // Act
+        runner.run(null);
+
+        // Assert
+        assertEquals(1.0, runner.getProgress());
+        assertTrue(iterations("token") > 0);
+        assertTrue(iterations("json") > 0);
+        assertEquals(0, iterations("filter"));
+        assertEquals(3, iterations("password"));
+        assertEquals(1.0, meterRegistry.get("auth.warmup.progress").gauge().value());
+    }
+
+    @Test
+    void testRun_WithServer_ShouldSendBearerRequestsAndAcceptRejection() throws Exception {
+        // Arrange
+        AtomicInteger bearerRequests = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/profile", exchange -> {
+            if (exchange.getRequestHeaders().getFirst("Authorization").startsWith("Bearer ey")) {
+                bearerRequests.incrementAndGet();
+            }
+            exchange.sendResponseHeaders(401, -1);
+            exchange.close();
+        });
+        server.start();
+        environment.setProperty("local.server.port", String.valueOf(server.getAddress().getPort()));
+
+        try {
+            // Act
+            runner(1, 1).run(null);
+        } finally {
+            server.stop(0);
+        }
+
+        // Assert
+        assertTrue(bearerRequests.get() > 0);
+        assertEquals(bearerRequests.get(), iterations("filter"));
+    }
+
+    @Test
+    void testRun_FilterServerError_ShouldCountAsFailureAndDropStep() throws Exception {
+        // Arrange
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/profile", exchange -> {
+            requests.incrementAndGet();
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        server.start();
+        environment.setProperty("local.server.port", String.valueOf(server.getAddress().getPort()));
+
+        try {
+            // Act
+            runner(1, 1).run(null);
+        } finally {
+            server.stop(0);
+        }
+
+        // Assert
+        assertEquals(1, requests.get());
+        assertEquals(0, iterations("filter"));
+        assertTrue(iterations("token") > 0);
+    }
+
+    private WarmupRunner runner(long durationSeconds, int passwordMatches) {
+        WarmupRunner runner = new WarmupRunner(jwtService, new ObjectMapper().findAndRegisterModules(),
+                                               new BCryptPasswordEncoder(4), environment, meterRegistry);
+        ReflectionTestUtils.setField(runner, "durationSeconds", durationSeconds);
+        ReflectionTestUtils.setField(runner, "passwordMatches", passwordMatches);
+        return runner;
+    }
+
+    private long iterations(String step) {
+        return (long) meterRegistry.get("auth.warmup.iterations").tag("step", step).counter().count();
+    }
+}
@@ -8,31 +8,50 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hms.auth.config.FilterStageTimers;
+import com.hms.auth.config.PriorityAdmission;
+import com.hms.auth.config.RouteConfig;
 import com.hms.auth.config.SecurityConfig;
 import com.hms.auth.dto.LoginRequest;
 import com.hms.auth.dto.RegisterRequest;
+import com.hms.auth.dto.TokenResponse;
 import com.hms.auth.entity.User;
 import com.hms.auth.entity.UserRole;
 import com.hms.auth.service.CookieService;
+import com.hms.auth.service.IntrospectionClients;
 import com.hms.auth.service.JwtService;
+import com.hms.auth.service.NegativeCache;
+import com.hms.auth.service.RefreshTokenService;
+import com.hms.auth.service.TokenIssuer;
+import com.hms.auth.service.TokenRefreshService;
+import com.hms.auth.service.TokenRevocationService;
+import com.hms.auth.service.TokenVersionCache;
 import com.hms.auth.service.UserService;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+// No refresh coalescing: the shared TokenRefreshService would hand one test's result to the next
 @WebMvcTest(AuthController.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, RouteConfig.class, TokenRefreshService.class})
 class AuthControllerTest {
 
     @Autowired
@@ -47,6 +66,30 @@ class AuthControllerTest {
     @MockBean
     private CookieService cookieService;
 
+    @MockBean
+    private RefreshTokenService refreshTokenService;
+
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
+    @MockBean
+    private TokenVersionCache tokenVersionCache;
+
+    @MockBean
+    private NegativeCache negativeCache;
+
+    @MockBean(answer = Answers.RETURNS_MOCKS)
+    private FilterStageTimers stageTimers;
+
+    @MockBean
+    private PriorityAdmission priorityAdmission;
+
+    @MockBean
+    private IntrospectionClients introspectionClients;
+
+    @MockBean
+    private TokenIssuer tokenIssuer;
+
     @MockBean
     private org.springframework.security.crypto.password.PasswordEncoder passwordEncoder;
 
@@ -88,25 +131,24 @@ class AuthControllerTest {
         registerRequest.setPassword("StrongPass123");
         registerRequest.setRole("PATIENT");
 
-        when(userService.registerUser(anyString(), anyString(), any(UserRole.class)))
-                .thenReturn(testUser);
-        when(jwtService.generateAccessToken(testUser)).thenReturn(TEST_ACCESS_TOKEN);
-        when(jwtService.generateRefreshToken(testUser)).thenReturn(TEST_REFRESH_TOKEN);
-        when(jwtService.getTokenExpiryTime(TEST_ACCESS_TOKEN)).thenReturn(3600L);
+        when(userService.registerUserAsync(anyString(), anyString(), any(UserRole.class)))
+                .thenReturn(CompletableFuture.completedFuture(testUser));
+        when(tokenIssuer.issue(testUser)).thenReturn(issued(TEST_REFRESH_TOKEN));
+        when(cookieService.refreshTokenCookie(TEST_REFRESH_TOKEN))
+                .thenReturn(ResponseCookie.from("refresh_token", TEST_REFRESH_TOKEN).build());
 
         // Act & Assert
-        mockMvc.perform(post("/api/auth/v1/register")
+        mockMvc.perform(asyncDispatch(performAsync(post("/api/auth/v1/register")
                 .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(registerRequest)))
+                .content(objectMapper.writeValueAsString(registerRequest)))))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("User registered successfully"))
                 .andExpect(jsonPath("$.data.accessToken").value(TEST_ACCESS_TOKEN))
                 .andExpect(jsonPath("$.data.user.email").value("test@example.com"))
                 .andExpect(jsonPath("$.data.user.role").value("PATIENT"))
-                .andExpect(jsonPath("$.data.expiresIn").value(3600));
-
-        verify(cookieService).createRefreshTokenCookie(any(HttpServletResponse.class), eq(TEST_REFRESH_TOKEN));
+                .andExpect(jsonPath("$.data.expiresIn").value(3600))
+                .andExpect(header().string(HttpHeaders.SET_COOKIE, "refresh_token=" + TEST_REFRESH_TOKEN));
     }
 
     @Test
@@ -118,14 +160,14 @@ class AuthControllerTest {
         registerRequest.setRole("INVALID_ROLE");
 
         // Act & Assert
-        mockMvc.perform(post("/api/auth/v1/register")
+        mockMvc.perform(asyncDispatch(performAsync(post("/api/auth/v1/register")
                 .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(registerRequest)))
+                .content(objectMapper.writeValueAsString(registerRequest)))))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.success").value(false))
                 .andExpect(jsonPath("$.message").value("Invalid role INVALID_ROLE"));
 
-        verify(userService, never()).registerUser(anyString(), anyString(), any(UserRole.class));
+        verify(userService, never()).registerUserAsync(anyString(), anyString(), any(UserRole.class));
     }
 
     @Test
@@ -136,13 +178,14 @@ class AuthControllerTest {
         registerRequest.setPassword("StrongPass123");
         registerRequest.setRole("PATIENT");
 
-        when(userService.registerUser(anyString(), anyString(), any(UserRole.class)))
-                .thenThrow(new IllegalArgumentException("User with email already exists: test@example.com"));
+        when(userService.registerUserAsync(anyString(), anyString(), any(UserRole.class)))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new IllegalArgumentException("User with email already exists: test@example.com")));
 
         // Act & Assert
-        mockMvc.perform(post("/api/auth/v1/register")
+        mockMvc.perform(asyncDispatch(performAsync(post("/api/auth/v1/register")
                 .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(registerRequest)))
+                .content(objectMapper.writeValueAsString(registerRequest)))))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.success").value(false))
                 .andExpect(jsonPath("$.message").value("Registration failed"))
@@ -157,13 +200,13 @@ class AuthControllerTest {
         registerRequest.setPassword("StrongPass123");
         registerRequest.setRole("PATIENT");
 
-        when(userService.registerUser(anyString(), anyString(), any(UserRole.class)))
-                .thenThrow(new RuntimeException("Database connection failed"));
+        when(userService.registerUserAsync(anyString(), anyString(), any(UserRole.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Database connection failed")));
 
         // Act & Assert
-        mockMvc.perform(post("/api/auth/v1/register")
+        mockMvc.perform(asyncDispatch(performAsync(post("/api/auth/v1/register")
                 .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(registerRequest)))
+                .content(objectMapper.writeValueAsString(registerRequest)))))
                 .andExpect(status().isInternalServerError())
                 .andExpect(jsonPath("$.success").value(false))
                 .andExpect(jsonPath("$.message").value("Registration failed"))
@@ -177,24 +220,23 @@ class AuthControllerTest {
         loginRequest.setEmail("test@example.com");
         loginRequest.setPassword("password123");
 
-        when(userService.authenticateUser(anyString(), anyString()))
-                .thenReturn(Optional.of(testUser));
-        when(jwtService.generateAccessToken(testUser)).thenReturn(TEST_ACCESS_TOKEN);
-        when(jwtService.generateRefreshToken(testUser)).thenReturn(TEST_REFRESH_TOKEN);
-        when(jwtService.getTokenExpiryTime(TEST_ACCESS_TOKEN)).thenReturn(3600L);
+        when(userService.authenticateUserAsync(anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(testUser)));
+        when(tokenIssuer.issue(testUser)).thenReturn(issued(TEST_REFRESH_TOKEN));
+        when(cookieService.refreshTokenCookie(TEST_REFRESH_TOKEN))
+                .thenReturn(ResponseCookie.from("refresh_token", TEST_REFRESH_TOKEN).build());
 
         // Act & Assert
-        mockMvc.perform(post("/api/auth/v1/login")
+        mockMvc.perform(asyncDispatch(performAsync(post("/api/auth/v1/login")
                 .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(loginRequest)))
+                .content(objectMapper.writeValueAsString(loginRequest)))))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Login successful"))
                 .andExpect(jsonPath("$.data.accessToken").value(TEST_ACCESS_TOKEN))
                 .andExpect(jsonPath("$.data.user.email").value("test@example.com"))
-                .andExpect(jsonPath("$.data.user.role").value("PATIENT"));
-
-        verify(cookieService).createRefreshTokenCookie(any(HttpServletResponse.class), eq(TEST_REFRESH_TOKEN));
+                .andExpect(jsonPath("$.data.user.role").value("PATIENT"))
+                .andExpect(header().string(HttpHeaders.SET_COOKIE, "refresh_token=" + TEST_REFRESH_TOKEN));
     }
 
     @Test
@@ -204,19 +246,20 @@ class AuthControllerTest {
         loginRequest.setEmail("test@example.com");
         loginRequest.setPassword("wrongpassword");
 
-        when(userService.authenticateUser(anyString(), anyString()))
-                .thenReturn(Optional.empty());
+        when(userService.authenticateUserAsync(anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
 
         // Act & Assert
-        mockMvc.perform(post("/api/auth/v1/login")
+        mockMvc.perform(asyncDispatch(performAsync(post("/api/auth/v1/login")
                 .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(loginRequest)))
+                .content(objectMapper.writeValueAsString(loginRequest)))))
                 .andExpect(status().isUnauthorized())
                 .andExpect(jsonPath("$.success").value(false))
                 .andExpect(jsonPath("$.message").value("Authentication failed"))
-                .andExpect(jsonPath("$.error").value("Invalid email or password"));
+                .andExpect(jsonPath("$.error").value("Invalid email or password"))
+                .andExpect(header().doesNotExist(HttpHeaders.SET_COOKIE));
 
-        verify(cookieService, never()).createRefreshTokenCookie(any(HttpServletResponse.class), anyString());
+        verify(cookieService, never()).refreshTokenCookie(anyString());
     }
 
     @Test
@@ -226,13 +269,13 @@ class AuthControllerTest {
         loginRequest.setEmail("test@example.com");
         loginRequest.setPassword("password123");
 
-        when(userService.authenticateUser(anyString(), anyString()))
-                .thenThrow(new RuntimeException("Database connection failed"));
+        when(userService.authenticateUserAsync(anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Database connection failed")));
 
         // Act & Assert
-        mockMvc.perform(post("/api/auth/v1/login")
+        mockMvc.perform(asyncDispatch(performAsync(post("/api/auth/v1/login")
                 .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(loginRequest)))
+                .content(objectMapper.writeValueAsString(loginRequest)))))
                 .andExpect(status().isInternalServerError())
                 .andExpect(jsonPath("$.success").value(false))
                 .andExpect(jsonPath("$.message").value("Login failed"))
@@ -245,11 +288,11 @@ class AuthControllerTest {
         when(cookieService.getRefreshTokenFromCookies(any(HttpServletRequest.class)))
                 .thenReturn(TEST_REFRESH_TOKEN);
         when(jwtService.validateRefreshToken(TEST_REFRESH_TOKEN)).thenReturn(true);
+        when(refreshTokenService.rotate(TEST_REFRESH_TOKEN)).thenReturn(Optional.of(UUID.randomUUID()));
         when(jwtService.extractEmail(TEST_REFRESH_TOKEN)).thenReturn("test@example.com");
-        when(userService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
-        when(jwtService.generateAccessToken(testUser)).thenReturn(TEST_ACCESS_TOKEN);
-        when(jwtService.generateRefreshToken(testUser)).thenReturn("new.refresh.token");
-        when(jwtService.getTokenExpiryTime(TEST_ACCESS_TOKEN)).thenReturn(3600L);
+        when(userService.getUserByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userService.isTokenVersionCurrent(eq(testUser), anyInt())).thenReturn(true);
+        when(tokenIssuer.issue(eq(testUser), any(UUID.class))).thenReturn(issued("new.refresh.token"));
 
         // Act & Assert
         mockMvc.perform(post("/api/auth/v1/refresh-token"))
@@ -299,8 +342,9 @@ class AuthControllerTest {
         when(cookieService.getRefreshTokenFromCookies(any(HttpServletRequest.class)))
                 .thenReturn(TEST_REFRESH_TOKEN);
         when(jwtService.validateRefreshToken(TEST_REFRESH_TOKEN)).thenReturn(true);
+        when(refreshTokenService.rotate(TEST_REFRESH_TOKEN)).thenReturn(Optional.of(UUID.randomUUID()));
         when(jwtService.extractEmail(TEST_REFRESH_TOKEN)).thenReturn("test@example.com");
-        when(userService.findByEmail("test@example.com")).thenReturn(Optional.empty());
+        when(userService.getUserByEmail("test@example.com")).thenReturn(Optional.empty());
 
         // Act & Assert
         mockMvc.perform(post("/api/auth/v1/refresh-token"))
@@ -320,8 +364,9 @@ class AuthControllerTest {
         when(cookieService.getRefreshTokenFromCookies(any(HttpServletRequest.class)))
                 .thenReturn(TEST_REFRESH_TOKEN);
         when(jwtService.validateRefreshToken(TEST_REFRESH_TOKEN)).thenReturn(true);
+        when(refreshTokenService.rotate(TEST_REFRESH_TOKEN)).thenReturn(Optional.of(UUID.randomUUID()));
         when(jwtService.extractEmail(TEST_REFRESH_TOKEN)).thenReturn("test@example.com");
-        when(userService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userService.getUserByEmail("test@example.com")).thenReturn(Optional.of(testUser));
 
         // Act & Assert
         mockMvc.perform(post("/api/auth/v1/refresh-token"))
@@ -333,6 +378,25 @@ class AuthControllerTest {
         verify(cookieService).clearRefreshTokenCookie(any(HttpServletResponse.class));
     }
 
+    @Test
+    void testRefreshToken_ReusedToken_ShouldReturnUnauthorized() throws Exception {
+        // Arrange
+        when(cookieService.getRefreshTokenFromCookies(any(HttpServletRequest.class)))
+                .thenReturn(TEST_REFRESH_TOKEN);
+        when(jwtService.validateRefreshToken(TEST_REFRESH_TOKEN)).thenReturn(true);
+        when(refreshTokenService.rotate(TEST_REFRESH_TOKEN)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/auth/v1/refresh-token"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("Token refresh failed"))
+                .andExpect(jsonPath("$.error").value("Refresh token has been revoked"));
+
+        verify(cookieService).clearRefreshTokenCookie(any(HttpServletResponse.class));
+        verify(tokenIssuer, never()).issue(any(User.class), any(UUID.class));
+    }
+
     @Test
     void testRefreshToken_ServiceException_ShouldReturnInternalServerError() throws Exception {
         // Arrange
@@ -360,6 +424,20 @@ class AuthControllerTest {
         verify(cookieService).clearRefreshTokenCookie(any(HttpServletResponse.class));
     }
 
+    @Test
+    void testLogout_WithRefreshCookie_ShouldRevokeFamily() throws Exception {
+        // Arrange
+        when(cookieService.getRefreshTokenFromCookies(any(HttpServletRequest.class)))
+                .thenReturn(TEST_REFRESH_TOKEN);
+        when(jwtService.validateRefreshToken(TEST_REFRESH_TOKEN)).thenReturn(true);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/auth/v1/logout"))
+                .andExpect(status().isOk());
+
+        verify(refreshTokenService).revoke(TEST_REFRESH_TOKEN);
+    }
+
     @Test
     void testLogout_ServiceException_ShouldReturnInternalServerError() throws Exception {
         // Arrange
@@ -432,4 +510,37 @@ class AuthControllerTest {
                 .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void testLogin_HashingPoolSaturated_ShouldReturnServiceUnavailable() throws Exception {
+        // Arrange
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("test@example.com");
+        loginRequest.setPassword("password123");
+
+        when(userService.authenticateUserAsync(anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new TaskRejectedException("Executor rejected task")));
+
+        // Act & Assert
+        mockMvc.perform(asyncDispatch(performAsync(post("/api/auth/v1/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginRequest)))))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.message").value("Login failed"));
+    }
+
+    // Login and register return a CompletableFuture: check the handler went async, then dispatch
+    private MvcResult performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private TokenIssuer.IssuedTokens issued(String refreshToken) {
+        TokenResponse.UserInfo userInfo = new TokenResponse.UserInfo(
+                testUser.getId().toString(), testUser.getEmail(), testUser.getRole().name(), testUser.getEnabled());
+        return new TokenIssuer.IssuedTokens(
+                new TokenResponse(TEST_ACCESS_TOKEN, "Bearer", 3600L, userInfo), refreshToken);
+    }
 }
@@ -0,0 +1,186 @@
+package com.hms.auth.grpc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.hms.auth.dto.IntrospectionResponse;
+import com.hms.auth.entity.User;
+import com.hms.auth.entity.UserRole;
+import com.hms.auth.service.BatchValidationService;
+import com.hms.auth.service.IntrospectionClients;
+import com.hms.auth.service.IntrospectionService;
+import com.hms.auth.service.UserService;
+
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessServerBuilder;
+
+@ExtendWith(MockitoExtension.class)
+class TokenCheckGrpcServiceTest {
+
+    @Mock
+    private IntrospectionService introspectionService;
+
+    @Mock
+    private BatchValidationService batchValidationService;
+
+    @Mock
+    private UserService userService;
+
+    private Server server;
+    private TokenCheckClient client;
+
+    private final IntrospectionResponse ACTIVE =
+        new IntrospectionResponse(true, "test@example.com", "user-123", "PATIENT", "Bearer", 1700000000L);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+            .directExecutor()
+            .addService(new TokenCheckGrpcService(introspectionService, batchValidationService, userService))
+            .build()
+            .start();
+        client = TokenCheckClient.inProcess(name);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.shutdownNow();
+    }
+
+    @Test
+    void testValidateToken_Active_ShouldReturnClaims() {
+        // Arrange
+        when(introspectionService.introspect("good.token")).thenReturn(ACTIVE);
+
+        // Act
+        TokenStatus status = client.validate("good.token");
+
+        // Assert
+        assertTrue(status.getActive());
+        assertEquals("user-123", status.getUserId());
+        assertEquals("PATIENT", status.getRole());
+        assertEquals(1700000000L, status.getExp());
+    }
+
+    @Test
+    void testValidateToken_Inactive_ShouldReturnOnlyFlag() {
+        // Arrange
+        when(introspectionService.introspect("bad.token")).thenReturn(IntrospectionResponse.inactive());
+
+        // Act
+        TokenStatus status = client.validate("bad.token");
+
+        // Assert
+        assertFalse(status.getActive());
+        assertEquals("", status.getUserId());
+    }
+
+    @Test
+    void testBatchValidate_ShouldPreserveOrder() {
+        // Arrange
+        when(batchValidationService.getMaxTokens()).thenReturn(500);
+        when(batchValidationService.validate(List.of("a", "b")))
+            .thenReturn(new IntrospectionResponse[] { IntrospectionResponse.inactive(), ACTIVE });
+
+        // Act
+        List<TokenStatus> results = client.validateAll(List.of("a", "b"));
+
+        // Assert
+        assertEquals(2, results.size());
+        assertFalse(results.get(0).getActive());
+        assertTrue(results.get(1).getActive());
+    }
+
+    @Test
+    void testBatchValidate_TooLarge_ShouldFailWithInvalidArgument() {
+        // Arrange
+        when(batchValidationService.getMaxTokens()).thenReturn(1);
+
+        // Act & Assert
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+            () -> client.validateAll(List.of("a", "b")));
+        assertEquals(Status.Code.INVALID_ARGUMENT, ex.getStatus().getCode());
+        verify(batchValidationService, never()).validate(anyList());
+    }
+
+    @Test
+    void testGetUserStatus_ShouldReturnAccountState() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        User user = new User("test@example.com", "encodedPassword", UserRole.DOCTOR);
+        user.setId(userId);
+        user.setEnabled(false);
+        user.setTokenVersion(3);
+        when(userService.findById(userId)).thenReturn(Optional.of(user));
+
+        // Act
+        UserStatus status = client.userStatus(userId);
+
+        // Assert
+        assertTrue(status.getExists());
+        assertFalse(status.getEnabled());
+        assertEquals("DOCTOR", status.getRole());
+        assertEquals(3, status.getTokenVersion());
+    }
+
+    @Test
+    void testGetUserStatus_UnknownUser_ShouldReturnNotExists() {
+        // Arrange
+        when(userService.findById(any(UUID.class))).thenReturn(Optional.empty());
+
+        // Act
+        UserStatus status = client.userStatus(UUID.randomUUID());
+
+        // Assert
+        assertFalse(status.getExists());
+    }
+
+    @Test
+    void testClientAuth_ShouldRejectCallsWithoutValidCredentials() throws Exception {
+        // Arrange
+        IntrospectionClients clients = new IntrospectionClients(
+            new MockEnvironment().withProperty("auth.introspection.clients.gateway", "s3cret"));
+        String name = InProcessServerBuilder.generateName();
+        Server guarded = InProcessServerBuilder.forName(name)
+            .directExecutor()
+            .addService(ServerInterceptors.intercept(
+                new TokenCheckGrpcService(introspectionService, batchValidationService, userService),
+                new ClientAuthInterceptor(clients)))
+            .build()
+            .start();
+        when(introspectionService.introspect("good.token")).thenReturn(ACTIVE);
+
+        try (TokenCheckClient anonymous = TokenCheckClient.inProcess(name);
+             TokenCheckClient wrongSecret = TokenCheckClient.inProcess(name, "gateway", "guess");
+             TokenCheckClient gateway = TokenCheckClient.inProcess(name, "gateway", "s3cret")) {
+
+            // Act & Assert
+            assertEquals(Status.Code.UNAUTHENTICATED, assertThrows(StatusRuntimeException.class,
+                () -> anonymous.userStatus(UUID.randomUUID())).getStatus().getCode());
+            assertEquals(Status.Code.UNAUTHENTICATED, assertThrows(StatusRuntimeException.class,
+                () -> wrongSecret.validate("good.token")).getStatus().getCode());
+            assertTrue(gateway.validate("good.token").getActive());
+            verify(userService, never()).findById(any(UUID.class));
+        } finally {
+            guarded.shutdownNow();
+        }
+    }
+}
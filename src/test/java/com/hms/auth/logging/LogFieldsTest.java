@@ -0,0 +1,40 @@
+package com.hms.auth.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class LogFieldsTest {
+
+    @AfterEach
+    void tearDown() {
+        LogFields.setEmailSalt("");
+    }
+
+    @Test
+    void testEmail_ShouldBeStableCaseInsensitiveAndNotContainTheAddress() {
+        // Act
+        String hashed = LogFields.email("John.Doe@example.com").toString();
+
+        // Assert
+        assertEquals(12, hashed.length());
+        assertEquals(hashed, LogFields.email("john.doe@example.com").toString());
+        assertNotEquals(hashed, LogFields.email("jane.doe@example.com").toString());
+        assertFalse(hashed.contains("john"));
+    }
+
+    @Test
+    void testEmail_SaltShouldChangeTheHash() {
+        String unsalted = LogFields.email("john.doe@example.com").toString();
+
+        LogFields.setEmailSalt("instance-salt");
+
+        assertNotEquals(unsalted, LogFields.email("john.doe@example.com").toString());
+    }
+
+    @Test
+    void testEmail_Null_ShouldNotFail() {
+        assertEquals("none", LogFields.email(null).toString());
+    }
+}
@@ -0,0 +1,43 @@
+package com.hms.auth.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class LogSamplerTest {
+
+    @Test
+    void testTryAcquire_ShouldAllowPermitsPerSecondAndCountTheRest() {
+        // Arrange
+        LogSampler sampler = LogSampler.perSecond(3);
+
+        // Act
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (sampler.tryAcquire()) {
+                allowed++;
+            }
+        }
+
+        // Assert
+        assertEquals(3, allowed);
+        assertEquals(7, sampler.takeSuppressed());
+        assertEquals(0, sampler.takeSuppressed());
+    }
+
+    @Test
+    void testTryAcquire_ShouldRefillAfterOneSecond() throws InterruptedException {
+        LogSampler sampler = LogSampler.perSecond(1);
+        assertTrue(sampler.tryAcquire());
+        assertFalse(sampler.tryAcquire());
+
+        Thread.sleep(1_050);
+
+        assertTrue(sampler.tryAcquire());
+    }
+
+    @Test
+    void testPerSecond_NonPositive_ShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> LogSampler.perSecond(0));
+    }
+}
@@ -0,0 +1,70 @@
+package com.hms.auth.reactive;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hms.auth.config.AdaptiveLimit;
+import com.hms.auth.config.ConcurrencyLimits;
+import com.hms.auth.config.ConcurrencyLimits.EndpointClass;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class ConcurrencyLimitWebFilterTest {
+
+    private AdaptiveLimit refreshLimit;
+    private ConcurrencyLimitWebFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        refreshLimit = new AdaptiveLimit("refresh", new AdaptiveLimit.Settings(1, 1, 1, Duration.ofSeconds(1), 0.9),
+                                         new SimpleMeterRegistry());
+        ConcurrencyLimits limits = ConcurrencyLimits.builder()
+            .limit(EndpointClass.REFRESH, refreshLimit, "/api/auth/v1/refresh-token")
+            .build();
+        filter = new ConcurrencyLimitWebFilter(limits, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    void testFilter_WithinLimit_ShouldReleasePermitWhenExchangeCompletes() {
+        // Arrange
+        AtomicInteger inFlightInChain = new AtomicInteger(-1);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/auth/v1/refresh-token"));
+
+        // Act
+        filter.filter(exchange, ex -> {
+            inFlightInChain.set(refreshLimit.getInFlight());
+            return Mono.empty();
+        }).block();
+
+        // Assert
+        assertEquals(1, inFlightInChain.get());
+        assertEquals(0, refreshLimit.getInFlight());
+    }
+
+    @Test
+    void testFilter_LimitReached_ShouldReject503WithRetryAfter() {
+        // Arrange
+        assertTrue(refreshLimit.tryAcquire());
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/auth/v1/refresh-token"));
+
+        // Act
+        filter.filter(exchange, ex -> Mono.error(new AssertionError("chain must not run"))).block();
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+        assertEquals("1", exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertTrue(exchange.getResponse().getBodyAsString().block().contains("Server is busy"));
+    }
+}
@@ -0,0 +1,298 @@
+package com.hms.auth.reactive;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.server.WebFilterChain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hms.auth.config.PriorityAdmission;
+import com.hms.auth.config.RouteTable;
+import com.hms.auth.dto.CurrentUser;
+import com.hms.auth.entity.User;
+import com.hms.auth.entity.UserRole;
+import com.hms.auth.service.JwtService;
+import com.hms.auth.service.NegativeCache;
+import com.hms.auth.service.TokenRevocationService;
+import com.hms.auth.service.TokenVersionCache;
+import com.hms.auth.service.UserService;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationWebFilterTest {
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private TokenVersionCache tokenVersionCache;
+
+    private AuthSchedulers schedulers;
+    private JwtAuthenticationWebFilter filter;
+    private User testUser;
+    private Claims claims;
+
+    private final AtomicReference<Authentication> seenAuthentication = new AtomicReference<>();
+    private final WebFilterChain chain = exchange -> ReactiveSecurityContextHolder.getContext()
+        .map(SecurityContext::getAuthentication)
+        .doOnNext(seenAuthentication::set)
+        .then();
+
+    @BeforeEach
+    void setUp() {
+        schedulers = new AuthSchedulers(2, 100, 1, 100);
+        filter = filter(admission(false, Duration.ZERO));
+
+        testUser = new User("test@example.com", "encodedPassword", UserRole.PATIENT);
+        testUser.setId(UUID.randomUUID());
+        claims = Jwts.claims()
+            .subject("test@example.com")
+            .add("userId", testUser.getId().toString())
+            .add("role", "PATIENT")
+            .expiration(new Date(System.currentTimeMillis() + 60000))
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        schedulers.dispose();
+    }
+
+    @Test
+    void testFilter_ValidToken_ShouldAuthenticateAndSetCurrentUser() {
+        // Arrange
+        MockServerWebExchange exchange = exchange("/api/profile", "good.token");
+        when(jwtService.verifyAccessToken("good.token")).thenReturn(Optional.of(claims));
+        when(tokenVersionCache.get(anyString())).thenReturn(null);
+        when(userService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userService.isTokenVersionCurrent(testUser, 0)).thenReturn(true);
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertNotNull(seenAuthentication.get());
+        assertEquals("test@example.com", seenAuthentication.get().getName());
+        assertEquals("ROLE_PATIENT", seenAuthentication.get().getAuthorities().iterator().next().getAuthority());
+        assertEquals(CurrentUser.of(testUser), exchange.getAttribute("currentUser"));
+    }
+
+    @Test
+    void testFilter_AfterLookup_ShouldContinueOffTheJdbcScheduler() {
+        // Arrange
+        AtomicReference<String> lookupThread = new AtomicReference<>();
+        AtomicReference<String> chainThread = new AtomicReference<>();
+        when(jwtService.verifyAccessToken("good.token")).thenReturn(Optional.of(claims));
+        when(tokenVersionCache.get(anyString())).thenReturn(null);
+        when(userService.findByEmail("test@example.com")).thenAnswer(invocation -> {
+            lookupThread.set(Thread.currentThread().getName());
+            return Optional.of(testUser);
+        });
+        when(userService.isTokenVersionCurrent(testUser, 0)).thenReturn(true);
+
+        // Act
+        filter.filter(exchange("/api/profile", "good.token"),
+                      exchange -> Mono.fromRunnable(() -> chainThread.set(Thread.currentThread().getName()))).block();
+
+        // Assert - only the blocking lookup holds an auth-jdbc thread
+        assertTrue(lookupThread.get().startsWith("auth-jdbc"));
+        assertFalse(chainThread.get().startsWith("auth-jdbc"));
+    }
+
+    @Test
+    void testFilter_RevokedToken_ShouldSkipVerification() {
+        // Arrange
+        MockServerWebExchange exchange = exchange("/api/profile", "revoked.token");
+        when(tokenRevocationService.isRevoked("revoked.token")).thenReturn(true);
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertNull(seenAuthentication.get());
+        verify(jwtService, never()).verifyAccessToken(anyString());
+    }
+
+    @Test
+    void testFilter_StaleCachedVersion_ShouldSkipUserLookup() {
+        // Arrange
+        MockServerWebExchange exchange = exchange("/api/profile", "stale.token");
+        when(jwtService.verifyAccessToken("stale.token")).thenReturn(Optional.of(claims));
+        when(tokenVersionCache.get(testUser.getId().toString())).thenReturn(1);
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertNull(seenAuthentication.get());
+        verify(userService, never()).findByEmail(anyString());
+    }
+
+    @Test
+    void testFilter_TokenNewerThanCachedVersion_ShouldCheckDatabase() {
+        // Arrange - revoked on another instance, then a new login: this node still caches 0
+        MockServerWebExchange exchange = exchange("/api/profile", "new.token");
+        when(jwtService.verifyAccessToken("new.token")).thenReturn(Optional.of(claims));
+        when(jwtService.extractTokenVersion(claims)).thenReturn(1);
+        when(tokenVersionCache.get(testUser.getId().toString())).thenReturn(0);
+        when(userService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userService.isTokenVersionCurrent(testUser, 1)).thenReturn(true);
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertNotNull(seenAuthentication.get());
+        verify(userService).isTokenVersionCurrent(testUser, 1);
+    }
+
+    @Test
+    void testFilter_DisabledUser_ShouldNotAuthenticate() {
+        // Arrange
+        testUser.setEnabled(false);
+        MockServerWebExchange exchange = exchange("/api/profile", "good.token");
+        when(jwtService.verifyAccessToken("good.token")).thenReturn(Optional.of(claims));
+        when(tokenVersionCache.get(anyString())).thenReturn(null);
+        when(userService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertNull(seenAuthentication.get());
+        assertNull(exchange.getAttribute("currentUser"));
+    }
+
+    @Test
+    void testFilter_RepeatedInvalidToken_ShouldVerifyOnce() {
+        // Arrange
+        when(jwtService.verifyAccessToken("forged.token")).thenReturn(Optional.empty());
+
+        // Act
+        filter.filter(exchange("/api/profile", "forged.token"), chain).block();
+        filter.filter(exchange("/api/profile", "forged.token"), chain).block();
+
+        // Assert
+        assertNull(seenAuthentication.get());
+        verify(jwtService, times(1)).verifyAccessToken("forged.token");
+    }
+
+    @Test
+    void testFilter_RepeatedUnknownUser_ShouldLookUpOnce() {
+        // Arrange
+        when(jwtService.verifyAccessToken("orphan.token")).thenReturn(Optional.of(claims));
+        when(tokenVersionCache.get(anyString())).thenReturn(null);
+        when(userService.findByEmail("test@example.com")).thenReturn(Optional.empty());
+
+        // Act
+        filter.filter(exchange("/api/profile", "orphan.token"), chain).block();
+        filter.filter(exchange("/api/profile", "orphan.token"), chain).block();
+
+        // Assert
+        assertNull(seenAuthentication.get());
+        verify(userService, times(1)).findByEmail("test@example.com");
+    }
+
+    @Test
+    void testFilter_PublicEndpoint_ShouldNotTouchToken() {
+        // Arrange
+        MockServerWebExchange exchange = exchange("/api/auth/v1/login", "any.token");
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        verifyNoInteractions(jwtService, tokenRevocationService, userService);
+    }
+
+    @Test
+    void testFilter_QueuedForAdmission_ShouldLookUpOnceSlotIsReleased() throws InterruptedException {
+        // Arrange - the only slot is held by a doctor
+        PriorityAdmission admission = admission(true, Duration.ofSeconds(1));
+        admission.admit(UserRole.DOCTOR);
+        when(jwtService.verifyAccessToken("good.token")).thenReturn(Optional.of(claims));
+        when(tokenVersionCache.get(anyString())).thenReturn(null);
+        when(userService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userService.isTokenVersionCurrent(testUser, 0)).thenReturn(true);
+
+        // Act
+        Mono<Void> result = filter(admission).filter(exchange("/api/patient/dashboard", "good.token"), chain);
+        Mono.delay(Duration.ofMillis(50)).subscribe(ignored -> admission.release());
+        result.block(Duration.ofSeconds(5));
+
+        // Assert - doFinally runs just after the terminal signal reaches block()
+        assertEquals("test@example.com", seenAuthentication.get().getName());
+        for (int i = 0; i < 100 && admission.getActive() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, admission.getActive());
+    }
+
+    @Test
+    void testFilter_AdmissionMaxWaitExceeded_ShouldReject503BeforeUserLookup() {
+        // Arrange
+        PriorityAdmission admission = admission(true, Duration.ofMillis(20));
+        admission.admit(UserRole.DOCTOR);
+        when(jwtService.verifyAccessToken("good.token")).thenReturn(Optional.of(claims));
+        when(tokenVersionCache.get(anyString())).thenReturn(null);
+        MockServerWebExchange exchange = exchange("/api/patient/dashboard", "good.token");
+
+        // Act
+        filter(admission).filter(exchange, chain).block(Duration.ofSeconds(5));
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+        assertEquals(0, admission.getQueued(UserRole.PATIENT));
+        assertNull(seenAuthentication.get());
+        verify(userService, never()).findByEmail(anyString());
+    }
+
+    private JwtAuthenticationWebFilter filter(PriorityAdmission admission) {
+        return new JwtAuthenticationWebFilter(jwtService, userService, tokenRevocationService,
+                                              tokenVersionCache, schedulers,
+                                              RouteTable.builder().permitAll("/api/auth/v1/login").build(),
+                                              new NegativeCache(new SimpleMeterRegistry()),
+                                              admission, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    // A single slot, so one admit() saturates it; every role may queue
+    private static PriorityAdmission admission(boolean enabled, Duration maxWait) {
+        return new PriorityAdmission(new PriorityAdmission.Settings(enabled, 1, 10, 0, maxWait, 1,
+            Map.of(UserRole.DOCTOR, 4, UserRole.PATIENT, 1)), new SimpleMeterRegistry());
+    }
+
+    private static MockServerWebExchange exchange(String path, String token) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path).header("Authorization", "Bearer " + token));
+    }
+}
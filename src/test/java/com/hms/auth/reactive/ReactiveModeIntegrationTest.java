@@ -0,0 +1,129 @@
+package com.hms.auth.reactive;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.hms.auth.entity.UserRole;
+import com.hms.auth.service.JwtService;
+import com.hms.auth.service.UserService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = "spring.main.web-application-type=reactive")
+class ReactiveModeIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void testLoginThenProfile_ShouldAuthenticateThroughWebFilter() {
+        // Arrange
+        String email = "reactive-" + UUID.randomUUID() + "@example.com";
+        userService.registerUser(email, "Reactive123", UserRole.PATIENT);
+
+        // Act
+        Map<?, ?> login = webTestClient.post().uri("/api/auth/v1/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(Map.of("email", email, "password", "Reactive123"))
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().exists(HttpHeaders.SET_COOKIE)
+            .expectBody(Map.class)
+            .returnResult()
+            .getResponseBody();
+        String accessToken = (String) ((Map<?, ?>) login.get("data")).get("accessToken");
+
+        // Assert
+        webTestClient.get().uri("/api/profile")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.data.email").isEqualTo(email)
+            .jsonPath("$.data.role").isEqualTo("PATIENT");
+    }
+
+    @Test
+    void testCrossOriginLogin_ShouldExposeRefreshHintHeader() {
+        // Arrange
+        String email = "reactive-" + UUID.randomUUID() + "@example.com";
+        userService.registerUser(email, "Reactive123", UserRole.PATIENT);
+
+        // Act & Assert
+        webTestClient.post().uri("/api/auth/v1/login")
+            .header(HttpHeaders.ORIGIN, "https://app.example.com")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(Map.of("email", email, "password", "Reactive123"))
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, JwtService.REFRESH_HINT_HEADER);
+    }
+
+    @Test
+    void testProfile_WithoutToken_ShouldBeForbidden() {
+        webTestClient.get().uri("/api/profile")
+            .exchange()
+            .expectStatus().isForbidden();
+    }
+
+    @Test
+    void testLogin_InvalidCredentials_ShouldReturnUnauthorized() {
+        webTestClient.post().uri("/api/auth/v1/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(Map.of("email", "nobody@example.com", "password", "Whatever123"))
+            .exchange()
+            .expectStatus().isUnauthorized()
+            .expectBody()
+            .jsonPath("$.error").isEqualTo("Invalid email or password");
+    }
+
+    @Test
+    void testRegister_ShouldCreateUserAndSetRefreshCookie() {
+        // Arrange
+        String email = "reactive-" + UUID.randomUUID() + "@example.com";
+
+        // Act & Assert
+        webTestClient.post().uri("/api/auth/v1/register")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(Map.of("email", email, "password", "Reactive123", "role", "doctor"))
+            .exchange()
+            .expectStatus().isCreated()
+            .expectHeader().exists(HttpHeaders.SET_COOKIE)
+            .expectBody()
+            .jsonPath("$.data.accessToken").isNotEmpty();
+        assertTrue(userService.findByEmail(email).isPresent());
+    }
+
+    @Test
+    void testServletOnlyRoute_ShouldFailFastWithNotImplemented() {
+        // Arrange
+        String email = "reactive-" + UUID.randomUUID() + "@example.com";
+        userService.registerUser(email, "Reactive123", UserRole.DOCTOR);
+        Map<?, ?> login = webTestClient.post().uri("/api/auth/v1/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(Map.of("email", email, "password", "Reactive123"))
+            .exchange()
+            .expectBody(Map.class)
+            .returnResult()
+            .getResponseBody();
+        String accessToken = (String) ((Map<?, ?>) login.get("data")).get("accessToken");
+
+        // Act & Assert
+        webTestClient.get().uri("/api/doctor/dashboard")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+            .exchange()
+            .expectStatus().isEqualTo(HttpStatus.NOT_IMPLEMENTED);
+    }
+}
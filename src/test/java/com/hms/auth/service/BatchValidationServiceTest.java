@@ -0,0 +1,139 @@
+package com.hms.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hms.auth.dto.IntrospectionResponse;
+
+@ExtendWith(MockitoExtension.class)
+class BatchValidationServiceTest {
+
+    @Mock
+    private IntrospectionService introspectionService;
+
+    private ExecutorService userTaskExecutor;
+    private BatchValidationService batchValidationService;
+
+    @BeforeEach
+    void setUp() {
+        userTaskExecutor = Executors.newFixedThreadPool(4);
+        batchValidationService = new BatchValidationService(introspectionService, new ObjectMapper(), userTaskExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userTaskExecutor.shutdownNow();
+    }
+
+    @Test
+    void testReadTokens_ValidArray_ShouldReturnTokensInOrder() throws Exception {
+        // Act
+        List<String> tokens = batchValidationService.readTokens(body("[\"a.b.c\",\"d.e.f\"]"));
+
+        // Assert
+        assertEquals(List.of("a.b.c", "d.e.f"), tokens);
+    }
+
+    @Test
+    void testReadTokens_NotAnArray_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+            () -> batchValidationService.readTokens(body("{\"token\":\"a.b.c\"}")));
+        assertThrows(IllegalArgumentException.class,
+            () -> batchValidationService.readTokens(body("[\"a.b.c\", 42]")));
+    }
+
+    @Test
+    void testReadTokens_TooManyTokens_ShouldThrow() {
+        // Arrange
+        String json = IntStream.range(0, 501)
+            .mapToObj(i -> "\"t" + i + "\"")
+            .collect(Collectors.joining(",", "[", "]"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> batchValidationService.readTokens(body(json)));
+    }
+
+    @Test
+    void testValidate_LargeBatch_ShouldKeepRequestOrder() {
+        // Arrange
+        List<String> tokens = IntStream.range(0, 200).mapToObj(i -> "token-" + i).toList();
+        when(introspectionService.introspect(anyString())).thenAnswer(invocation -> {
+            String token = invocation.getArgument(0);
+            int index = Integer.parseInt(token.substring(6));
+            return index % 2 == 0
+                ? new IntrospectionResponse(true, "user" + index, "id-" + index, "PATIENT", "Bearer", 100L + index)
+                : IntrospectionResponse.inactive();
+        });
+
+        // Act
+        IntrospectionResponse[] results = batchValidationService.validate(tokens);
+
+        // Assert
+        assertEquals(200, results.length);
+        for (int i = 0; i < results.length; i++) {
+            assertEquals(i % 2 == 0, results[i].isActive());
+            if (i % 2 == 0) {
+                assertEquals("id-" + i, results[i].getUserId());
+            }
+        }
+        verify(introspectionService, times(200)).introspect(anyString());
+    }
+
+    @Test
+    void testValidate_ExecutorSaturated_ShouldRunChunksOnCaller() {
+        // Arrange
+        BatchValidationService saturated = new BatchValidationService(introspectionService, new ObjectMapper(),
+            command -> { throw new RejectedExecutionException("queue full"); });
+        List<String> tokens = IntStream.range(0, 100).mapToObj(i -> "token-" + i).toList();
+        when(introspectionService.introspect(anyString())).thenReturn(IntrospectionResponse.inactive());
+
+        // Act
+        IntrospectionResponse[] results = saturated.validate(tokens);
+
+        // Assert
+        assertEquals(100, results.length);
+        for (IntrospectionResponse result : results) {
+            assertFalse(result.isActive());
+        }
+        verify(introspectionService, times(100)).introspect(anyString());
+    }
+
+    @Test
+    void testWriteResults_ShouldUseCompactPositionalFormat() throws Exception {
+        // Arrange
+        IntrospectionResponse[] results = {
+            new IntrospectionResponse(true, "a@b.com", "id-1", "DOCTOR", "Bearer", 1700000000L),
+            IntrospectionResponse.inactive()
+        };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        batchValidationService.writeResults(results, out);
+
+        // Assert
+        assertEquals("[[true,\"id-1\",\"DOCTOR\",1700000000],[false]]", out.toString(StandardCharsets.UTF_8));
+    }
+
+    private ByteArrayInputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,58 @@
+package com.hms.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class IntrospectionClientsTest {
+
+    private IntrospectionClients clients;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("auth.introspection.clients.gateway", "s3cret:with-colon")
+            .withProperty("auth.introspection.clients.disabled", "");
+        clients = new IntrospectionClients(environment);
+    }
+
+    @Test
+    void testAuthenticate_ValidBasicCredentials_ShouldReturnClientId() {
+        // Act
+        Optional<String> clientId = clients.authenticate(basic("gateway", "s3cret:with-colon"));
+
+        // Assert
+        assertEquals(Optional.of("gateway"), clientId);
+    }
+
+    @Test
+    void testAuthenticate_WrongOrMissingCredentials_ShouldReject() {
+        assertTrue(clients.authenticate(basic("gateway", "wrong")).isEmpty());
+        assertTrue(clients.authenticate(basic("unknown", "s3cret:with-colon")).isEmpty());
+        assertTrue(clients.authenticate(basic("disabled", "")).isEmpty());
+        assertTrue(clients.authenticate("Bearer some.jwt.token").isEmpty());
+        assertTrue(clients.authenticate("Basic not-base64!").isEmpty());
+        assertTrue(clients.authenticate(null).isEmpty());
+    }
+
+    @Test
+    void testNoClientsConfigured_ShouldRejectEveryCaller() {
+        // Arrange
+        IntrospectionClients none = new IntrospectionClients(new MockEnvironment());
+
+        // Act & Assert
+        assertTrue(none.isEmpty());
+        assertTrue(none.authenticate(basic("gateway", "s3cret:with-colon")).isEmpty());
+    }
+
+    private static String basic(String clientId, String secret) {
+        return "Basic " + Base64.getEncoder()
+            .encodeToString((clientId + ":" + secret).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,165 @@
+package com.hms.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.hms.auth.dto.IntrospectionResponse;
+import com.hms.auth.entity.User;
+import com.hms.auth.entity.UserRole;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+@ExtendWith(MockitoExtension.class)
+class IntrospectionServiceTest {
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private TokenVersionCache tokenVersionCache;
+
+    @InjectMocks
+    private IntrospectionService introspectionService;
+
+    private User testUser;
+    private Claims claims;
+    private final String TOKEN = "test.access.token";
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User("test@example.com", "encodedPassword", UserRole.DOCTOR);
+        testUser.setId(UUID.randomUUID());
+
+        claims = Jwts.claims()
+            .subject(testUser.getEmail())
+            .expiration(Date.from(Instant.now().plus(10, ChronoUnit.MINUTES)))
+            .add("userId", testUser.getId().toString())
+            .add("role", "DOCTOR")
+            .add("tokenVersion", 0)
+            .build();
+    }
+
+    @Test
+    void testIntrospect_ValidToken_ShouldBeActive() {
+        // Arrange
+        when(jwtService.verifyAccessToken(TOKEN)).thenReturn(Optional.of(claims));
+        when(jwtService.extractTokenVersion(claims)).thenReturn(0);
+        when(tokenVersionCache.get(testUser.getId().toString())).thenReturn(0);
+
+        // Act
+        IntrospectionResponse response = introspectionService.introspect(TOKEN);
+
+        // Assert
+        assertTrue(response.isActive());
+        assertEquals("DOCTOR", response.getRole());
+        assertEquals(testUser.getId().toString(), response.getUserId());
+        assertEquals(claims.getExpiration().getTime() / 1000, response.getExp());
+        long remaining = introspectionService.remainingLifetime(response);
+        assertTrue(remaining > 590 && remaining <= 600);
+    }
+
+    @Test
+    void testIntrospect_RepeatedToken_ShouldVerifyOnce() {
+        // Arrange
+        when(jwtService.verifyAccessToken(TOKEN)).thenReturn(Optional.of(claims));
+        when(jwtService.extractTokenVersion(claims)).thenReturn(0);
+        when(tokenVersionCache.get(anyString())).thenReturn(0);
+
+        // Act
+        introspectionService.introspect(TOKEN);
+        introspectionService.introspect(TOKEN);
+        IntrospectionResponse response = introspectionService.introspect(TOKEN);
+
+        // Assert
+        assertTrue(response.isActive());
+        verify(jwtService, times(1)).verifyAccessToken(TOKEN);
+    }
+
+    @Test
+    void testIntrospect_RevokedToken_ShouldBeInactiveEvenWhenCached() {
+        // Arrange
+        when(jwtService.verifyAccessToken(TOKEN)).thenReturn(Optional.of(claims));
+        when(jwtService.extractTokenVersion(claims)).thenReturn(0);
+        when(tokenVersionCache.get(anyString())).thenReturn(0);
+        introspectionService.introspect(TOKEN);
+        when(tokenRevocationService.isRevoked(TOKEN)).thenReturn(true);
+
+        // Act & Assert
+        assertFalse(introspectionService.introspect(TOKEN).isActive());
+    }
+
+    @Test
+    void testIntrospect_StaleTokenVersion_ShouldBeInactive() {
+        // Arrange
+        when(jwtService.verifyAccessToken(TOKEN)).thenReturn(Optional.of(claims));
+        when(jwtService.extractTokenVersion(claims)).thenReturn(0);
+        when(tokenVersionCache.get(anyString())).thenReturn(1);
+
+        // Act & Assert
+        assertFalse(introspectionService.introspect(TOKEN).isActive());
+    }
+
+    @Test
+    void testIntrospect_TokenNewerThanCachedVersion_ShouldCheckDatabase() {
+        // Arrange - revoked on another instance, then a new login: this node still caches 0
+        testUser.setTokenVersion(1);
+        when(jwtService.verifyAccessToken(TOKEN)).thenReturn(Optional.of(claims));
+        when(jwtService.extractTokenVersion(claims)).thenReturn(1);
+        when(tokenVersionCache.get(anyString())).thenReturn(0);
+        when(userService.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
+        when(userService.isTokenVersionCurrent(testUser, 1)).thenReturn(true);
+
+        // Act & Assert
+        assertTrue(introspectionService.introspect(TOKEN).isActive());
+        verify(userService).isTokenVersionCurrent(testUser, 1);
+    }
+
+    @Test
+    void testIntrospect_DisabledUser_ShouldBeInactive() {
+        // Arrange
+        testUser.setEnabled(false);
+        when(jwtService.verifyAccessToken(TOKEN)).thenReturn(Optional.of(claims));
+        when(jwtService.extractTokenVersion(claims)).thenReturn(0);
+        when(tokenVersionCache.get(anyString())).thenReturn(null);
+        when(userService.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
+
+        // Act
+        IntrospectionResponse response = introspectionService.introspect(TOKEN);
+
+        // Assert
+        assertFalse(response.isActive());
+        assertNull(response.getRole());
+        assertEquals(0, introspectionService.remainingLifetime(response));
+    }
+
+    @Test
+    void testIntrospect_InvalidToken_ShouldBeInactive() {
+        // Arrange
+        when(jwtService.verifyAccessToken(TOKEN)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertFalse(introspectionService.introspect(TOKEN).isActive());
+        assertFalse(introspectionService.introspect("").isActive());
+    }
+}
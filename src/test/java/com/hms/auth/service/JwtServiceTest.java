@@ -4,6 +4,10 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -15,11 +19,15 @@ import org.springframework.test.context.TestPropertySource;
 import com.hms.auth.entity.User;
 import com.hms.auth.entity.UserRole;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
 @SpringBootTest
 @TestPropertySource(properties = {
     "jwt.secret=myVerySecretKeyForTestingPurposesOnly123456789",
     "jwt.access-token-expiration=3600",
-    "jwt.refresh-token-expiration=604800"
+    "jwt.refresh-token-expiration=604800",
+    "jwt.access-token-jitter=600"
 })
 class JwtServiceTest {
 
@@ -232,6 +240,42 @@ class JwtServiceTest {
         assertThat(isValid).isFalse();
     }
 
+    @Test
+    void testVerifyAccessToken_ValidToken_ShouldReturnClaimsInOnePass() {
+        // Arrange
+        testUser.setTokenVersion(4);
+        String token = jwtService.generateAccessToken(testUser);
+
+        // Act
+        Optional<Claims> claims = jwtService.verifyAccessToken(token);
+
+        // Assert
+        assertThat(claims).isPresent();
+        assertThat(claims.get().getSubject()).isEqualTo(testUser.getEmail());
+        assertThat(claims.get().get("role", String.class)).isEqualTo("PATIENT");
+        assertThat(jwtService.extractTokenVersion(claims.get())).isEqualTo(4);
+    }
+
+    @Test
+    void testVerifyAccessToken_RefreshToken_ShouldReturnEmpty() {
+        // Arrange
+        String token = jwtService.generateRefreshToken(testUser);
+
+        // Act & Assert
+        assertThat(jwtService.verifyAccessToken(token)).isEmpty();
+        assertThat(jwtService.verifyRefreshToken(token)).isPresent();
+    }
+
+    @Test
+    void testVerifyAccessToken_TamperedToken_ShouldReturnEmpty() {
+        // Arrange
+        String token = jwtService.generateAccessToken(testUser);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        // Act & Assert
+        assertThat(jwtService.verifyAccessToken(tampered)).isEmpty();
+    }
+
     @Test
     void testValidateRefreshToken_ValidToken_ShouldReturnTrue() {
         // Arrange
@@ -387,6 +431,46 @@ class JwtServiceTest {
         assertThat(isAboutToExpire).isTrue();
     }
 
+    @Test
+    void testGenerateAccessToken_ShouldJitterLifetimeWithinConfiguredBound() {
+        // Act
+        Set<Long> lifetimes = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            lifetimes.add(jwtService.getTokenExpiryTime(jwtService.generateAccessToken(testUser)));
+        }
+
+        // Assert - never longer than configured, never more than the jitter shorter
+        assertThat(lifetimes).allSatisfy(lifetime -> assertThat(lifetime).isBetween(2999L, 3600L));
+        assertThat(lifetimes).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    void testRefreshHintSeconds_TokenAboutToExpire_ShouldFallInFirstHalfOfRemainingLifetime() {
+        // Arrange
+        Claims claims = Jwts.claims().expiration(new Date(System.currentTimeMillis() + 200_000)).build();
+
+        // Act
+        OptionalLong hint = jwtService.refreshHintSeconds(claims);
+
+        // Assert
+        assertThat(jwtService.isTokenAboutToExpire(claims)).isTrue();
+        assertThat(hint).isPresent();
+        assertThat(hint.getAsLong()).isBetween(0L, 100L);
+    }
+
+    @Test
+    void testRefreshHintSeconds_FreshToken_ShouldBeEmpty() {
+        // Arrange
+        Claims claims = jwtService.verifyAccessToken(jwtService.generateAccessToken(testUser)).orElseThrow();
+
+        // Act
+        OptionalLong hint = jwtService.refreshHintSeconds(claims);
+
+        // Assert
+        assertThat(jwtService.isTokenAboutToExpire(claims)).isFalse();
+        assertThat(hint).isEmpty();
+    }
+
     @Test
     void testGenerateTokensForDifferentRoles_ShouldWork() {
         // Arrange
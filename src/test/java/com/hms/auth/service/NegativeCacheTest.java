@@ -0,0 +1,110 @@
+package com.hms.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NegativeCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private NegativeCache negativeCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        negativeCache = new NegativeCache(meterRegistry);
+    }
+
+    @Test
+    void testRejectedToken_ShouldHitAndCount() {
+        // Arrange
+        negativeCache.rejectToken("forged.token.value");
+
+        // Act & Assert
+        assertTrue(negativeCache.isRejectedToken("forged.token.value"));
+        assertTrue(negativeCache.isRejectedToken("forged.token.value"));
+        assertFalse(negativeCache.isRejectedToken("other.token.value"));
+        assertEquals(2.0, meterRegistry.get("auth.negative_cache.hits").tag("kind", "token").counter().count());
+    }
+
+    @Test
+    void testRejectedToken_SameSignatureDifferentPayload_ShouldNotHit() {
+        negativeCache.rejectToken("header.forged-payload.signature");
+
+        assertFalse(negativeCache.isRejectedToken("header.genuine-payload.signature"));
+    }
+
+    @Test
+    void testUnknownEmail_ShouldBeCaseInsensitiveAndForgottenOnRegistration() {
+        // Arrange
+        negativeCache.unknownEmail("Ghost@Example.com");
+
+        // Act & Assert
+        assertTrue(negativeCache.isUnknownEmail("ghost@example.com"));
+        negativeCache.forgetEmail("ghost@example.com");
+        assertFalse(negativeCache.isUnknownEmail("ghost@example.com"));
+        assertEquals(1.0, meterRegistry.get("auth.negative_cache.hits").tag("kind", "email").counter().count());
+    }
+
+    @Test
+    void testExpiredEntry_ShouldMiss() {
+        // Arrange
+        ReflectionTestUtils.setField(negativeCache, "emailTtlSeconds", 0L);
+        negativeCache.unknownEmail("ghost@example.com");
+
+        // Act & Assert
+        assertFalse(negativeCache.isUnknownEmail("ghost@example.com"));
+    }
+
+    @Test
+    void testMaxEntries_ShouldBoundSize() {
+        // Arrange
+        ReflectionTestUtils.setField(negativeCache, "maxEntries", 10);
+
+        // Act
+        for (int i = 0; i < 25; i++) {
+            negativeCache.rejectToken("token-" + i);
+        }
+
+        // Assert
+        assertTrue(meterRegistry.get("auth.negative_cache.size").tag("kind", "token").gauge().value() <= 10);
+    }
+
+    @Test
+    void testMaxEntries_ShouldEvictOnlyTheOldestEntry() {
+        // Arrange
+        ReflectionTestUtils.setField(negativeCache, "maxEntries", 3);
+        negativeCache.rejectToken("token-1");
+        negativeCache.rejectToken("token-2");
+        negativeCache.rejectToken("token-3");
+
+        // Act
+        negativeCache.rejectToken("token-4");
+
+        // Assert
+        assertFalse(negativeCache.isRejectedToken("token-1"));
+        assertTrue(negativeCache.isRejectedToken("token-2"));
+        assertTrue(negativeCache.isRejectedToken("token-3"));
+        assertTrue(negativeCache.isRejectedToken("token-4"));
+    }
+
+    @Test
+    void testMaxEntries_ForgottenEntry_ShouldNotCostALiveOne() {
+        // Arrange
+        ReflectionTestUtils.setField(negativeCache, "maxEntries", 2);
+        negativeCache.unknownEmail("first@example.com");
+        negativeCache.unknownEmail("second@example.com");
+        negativeCache.forgetEmail("first@example.com");
+
+        // Act
+        negativeCache.unknownEmail("third@example.com");
+
+        // Assert
+        assertTrue(negativeCache.isUnknownEmail("second@example.com"));
+        assertTrue(negativeCache.isUnknownEmail("third@example.com"));
+    }
+}
@@ -0,0 +1,200 @@
+package com.hms.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.hms.auth.entity.RefreshToken;
+import com.hms.auth.entity.User;
+import com.hms.auth.entity.UserRole;
+import com.hms.auth.repository.RefreshTokenRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private JwtService jwtService;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    private User testUser;
+    private final String TOKEN = "test.refresh.token";
+    private final String JTI = "jti-123";
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User("test@example.com", "encodedPassword", UserRole.PATIENT);
+        testUser.setId(UUID.randomUUID());
+    }
+
+    @Test
+    void testRegister_ShouldPersistHashedJtiOnly() {
+        // Arrange
+        when(jwtService.extractTokenId(TOKEN)).thenReturn(JTI);
+        when(jwtService.extractExpiration(TOKEN)).thenReturn(Date.from(Instant.now().plus(1, ChronoUnit.DAYS)));
+
+        // Act
+        UUID familyId = refreshTokenService.register(TOKEN, testUser);
+
+        // Assert
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        RefreshToken saved = captor.getValue();
+        assertEquals(TokenDigest.sha256Hex(JTI), saved.getJtiHash());
+        assertNotEquals(JTI, saved.getJtiHash());
+        assertEquals(familyId, saved.getFamilyId());
+        assertEquals(testUser.getId(), saved.getUserId());
+        assertFalse(saved.getRevoked());
+    }
+
+    @Test
+    void testRotate_FirstUse_ShouldReturnFamily() {
+        // Arrange
+        when(jwtService.extractTokenId(TOKEN)).thenReturn(JTI);
+        when(jwtService.extractExpiration(TOKEN)).thenReturn(Date.from(Instant.now().plus(1, ChronoUnit.DAYS)));
+        UUID familyId = refreshTokenService.register(TOKEN, testUser);
+        when(refreshTokenRepository.consume(eq(TokenDigest.sha256Hex(JTI)), any(LocalDateTime.class))).thenReturn(1);
+
+        // Act
+        Optional<UUID> result = refreshTokenService.rotate(TOKEN);
+
+        // Assert
+        assertEquals(Optional.of(familyId), result);
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+        verify(refreshTokenRepository, never()).findByJtiHash(anyString());
+    }
+
+    @Test
+    void testRotate_ReusedToken_ShouldRevokeFamily() {
+        // Arrange
+        UUID familyId = UUID.randomUUID();
+        String jtiHash = TokenDigest.sha256Hex(JTI);
+        when(jwtService.extractTokenId(TOKEN)).thenReturn(JTI);
+        when(refreshTokenRepository.consume(eq(jtiHash), any(LocalDateTime.class))).thenReturn(0);
+        when(refreshTokenRepository.findByJtiHash(jtiHash)).thenReturn(Optional.of(
+            new RefreshToken(jtiHash, familyId, testUser.getId(), LocalDateTime.now().plusDays(1))));
+
+        // Act
+        Optional<UUID> result = refreshTokenService.rotate(TOKEN);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(refreshTokenRepository).revokeFamily(familyId);
+    }
+
+    @Test
+    void testRotate_SecondUseAfterRotation_ShouldRevokeWithoutDatabaseRoundTrip() {
+        // Arrange
+        when(jwtService.extractTokenId(TOKEN)).thenReturn(JTI);
+        when(jwtService.extractExpiration(TOKEN)).thenReturn(Date.from(Instant.now().plus(1, ChronoUnit.DAYS)));
+        UUID familyId = refreshTokenService.register(TOKEN, testUser);
+        when(refreshTokenRepository.consume(anyString(), any(LocalDateTime.class))).thenReturn(1);
+        refreshTokenService.rotate(TOKEN);
+
+        // Act
+        Optional<UUID> result = refreshTokenService.rotate(TOKEN);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(refreshTokenRepository, times(1)).consume(anyString(), any(LocalDateTime.class));
+        verify(refreshTokenRepository).revokeFamily(familyId);
+    }
+
+    @Test
+    void testRotate_UnknownToken_ShouldReturnEmpty() {
+        // Arrange
+        when(jwtService.extractTokenId(TOKEN)).thenReturn(JTI);
+        when(refreshTokenRepository.consume(anyString(), any(LocalDateTime.class))).thenReturn(0);
+        when(refreshTokenRepository.findByJtiHash(anyString())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertTrue(refreshTokenService.rotate(TOKEN).isEmpty());
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+    }
+
+    @Test
+    void testRotate_LegacyTokenWithoutRow_ShouldBeAdoptedAsConsumed() {
+        // Arrange - issued before this service started recording refresh tokens
+        when(jwtService.extractTokenId(TOKEN)).thenReturn(JTI);
+        when(jwtService.extractIssuedAt(TOKEN)).thenReturn(Date.from(Instant.now().minus(1, ChronoUnit.DAYS)));
+        when(jwtService.extractExpiration(TOKEN)).thenReturn(Date.from(Instant.now().plus(6, ChronoUnit.DAYS)));
+        when(jwtService.extractUserId(TOKEN)).thenReturn(testUser.getId().toString());
+        when(refreshTokenRepository.consume(anyString(), any(LocalDateTime.class))).thenReturn(0);
+        when(refreshTokenRepository.findByJtiHash(anyString())).thenReturn(Optional.empty());
+
+        // Act
+        Optional<UUID> result = refreshTokenService.rotate(TOKEN);
+
+        // Assert
+        assertTrue(result.isPresent());
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).saveAndFlush(captor.capture());
+        assertEquals(TokenDigest.sha256Hex(JTI), captor.getValue().getJtiHash());
+        assertEquals(result.get(), captor.getValue().getFamilyId());
+        assertTrue(captor.getValue().getRevoked());
+    }
+
+    @Test
+    void testRotate_LegacyTokenReplayedAfterAdoption_ShouldRevokeFamily() {
+        // Arrange
+        when(jwtService.extractTokenId(TOKEN)).thenReturn(JTI);
+        when(jwtService.extractIssuedAt(TOKEN)).thenReturn(Date.from(Instant.now().minus(1, ChronoUnit.DAYS)));
+        when(jwtService.extractExpiration(TOKEN)).thenReturn(Date.from(Instant.now().plus(6, ChronoUnit.DAYS)));
+        when(jwtService.extractUserId(TOKEN)).thenReturn(testUser.getId().toString());
+        when(refreshTokenRepository.consume(anyString(), any(LocalDateTime.class))).thenReturn(0);
+        when(refreshTokenRepository.findByJtiHash(anyString())).thenReturn(Optional.empty());
+        UUID familyId = refreshTokenService.rotate(TOKEN).orElseThrow();
+
+        // Act
+        Optional<UUID> replay = refreshTokenService.rotate(TOKEN);
+
+        // Assert
+        assertTrue(replay.isEmpty());
+        verify(refreshTokenRepository).revokeFamily(familyId);
+    }
+
+    @Test
+    void testPurgeExpired_ShouldStopAtFirstPartialBatch() {
+        // Arrange
+        when(refreshTokenRepository.deleteExpiredBatch(any(LocalDateTime.class), eq(500)))
+            .thenReturn(500, 500, 120);
+
+        // Act
+        int purged = refreshTokenService.purgeExpired();
+
+        // Assert
+        assertEquals(1120, purged);
+        verify(refreshTokenRepository, times(3)).deleteExpiredBatch(any(LocalDateTime.class), eq(500));
+    }
+
+    @Test
+    void testPurgeExpired_ShouldBeBoundedPerRun() {
+        // Arrange
+        when(refreshTokenRepository.deleteExpiredBatch(any(LocalDateTime.class), anyInt())).thenReturn(500);
+
+        // Act
+        refreshTokenService.purgeExpired();
+
+        // Assert
+        verify(refreshTokenRepository, times(20)).deleteExpiredBatch(any(LocalDateTime.class), anyInt());
+    }
+}
@@ -0,0 +1,94 @@
+package com.hms.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    @Test
+    void testExecute_ConcurrentSameKey_ShouldRunOnceAndShareResult() throws Exception {
+        // Arrange
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+
+        try {
+            // Act
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> flights.execute("token", () -> {
+                    runs.incrementAndGet();
+                    await(release);
+                    return "result-" + runs.get();
+                })));
+            }
+            while (flights.sharedCount() < 7) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            // Assert
+            for (Future<String> result : results) {
+                assertEquals("result-1", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, runs.get());
+            assertEquals(7, flights.sharedCount());
+            assertEquals(0, flights.size());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void testExecute_AfterCompletion_ShouldRunAgain() {
+        // Arrange
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        AtomicInteger runs = new AtomicInteger();
+
+        // Act
+        int first = flights.execute("token", runs::incrementAndGet);
+        int second = flights.execute("token", runs::incrementAndGet);
+        int otherKey = flights.execute("other", runs::incrementAndGet);
+
+        // Assert
+        assertEquals(1, first);
+        assertEquals(2, second);
+        assertEquals(3, otherKey);
+        assertEquals(0, flights.sharedCount());
+        assertEquals(0, flights.size());
+    }
+
+    @Test
+    void testExecute_Failure_ShouldNotBeCached() {
+        // Arrange
+        SingleFlight<String, String> flights = new SingleFlight<>();
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> flights.execute("token", () -> {
+            throw new IllegalStateException("database down");
+        }));
+        String retried = flights.execute("token", () -> "ok");
+
+        // Assert
+        assertEquals("ok", retried);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
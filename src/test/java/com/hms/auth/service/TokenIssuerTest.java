@@ -0,0 +1,87 @@
+package com.hms.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hms.auth.dto.TokenResponse;
+import com.hms.auth.entity.User;
+import com.hms.auth.entity.UserRole;
+
+@ExtendWith(MockitoExtension.class)
+class TokenIssuerTest {
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    private JwtService jwtService;
+    private TokenIssuer tokenIssuer;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "jwtSecret", "testSecretKeyForTestingOnlyMustBe256BitsLong1234567890");
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", 900L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", 604800L);
+        tokenIssuer = new TokenIssuer(jwtService, refreshTokenService);
+
+        testUser = new User("test@example.com", "encodedPassword", UserRole.PATIENT);
+        testUser.setId(UUID.randomUUID());
+    }
+
+    @Test
+    void testIssue_ShouldReturnReadyResponse() {
+        // Act
+        TokenIssuer.IssuedTokens issued = tokenIssuer.issue(testUser);
+
+        // Assert
+        TokenResponse response = issued.response();
+        assertEquals("Bearer", response.getTokenType());
+        assertEquals(900L, response.getExpiresIn());
+        assertEquals(testUser.getId().toString(), response.getUser().getId());
+        assertEquals("PATIENT", response.getUser().getRole());
+        assertTrue(jwtService.validateAccessToken(response.getAccessToken()));
+        assertTrue(jwtService.validateRefreshToken(issued.refreshToken()));
+    }
+
+    @Test
+    void testIssue_ShouldMintBothTokensFromOneTimestamp() {
+        // Act
+        TokenIssuer.IssuedTokens issued = tokenIssuer.issue(testUser);
+
+        // Assert
+        Instant accessExpiry = jwtService.extractExpiration(issued.response().getAccessToken()).toInstant();
+        Instant refreshExpiry = jwtService.extractExpiration(issued.refreshToken()).toInstant();
+        assertEquals(604800L - 900L, refreshExpiry.getEpochSecond() - accessExpiry.getEpochSecond());
+    }
+
+    @Test
+    void testIssue_ShouldRegisterRefreshTokenWithoutReparsing() {
+        // Arrange
+        UUID familyId = UUID.randomUUID();
+
+        // Act
+        TokenIssuer.IssuedTokens issued = tokenIssuer.issue(testUser, familyId);
+
+        // Assert
+        ArgumentCaptor<String> tokenId = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Instant> expiry = ArgumentCaptor.forClass(Instant.class);
+        verify(refreshTokenService).register(tokenId.capture(), expiry.capture(), eq(testUser), eq(familyId));
+        verify(refreshTokenService, never()).register(anyString(), any(User.class), any(UUID.class));
+        assertEquals(jwtService.extractTokenId(issued.refreshToken()), tokenId.getValue());
+        assertEquals(jwtService.extractExpiration(issued.refreshToken()).toInstant().getEpochSecond(),
+                     expiry.getValue().getEpochSecond());
+    }
+}
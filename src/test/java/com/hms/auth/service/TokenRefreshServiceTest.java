@@ -0,0 +1,145 @@
+package com.hms.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.hms.auth.dto.TokenResponse;
+import com.hms.auth.entity.User;
+import com.hms.auth.entity.UserRole;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRefreshServiceTest {
+
+    private static final String REFRESH_TOKEN = "old.refresh.token";
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private TokenIssuer tokenIssuer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private User testUser;
+    private UUID familyId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        testUser = new User("test@example.com", "encodedPassword", UserRole.PATIENT);
+        testUser.setId(UUID.randomUUID());
+        familyId = UUID.randomUUID();
+    }
+
+    @Test
+    void testRefresh_ConcurrentSameToken_ShouldRotateOnceAndShareTokens() throws Exception {
+        // Arrange
+        stubValidRefresh();
+        CountDownLatch release = new CountDownLatch(1);
+        when(tokenIssuer.issue(testUser, familyId)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return issued("new.refresh.token");
+        });
+        TokenRefreshService service = service();
+        ExecutorService tabs = Executors.newFixedThreadPool(5);
+
+        try {
+            // Act
+            List<Future<TokenRefreshService.RefreshResult>> results = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                results.add(tabs.submit(() -> service.refresh(REFRESH_TOKEN)));
+            }
+            while (meterRegistry.get("auth.refresh.coalesced").functionCounter().count() < 4) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            // Assert
+            TokenRefreshService.RefreshResult first = results.get(0).get(5, TimeUnit.SECONDS);
+            assertTrue(first.isIssued());
+            for (Future<TokenRefreshService.RefreshResult> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+            verify(refreshTokenService, times(1)).rotate(REFRESH_TOKEN);
+            verify(userService, times(1)).getUserByEmail("test@example.com");
+            verify(tokenIssuer, times(1)).issue(testUser, familyId);
+        } finally {
+            tabs.shutdownNow();
+        }
+    }
+
+    @Test
+    void testRefresh_ReplayAfterRotation_ShouldHitReuseDetection() {
+        // Arrange
+        stubValidRefresh();
+        when(refreshTokenService.rotate(REFRESH_TOKEN)).thenReturn(Optional.of(familyId)).thenReturn(Optional.empty());
+        when(tokenIssuer.issue(testUser, familyId)).thenReturn(issued("new.refresh.token"));
+        TokenRefreshService service = service();
+
+        // Act
+        TokenRefreshService.RefreshResult first = service.refresh(REFRESH_TOKEN);
+        TokenRefreshService.RefreshResult replay = service.refresh(REFRESH_TOKEN);
+
+        // Assert
+        assertTrue(first.isIssued());
+        assertFalse(replay.isIssued());
+        assertEquals("Refresh token has been revoked", replay.error());
+    }
+
+    @Test
+    void testRefresh_InvalidToken_ShouldBeRejected() {
+        // Arrange
+        when(jwtService.validateRefreshToken("bad.token")).thenReturn(false);
+
+        // Act
+        TokenRefreshService.RefreshResult result = service().refresh("bad.token");
+
+        // Assert
+        assertFalse(result.isIssued());
+        assertEquals("Invalid or expired refresh token", result.error());
+        verifyNoInteractions(refreshTokenService, tokenIssuer);
+    }
+
+    private void stubValidRefresh() {
+        when(jwtService.validateRefreshToken(REFRESH_TOKEN)).thenReturn(true);
+        lenient().when(refreshTokenService.rotate(REFRESH_TOKEN)).thenReturn(Optional.of(familyId));
+        when(jwtService.extractEmail(REFRESH_TOKEN)).thenReturn("test@example.com");
+        when(jwtService.extractTokenVersion(REFRESH_TOKEN)).thenReturn(0);
+        when(userService.getUserByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userService.isTokenVersionCurrent(eq(testUser), anyInt())).thenReturn(true);
+    }
+
+    private TokenRefreshService service() {
+        return new TokenRefreshService(jwtService, refreshTokenService, userService, tokenIssuer,
+                                       meterRegistry);
+    }
+
+    private static TokenIssuer.IssuedTokens issued(String refreshToken) {
+        TokenResponse.UserInfo userInfo = new TokenResponse.UserInfo("id", "test@example.com", "PATIENT", true);
+        return new TokenIssuer.IssuedTokens(new TokenResponse("access", "Bearer", 900L, userInfo), refreshToken);
+    }
+}
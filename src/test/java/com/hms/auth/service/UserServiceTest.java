@@ -5,9 +5,13 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +20,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.hms.auth.entity.User;
 import com.hms.auth.entity.UserRole;
@@ -30,6 +35,12 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private TokenVersionCache tokenVersionCache;
+
+    @Mock
+    private NegativeCache negativeCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -45,6 +56,10 @@ class UserServiceTest {
         testUser.setEnabled(true);
         testUser.setCreatedAt(LocalDateTime.now());
         testUser.setUpdatedAt(LocalDateTime.now());
+
+        // Run the async stages inline
+        ReflectionTestUtils.setField(userService, "userTaskExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(userService, "passwordHashingExecutor", (Executor) Runnable::run);
     }
 
     @Test
@@ -155,6 +170,66 @@ class UserServiceTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void testAuthenticateUserAsync_ShouldCompleteWithSameResult() throws Exception {
+        // Arrange
+        String email = "test@example.com";
+        String password = "password123";
+
+        when(userRepository.findByEmailAndEnabled(email.toLowerCase())).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches(password, testUser.getPassword())).thenReturn(true);
+
+        // Act
+        Optional<User> result = userService.authenticateUserAsync(email, password).get();
+
+        // Assert
+        assertEquals(Optional.of(testUser), result);
+    }
+
+    @Test
+    void testAuthenticateUserAsync_EmptyPassword_ShouldFailWithoutLookup() {
+        // Act
+        CompletableFuture<Optional<User>> result = userService.authenticateUserAsync("test@example.com", "");
+
+        // Assert
+        ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        verify(userRepository, never()).findByEmailAndEnabled(anyString());
+    }
+
+    @Test
+    void testRegisterUserAsync_ValidInput_ShouldHashAndSave() throws Exception {
+        // Arrange
+        String email = "Test@Example.com";
+        String password = "StrongPass123";
+
+        when(userRepository.existsByEmail("test@example.com")).thenReturn(false);
+        when(passwordEncoder.encode(password)).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+
+        // Act
+        User result = userService.registerUserAsync(email, password, UserRole.PATIENT).get();
+
+        // Assert
+        assertEquals(testUser, result);
+        verify(userRepository).save(argThat(user ->
+            user.getEmail().equals("test@example.com") && user.getPassword().equals("encodedPassword")));
+    }
+
+    @Test
+    void testRegisterUserAsync_ExistingEmail_ShouldNotHash() {
+        // Arrange
+        when(userRepository.existsByEmail("test@example.com")).thenReturn(true);
+
+        // Act
+        CompletableFuture<User> result = userService.registerUserAsync("test@example.com", "StrongPass123", UserRole.PATIENT);
+
+        // Assert
+        ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        verify(passwordEncoder, never()).encode(anyString());
+    }
+
     @Test
     void testDisableUser_ValidUser_ShouldSucceed() {
         // Arrange
@@ -168,6 +243,7 @@ class UserServiceTest {
         // Assert
         assertFalse(testUser.getEnabled());
         verify(userRepository).save(testUser);
+        assertEquals(1, testUser.getTokenVersion());
     }
 
     @Test
@@ -186,6 +262,43 @@ class UserServiceTest {
         // Assert
         verify(passwordEncoder).encode(newPassword);
         verify(userRepository).save(testUser);
+        assertEquals(1, testUser.getTokenVersion());
+        verify(tokenVersionCache).put(testUser.getId().toString(), 1);
+    }
+
+    @Test
+    void testRevokeAllSessions_ShouldIncrementTokenVersionAndEvictCache() {
+        // Arrange
+        String email = "test@example.com";
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(testUser));
+
+        // Act
+        userService.revokeAllSessions(email);
+
+        // Assert - the version the UPDATE wrote is not known here, so nothing is cached
+        verify(userRepository).incrementTokenVersion(testUser.getId());
+        verify(tokenVersionCache).invalidate(testUser.getId().toString());
+        verify(tokenVersionCache, never()).put(anyString(), anyInt());
+    }
+
+    @Test
+    void testRevokeAllSessions_UserNotFound_ShouldThrow() {
+        // Arrange
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> userService.revokeAllSessions("missing@example.com"));
+        verify(userRepository, never()).incrementTokenVersion(any());
+    }
+
+    @Test
+    void testIsTokenVersionCurrent_ShouldCompareWithStoredVersion() {
+        // Arrange
+        testUser.setTokenVersion(3);
+
+        // Act & Assert
+        assertTrue(userService.isTokenVersionCurrent(testUser, 3));
+        assertFalse(userService.isTokenVersionCurrent(testUser, 2));
     }
 
     @Test
@@ -200,4 +313,43 @@ class UserServiceTest {
         assertEquals(5L, count);
         verify(userRepository).count();
     }
+
+    @Test
+    void testCountUsers_ShouldFoldGroupedRowsIntoCounts() {
+        // Arrange
+        when(userRepository.countGroupedByRole()).thenReturn(List.of(
+            roleCount(UserRole.PATIENT, 7, 6),
+            roleCount(UserRole.DOCTOR, 2, 1)));
+
+        // Act
+        UserService.UserCounts counts = userService.countUsers();
+
+        // Assert
+        assertEquals(9L, counts.total());
+        assertEquals(7L, counts.of(UserRole.PATIENT));
+        assertEquals(2L, counts.of(UserRole.DOCTOR));
+        assertEquals(0L, counts.of(UserRole.ADMIN));
+        assertEquals(7L, counts.active());
+        verify(userRepository).countGroupedByRole();
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    private static UserRepository.RoleCount roleCount(UserRole role, long total, long enabled) {
+        return new UserRepository.RoleCount() {
+            @Override
+            public UserRole getRole() {
+                return role;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+
+            @Override
+            public long getEnabled() {
+                return enabled;
+            }
+        };
+    }
 }